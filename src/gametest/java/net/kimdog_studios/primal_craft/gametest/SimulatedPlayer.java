@@ -0,0 +1,92 @@
+package net.kimdog_studios.primal_craft.gametest;
+
+import com.mojang.authlib.GameProfile;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import net.minecraft.network.ClientConnection;
+import net.minecraft.network.NetworkSide;
+import net.minecraft.network.packet.c2s.common.SyncedClientOptions;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ConnectedClientData;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.GameMode;
+
+import java.util.UUID;
+
+/**
+ * Primal Craft - Simulated Player
+ *
+ * Survival-mode server player without a client, joined through the normal
+ * PlayerManager path so it shows up in the player list and fires JOIN events
+ * like a real player. Outbound packets go to an embedded channel and are
+ * dropped every tick.
+ *
+ * Each player walks a circle around the test area, sprinting on every other lap,
+ * and carries a small mixed inventory so weight and item heat scans have work.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+final class SimulatedPlayer {
+    private static final double WALK_RADIUS = 3.0;
+    private static final double WALK_SPEED = 0.05; // Radians per tick
+
+    private final ServerPlayerEntity player;
+    private final EmbeddedChannel channel;
+    private final double phase;
+
+    private SimulatedPlayer(ServerPlayerEntity player, EmbeddedChannel channel, double phase) {
+        this.player = player;
+        this.channel = channel;
+        this.phase = phase;
+    }
+
+    static SimulatedPlayer join(MinecraftServer server, ServerWorld world, int index, Vec3d center) {
+        GameProfile profile = new GameProfile(UUID.randomUUID(), "sim-" + index);
+        ServerPlayerEntity player = new ServerPlayerEntity(server, world, profile, SyncedClientOptions.createDefault());
+        ClientConnection connection = new ClientConnection(NetworkSide.SERVERBOUND);
+        EmbeddedChannel channel = new EmbeddedChannel(connection);
+
+        server.getPlayerManager().onPlayerConnect(connection, player, ConnectedClientData.createDefault(profile, false));
+        player.changeGameMode(GameMode.SURVIVAL);
+        player.setPosition(center.x, center.y, center.z);
+
+        var inventory = player.getInventory();
+        inventory.setStack(0, new ItemStack(Items.IRON_PICKAXE));
+        inventory.setStack(1, new ItemStack(Items.COBBLESTONE, 64));
+        inventory.setStack(2, new ItemStack(Items.WATER_BUCKET));
+        inventory.setStack(3, new ItemStack(Items.BREAD, 16));
+        inventory.setStack(4 + index % 20, new ItemStack(Items.IRON_INGOT, 1 + index % 64));
+
+        // Spread players around the circle
+        return new SimulatedPlayer(player, channel, index * 0.61803398875 * Math.PI * 2.0);
+    }
+
+    /**
+     * Moves the player one step along its circle and drops queued outbound packets.
+     */
+    void step(int tick, Vec3d center) {
+        double angle = phase + tick * WALK_SPEED;
+        double x = center.x + Math.cos(angle) * WALK_RADIUS;
+        double z = center.z + Math.sin(angle) * WALK_RADIUS;
+        double dx = x - player.getX();
+        double dz = z - player.getZ();
+
+        player.setPosition(x, center.y, z);
+        player.setVelocity(dx, 0.0, dz);
+        player.setSprinting(((int) (angle / (Math.PI * 2.0))) % 2 == 0);
+
+        // Keep the simulation alive: survival systems may damage the player
+        player.setHealth(player.getMaxHealth());
+        channel.releaseOutbound();
+    }
+
+    void leave(MinecraftServer server) {
+        server.getPlayerManager().remove(player);
+        channel.close();
+    }
+}
@@ -0,0 +1,316 @@
+package net.kimdog_studios.primal_craft.gametest;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.gametest.v1.GameTest;
+import net.fabricmc.loader.api.FabricLoader;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.minecraft.block.Blocks;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.test.TestContext;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Vec3d;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Primal Craft - Survival Scale GameTest
+ *
+ * Headless scaling harness: joins simulated survival players in steps (10, 50, 100, 200
+ * by default) and records how much server tick time the mod's handlers take at each step.
+ *
+ * Per step:
+ * - Join players up to the step's count (players from earlier steps stay)
+ * - Warm up for {@value #WARMUP_TICKS} ticks, then reset the {@link TickProfiler}
+ * - Measure for {@value #MEASURE_TICKS} ticks, sampling mod time once per tick
+ *
+ * Mod time per tick is the sum of all top-level profiled handlers (server tick listeners
+ * and the pipeline/scheduler drivers). Nested "pipeline:" and "scheduler:" entries are
+ * reported per handler but not added twice.
+ *
+ * All survival toggles are switched on for the run and restored afterwards. The JSON
+ * report goes to {@code -Dprimalcraft.msptReport} (default: game dir/mspt-report.json);
+ * player counts can be overridden with {@code -Dprimalcraft.msptPlayers=10,50}.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public class SurvivalScaleGameTest {
+    private static final int[] DEFAULT_PLAYER_COUNTS = {10, 50, 100, 200};
+    private static final int WARMUP_TICKS = 100;
+    private static final int MEASURE_TICKS = 400;
+    private static final String[] NESTED_PREFIXES = {"pipeline:", "scheduler:"};
+
+    private static Run activeRun = null;
+    private static boolean listenerRegistered = false;
+
+    @GameTest(maxTicks = 12000)
+    public void survivalSystemsScale(TestContext context) {
+        ServerWorld world = context.getWorld();
+        buildTerrain(context);
+
+        BlockPos center = context.getAbsolutePos(new BlockPos(4, 1, 4));
+        activeRun = new Run(context, world, Vec3d.ofBottomCenter(center), parsePlayerCounts());
+
+        if (!listenerRegistered) {
+            listenerRegistered = true;
+            ServerTickEvents.END_SERVER_TICK.register(server -> {
+                if (activeRun != null) {
+                    activeRun.tick(server);
+                }
+            });
+        }
+
+        PrimalCraft.LOGGER.info("🧪 [MSPT_HARNESS] Starting scaling run for {} players",
+            Arrays.toString(activeRun.playerCounts));
+    }
+
+    /**
+     * Synthetic terrain: grass floor with a campfire, water, ice, magma and a small plank
+     * wall so the temperature scans find heat sources, humidity and shelter.
+     */
+    private static void buildTerrain(TestContext context) {
+        for (int x = 0; x < 8; x++) {
+            for (int z = 0; z < 8; z++) {
+                context.setBlockState(new BlockPos(x, 0, z), Blocks.GRASS_BLOCK.getDefaultState());
+            }
+        }
+        context.setBlockState(new BlockPos(1, 1, 1), Blocks.CAMPFIRE.getDefaultState());
+        context.setBlockState(new BlockPos(6, 0, 6), Blocks.WATER.getDefaultState());
+        context.setBlockState(new BlockPos(6, 0, 5), Blocks.WATER.getDefaultState());
+        context.setBlockState(new BlockPos(1, 0, 6), Blocks.PACKED_ICE.getDefaultState());
+        context.setBlockState(new BlockPos(6, 0, 1), Blocks.MAGMA_BLOCK.getDefaultState());
+        for (int y = 1; y <= 3; y++) {
+            for (int z = 2; z <= 5; z++) {
+                context.setBlockState(new BlockPos(0, y, z), Blocks.OAK_PLANKS.getDefaultState());
+            }
+        }
+    }
+
+    private static int[] parsePlayerCounts() {
+        String property = System.getProperty("primalcraft.msptPlayers");
+        if (property == null || property.isBlank()) {
+            return DEFAULT_PLAYER_COUNTS;
+        }
+        return Arrays.stream(property.split(","))
+            .map(String::trim)
+            .filter(s -> !s.isEmpty())
+            .mapToInt(Integer::parseInt)
+            .sorted()
+            .toArray();
+    }
+
+    private static boolean isNested(String handler) {
+        for (String prefix : NESTED_PREFIXES) {
+            if (handler.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * State of one scaling run. Driven from END_SERVER_TICK, after the mod's own listeners.
+     */
+    private static final class Run {
+        private final TestContext context;
+        private final ServerWorld world;
+        private final Vec3d center;
+        private final int[] playerCounts;
+        private final List<SimulatedPlayer> players = new ArrayList<>();
+        private final JSONArray results = new JSONArray();
+        private final Map<String, Boolean> savedToggles = new HashMap<>();
+
+        private int stepIndex = -1;
+        private int stepTick = 0;
+        private boolean stepDone = true;
+        private int runTick = 0;
+        private long lastModNanos = 0;
+        private long[] samples;
+
+        Run(TestContext context, ServerWorld world, Vec3d center, int[] playerCounts) {
+            this.context = context;
+            this.world = world;
+            this.center = center;
+            this.playerCounts = playerCounts;
+            enableSystems();
+        }
+
+        void tick(MinecraftServer server) {
+            runTick++;
+            if (stepDone) {
+                stepIndex++;
+                if (stepIndex >= playerCounts.length) {
+                    finish(server);
+                    return;
+                }
+                startStep(server);
+            }
+
+            if (stepTick == WARMUP_TICKS) {
+                TickProfiler.reset();
+                lastModNanos = 0;
+            } else if (stepTick > WARMUP_TICKS) {
+                long modNanos = topLevelNanos();
+                samples[stepTick - WARMUP_TICKS - 1] = modNanos - lastModNanos;
+                lastModNanos = modNanos;
+                if (stepTick == WARMUP_TICKS + MEASURE_TICKS) {
+                    finishStep();
+                }
+            }
+
+            for (SimulatedPlayer player : players) {
+                player.step(runTick, center);
+            }
+            stepTick++;
+        }
+
+        private void startStep(MinecraftServer server) {
+            int target = playerCounts[stepIndex];
+            while (players.size() < target) {
+                players.add(SimulatedPlayer.join(server, world, players.size(), center));
+            }
+            stepTick = 0;
+            stepDone = false;
+            samples = new long[MEASURE_TICKS];
+            PrimalCraft.LOGGER.info("🧪 [MSPT_HARNESS] Step {}/{}: {} players joined, warming up",
+                stepIndex + 1, playerCounts.length, players.size());
+        }
+
+        private void finishStep() {
+            stepDone = true;
+            long[] measured = samples.clone();
+            Arrays.sort(measured);
+            long total = 0;
+            for (long sample : measured) {
+                total += sample;
+            }
+            double meanMs = measured.length == 0 ? 0 : total / (double) measured.length / 1_000_000.0;
+
+            JSONObject step = new JSONObject();
+            step.put("players", players.size());
+            step.put("ticks", measured.length);
+
+            JSONObject mspt = new JSONObject();
+            mspt.put("mean", meanMs);
+            mspt.put("p50", percentile(measured, 0.50) / 1_000_000.0);
+            mspt.put("p99", percentile(measured, 0.99) / 1_000_000.0);
+            mspt.put("max", (measured.length == 0 ? 0 : measured[measured.length - 1]) / 1_000_000.0);
+            step.put("modMspt", mspt);
+            step.put("perPlayerMicros", players.isEmpty() ? 0 : meanMs * 1000.0 / players.size());
+
+            JSONArray handlers = new JSONArray();
+            for (TickProfiler.HandlerStats stats : TickProfiler.getStats()) {
+                JSONObject handler = new JSONObject();
+                handler.put("name", stats.name());
+                handler.put("nested", isNested(stats.name()));
+                handler.put("calls", stats.count());
+                handler.put("nanosPerTick", measured.length == 0 ? 0 : stats.totalNanos() / measured.length);
+                handler.put("p50Nanos", stats.p50());
+                handler.put("p99Nanos", stats.p99());
+                handler.put("maxNanos", stats.max());
+                handlers.put(handler);
+            }
+            step.put("handlers", handlers);
+            results.put(step);
+
+            PrimalCraft.LOGGER.info("📊 [MSPT_HARNESS] {} players: mod {} ms/tick (p99 {} ms)",
+                players.size(), String.format("%.3f", meanMs), String.format("%.3f", percentile(measured, 0.99) / 1_000_000.0));
+        }
+
+        private void finish(MinecraftServer server) {
+            activeRun = null;
+            for (SimulatedPlayer player : players) {
+                player.leave(server);
+            }
+            players.clear();
+            restoreSystems();
+
+            try {
+                Path path = writeReport();
+                PrimalCraft.LOGGER.info("✅ [MSPT_HARNESS] Report written to {}", path.toAbsolutePath());
+            } catch (IOException e) {
+                PrimalCraft.LOGGER.error("❌ [MSPT_HARNESS] Failed to write report: {}", e.getMessage());
+            }
+            context.complete();
+        }
+
+        private Path writeReport() throws IOException {
+            JSONObject report = new JSONObject();
+            report.put("mod", PrimalCraft.MOD_ID);
+            report.put("version", FabricLoader.getInstance().getModContainer(PrimalCraft.MOD_ID)
+                .map(mod -> mod.getMetadata().getVersion().getFriendlyString()).orElse("unknown"));
+            report.put("commit", System.getProperty("primalcraft.commit", "unknown"));
+            report.put("java", System.getProperty("java.version"));
+            report.put("timestamp", System.currentTimeMillis());
+            report.put("warmupTicks", WARMUP_TICKS);
+            report.put("measureTicks", MEASURE_TICKS);
+            report.put("results", results);
+
+            String property = System.getProperty("primalcraft.msptReport");
+            Path path = property != null && !property.isBlank()
+                ? Path.of(property)
+                : FabricLoader.getInstance().getGameDir().resolve("mspt-report.json");
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, report.toString(2), StandardCharsets.UTF_8);
+            return path;
+        }
+
+        private static long topLevelNanos() {
+            long total = 0;
+            for (Map.Entry<String, Long> entry : TickProfiler.getTotals().entrySet()) {
+                if (!isNested(entry.getKey())) {
+                    total += entry.getValue();
+                }
+            }
+            return total;
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+        }
+
+        private void enableSystems() {
+            var gameplay = PrimalCraftConfig.getGameplay();
+            savedToggles.put("stamina", gameplay.staminaSystemEnabled);
+            savedToggles.put("thirst", gameplay.thirstSystemEnabled);
+            savedToggles.put("temperature", gameplay.temperatureSystemEnabled);
+            savedToggles.put("hazards", gameplay.environmentalHazardsEnabled);
+            savedToggles.put("profiling", PrimalCraftConfig.getAdvanced().performance.profilingEnabled);
+
+            gameplay.staminaSystemEnabled = true;
+            gameplay.thirstSystemEnabled = true;
+            gameplay.temperatureSystemEnabled = true;
+            gameplay.environmentalHazardsEnabled = true;
+            PrimalCraftConfig.getAdvanced().performance.profilingEnabled = true;
+        }
+
+        private void restoreSystems() {
+            var gameplay = PrimalCraftConfig.getGameplay();
+            gameplay.staminaSystemEnabled = savedToggles.get("stamina");
+            gameplay.thirstSystemEnabled = savedToggles.get("thirst");
+            gameplay.temperatureSystemEnabled = savedToggles.get("temperature");
+            gameplay.environmentalHazardsEnabled = savedToggles.get("hazards");
+            PrimalCraftConfig.getAdvanced().performance.profilingEnabled = savedToggles.get("profiling");
+        }
+    }
+}
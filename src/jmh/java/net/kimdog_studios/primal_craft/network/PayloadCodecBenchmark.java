@@ -0,0 +1,100 @@
+package net.kimdog_studios.primal_craft.network;
+
+import io.netty.buffer.Unpooled;
+import net.kimdog_studios.primal_craft.util.BenchmarkBootstrap;
+import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.registry.DynamicRegistryManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Payload Codec Benchmark
+ *
+ * Encode + decode round trip of the payloads sent most often (per-player syncs every
+ * few ticks, the wind field and chat broadcasts). Each benchmark writes one payload into a reused
+ * buffer and reads it back. The chat encode-only pair compares the per-connection cost of
+ * a broadcast with and without a pre-encoded payload.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PayloadCodecBenchmark {
+    private RegistryByteBuf buf;
+
+    private final PlayerVitalsPayload vitalsFull = PlayerVitalsPayload.of(PlayerVitalsPayload.ALL, 73.5, 21.75, 17.5, 12.25);
+    private final PlayerVitalsPayload vitalsDelta = PlayerVitalsPayload.of(PlayerVitalsPayload.STAMINA, 73.5, 21.75, 17.5, 12.25);
+    private final WindFieldPayload windField = WindFieldPayload.of(0x5DEECE66DL, WindSystem.CustomWeatherType.RAIN);
+    private final WeatherNotificationPayload weather = new WeatherNotificationPayload("⛈ A storm is approaching", 0xFFAA00);
+    private final ChatAnimatedPayload chat = new ChatAnimatedPayload("admin", "KimDog", "Welcome to the server, everyone!");
+    private final ChatAnimatedPayload chatPreEncoded = ChatAnimatedPayload.preEncoded("admin", "KimDog", "Welcome to the server, everyone!");
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        buf = new RegistryByteBuf(Unpooled.buffer(256), DynamicRegistryManager.EMPTY);
+    }
+
+    @Benchmark
+    public PlayerVitalsPayload vitalsFull() {
+        return roundTrip(PlayerVitalsPayload.CODEC, vitalsFull);
+    }
+
+    @Benchmark
+    public PlayerVitalsPayload vitalsDelta() {
+        return roundTrip(PlayerVitalsPayload.CODEC, vitalsDelta);
+    }
+
+    @Benchmark
+    public WindFieldPayload windField() {
+        return roundTrip(WindFieldPayload.CODEC, windField);
+    }
+
+    @Benchmark
+    public WeatherNotificationPayload weatherNotification() {
+        return roundTrip(WeatherNotificationPayload.CODEC, weather);
+    }
+
+    @Benchmark
+    public ChatAnimatedPayload chatAnimated() {
+        return roundTrip(ChatAnimatedPayload.CODEC, chat);
+    }
+
+    @Benchmark
+    public int chatEncode() {
+        buf.clear();
+        ChatAnimatedPayload.CODEC.encode(buf, chat);
+        return buf.writerIndex();
+    }
+
+    @Benchmark
+    public int chatEncodePreEncoded() {
+        buf.clear();
+        ChatAnimatedPayload.CODEC.encode(buf, chatPreEncoded);
+        return buf.writerIndex();
+    }
+
+    private <T> T roundTrip(PacketCodec<RegistryByteBuf, T> codec, T payload) {
+        buf.clear();
+        codec.encode(buf, payload);
+        return codec.decode(buf);
+    }
+}
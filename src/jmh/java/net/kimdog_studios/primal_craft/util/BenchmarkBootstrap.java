@@ -0,0 +1,34 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+
+/**
+ * Primal Craft - Benchmark Bootstrap
+ *
+ * Initializes vanilla registries (blocks, items, fluids) once per benchmark JVM so
+ * block states and item stacks can be created without a running server.
+ *
+ * Note: mod content (ModBlocks, ModItems) is not registered here - benchmarks only
+ * use vanilla content.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class BenchmarkBootstrap {
+    private static boolean initialized = false;
+
+    private BenchmarkBootstrap() {
+        throw new UnsupportedOperationException("BenchmarkBootstrap is a utility class and cannot be instantiated");
+    }
+
+    public static synchronized void init() {
+        if (initialized) {
+            return;
+        }
+        SharedConstants.createGameVersion();
+        Bootstrap.initialize();
+        initialized = true;
+    }
+}
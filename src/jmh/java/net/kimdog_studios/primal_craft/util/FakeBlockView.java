@@ -0,0 +1,97 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * Primal Craft - Fake Block View
+ *
+ * Lightweight {@link BlockView} for benchmarks: a dense cube of block states around
+ * the origin. Everything outside the cube reads as air. No block entities, lighting
+ * or chunk loading - lookups are a single array read, so benchmark time is spent in
+ * the code under test rather than in the world.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class FakeBlockView implements BlockView {
+    private final int radius;
+    private final int size;
+    private final BlockState[] states;
+
+    /**
+     * @param radius Half-size of the cube; blocks from -radius to +radius on each axis
+     *               (relative to the origin) can be set
+     * @param fill   Initial state of every block in the cube
+     */
+    public FakeBlockView(int radius, BlockState fill) {
+        this.radius = radius;
+        this.size = radius * 2 + 1;
+        this.states = new BlockState[size * size * size];
+        Arrays.fill(states, fill);
+    }
+
+    public boolean contains(int x, int y, int z) {
+        return Math.abs(x) <= radius && Math.abs(y) <= radius && Math.abs(z) <= radius;
+    }
+
+    public void set(int x, int y, int z, BlockState state) {
+        if (contains(x, y, z)) {
+            states[index(x, y, z)] = state;
+        }
+    }
+
+    /**
+     * Fills the box between two corners (inclusive).
+     */
+    public void fill(int x1, int y1, int z1, int x2, int y2, int z2, BlockState state) {
+        for (int x = Math.min(x1, x2); x <= Math.max(x1, x2); x++) {
+            for (int y = Math.min(y1, y2); y <= Math.max(y1, y2); y++) {
+                for (int z = Math.min(z1, z2); z <= Math.max(z1, z2); z++) {
+                    set(x, y, z, state);
+                }
+            }
+        }
+    }
+
+    public BlockState get(int x, int y, int z) {
+        return contains(x, y, z) ? states[index(x, y, z)] : Blocks.AIR.getDefaultState();
+    }
+
+    private int index(int x, int y, int z) {
+        return ((x + radius) * size + (y + radius)) * size + (z + radius);
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return get(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return size;
+    }
+
+    @Override
+    public int getBottomY() {
+        return -radius;
+    }
+}
@@ -0,0 +1,69 @@
+package net.kimdog_studios.primal_craft.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Heatmap Kernel Benchmark
+ *
+ * Scalar vs Vector API {@link HeatmapKernel} over a full 256x256 column grid with random
+ * biomes (0-2), surface heights (40-160) and heat source values. Fixed seed, so both
+ * kernels see the same columns.
+ *
+ * The "vector" case falls back to scalar if the benchmark JVM
+ * lacks jdk.incubator.vector; the jmh task adds the module.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HeatmapKernelBenchmark {
+    private static final int COLUMNS = HeatmapEvaluator.MAX_SIZE * HeatmapEvaluator.MAX_SIZE;
+    private static final float BASE = 6.5f; // Midday, clear
+
+    @Param({"scalar", "vector"})
+    public String kernel;
+
+    private HeatmapKernel impl;
+    private final float[] biomeTemps = new float[COLUMNS];
+    private final float[] y = new float[COLUMNS];
+    private final float[] heat = new float[COLUMNS];
+    private final float[] out = new float[COLUMNS];
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        impl = "vector".equals(kernel) ? HeatmapKernel.create() : new HeatmapKernel.Scalar();
+
+        Random random = new Random(42);
+        for (int i = 0; i < COLUMNS; i++) {
+            biomeTemps[i] = random.nextFloat() * 2.0f;
+            y[i] = 40 + random.nextInt(121);
+            heat[i] = random.nextInt(10) == 0 ? random.nextFloat() * 60.0f - 20.0f : 0.0f;
+        }
+    }
+
+    @Benchmark
+    public float[] evaluate() {
+        impl.evaluate(biomeTemps, y, heat, BASE, out, COLUMNS);
+        return out;
+    }
+}
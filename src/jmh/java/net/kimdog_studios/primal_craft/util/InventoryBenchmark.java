@@ -0,0 +1,80 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.inventory.SimpleInventory;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Inventory Benchmark
+ *
+ * Benchmarks the per-player inventory scans that run every tick:
+ * - ItemWeightSystem.calculateInventoryWeightPenalty
+ * - InventoryTemperatureSystem.getInventoryHeatModifier
+ *
+ * The inventory has the player layout (41 slots: 36 main, 4 armor, 1 offhand) with a
+ * configurable number of occupied slots.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InventoryBenchmark {
+    private static final int PLAYER_INVENTORY_SIZE = 41;
+    private static final long NOW = 1_000_000L;
+    private static final double AMBIENT = 18.0;
+
+    @Param({"0", "20", "41"})
+    public int occupiedSlots;
+
+    private SimpleInventory inventory;
+    private long[] slotFirstSeen;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        Item[] items = {
+            Items.COBBLESTONE, Items.IRON_INGOT, Items.DIAMOND_PICKAXE, Items.BREAD,
+            Items.WATER_BUCKET, Items.OAK_LOG, Items.POTION, Items.TORCH,
+            Items.LAVA_BUCKET, Items.GOLD_INGOT, Items.COOKED_BEEF, Items.NETHERITE_SWORD
+        };
+
+        inventory = new SimpleInventory(PLAYER_INVENTORY_SIZE);
+        slotFirstSeen = new long[PLAYER_INVENTORY_SIZE];
+        for (int i = 0; i < occupiedSlots; i++) {
+            Item item = items[i % items.length];
+            inventory.setStack(i, new ItemStack(item, Math.min(item.getMaxCount(), 1 + i * 3)));
+            slotFirstSeen[i] = NOW - i * 600L; // Staggered carry times
+        }
+    }
+
+    @Benchmark
+    public double weightPenalty() {
+        return ItemWeightSystem.calculateInventoryWeightPenalty(inventory);
+    }
+
+    @Benchmark
+    public double heatModifier() {
+        return InventoryTemperatureSystem.getInventoryHeatModifier(inventory, slotFirstSeen, NOW, AMBIENT);
+    }
+}
@@ -0,0 +1,153 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Temperature Benchmark
+ *
+ * Benchmarks the production temperature path without a running server:
+ * - shelterScan: the block scan behind an {@link ExposureCache} miss
+ * - heatSourceIndexed / waterIndexed: {@link ThermalBlockIndex} lookups over the scene's
+ *   indexed sections, as used by {@link TemperatureFactors} and the snapshot path
+ * - compute: {@link TemperatureSystem#computeTemperature} over a captured snapshot
+ * - dirtyRefresh: a refresh with every world stage dirty (shelter, heat, humidity)
+ *   followed by compute, the worst case for one player update
+ *
+ * Player-bound inputs (entity heat, armor, wetness) are fixed in the snapshot.
+ *
+ * Scenes:
+ * - open: grass plain, sky visible, nothing nearby
+ * - house: plank hut with a lit campfire and furnace, a pond outside
+ * - cave: stone pocket underground next to a lava pool and some water
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemperatureBenchmark {
+    private static final int SEA_LEVEL_Y = 64;
+    private static final long NIGHT_TIME = 20000L; // Night: every stage runs, including humidity
+    private static final float PLAINS_BIOME_TEMP = 0.8f;
+
+    @Param({"open", "house", "cave"})
+    public String scene;
+
+    private FakeBlockView world;
+    private Map<Long, byte[]> sections;
+    private TemperatureSnapshot snapshot;
+    private BlockPos pos;
+    private boolean skyVisible;
+    private int y;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+        pos = BlockPos.ORIGIN;
+
+        switch (scene) {
+            case "open" -> {
+                world = new FakeBlockView(12, Blocks.AIR.getDefaultState());
+                world.fill(-12, -12, -12, 12, -2, 12, Blocks.DIRT.getDefaultState());
+                world.fill(-12, -1, -12, 12, -1, 12, Blocks.GRASS_BLOCK.getDefaultState());
+                skyVisible = true;
+                y = SEA_LEVEL_Y;
+            }
+            case "house" -> {
+                world = new FakeBlockView(12, Blocks.AIR.getDefaultState());
+                world.fill(-12, -12, -12, 12, -1, 12, Blocks.DIRT.getDefaultState());
+                BlockState planks = Blocks.OAK_PLANKS.getDefaultState();
+                world.fill(-3, -1, -3, 3, 4, 3, planks);
+                world.fill(-2, 0, -2, 2, 3, 2, Blocks.AIR.getDefaultState());
+                world.set(2, 0, 2, Blocks.CAMPFIRE.getDefaultState());
+                world.set(-2, 0, 2, Blocks.FURNACE.getDefaultState().with(Properties.LIT, true));
+                world.set(0, 2, -2, Blocks.WALL_TORCH.getDefaultState());
+                world.fill(5, -1, -4, 8, -1, 4, Blocks.WATER.getDefaultState());
+                skyVisible = false;
+                y = SEA_LEVEL_Y;
+            }
+            case "cave" -> {
+                world = new FakeBlockView(12, Blocks.STONE.getDefaultState());
+                world.fill(-6, 0, -6, 6, 3, 6, Blocks.AIR.getDefaultState());
+                world.fill(3, -1, 2, 6, -1, 6, Blocks.LAVA.getDefaultState());
+                world.fill(-6, -1, -6, -3, -1, -2, Blocks.WATER.getDefaultState());
+                world.set(-1, 0, 4, Blocks.MAGMA_BLOCK.getDefaultState());
+                skyVisible = false;
+                y = 12;
+            }
+            default -> throw new IllegalArgumentException("Unknown scene: " + scene);
+        }
+
+        // Index the scene the way ThermalBlockIndex indexes a loaded chunk
+        sections = new HashMap<>();
+        for (int sx = -1; sx <= 0; sx++) {
+            for (int sy = -1; sy <= 0; sy++) {
+                for (int sz = -1; sz <= 0; sz++) {
+                    sections.put(ChunkSectionPos.asLong(sx, sy, sz), ThermalBlockIndex.indexSection(world, sx, sy, sz));
+                }
+            }
+        }
+        // Benchmark positions sit at the origin; the snapshot carries the scene's real height
+        snapshot = snapshot(TemperatureSystem.getShelterFactor(world, pos, skyVisible),
+            ThermalBlockIndex.getNearbyBlockTemp(sections, pos),
+            ThermalBlockIndex.getWaterProximityEffect(sections, pos));
+    }
+
+    @Benchmark
+    public double shelterScan() {
+        // Always pass skyVisible=true so the scan itself is measured
+        return TemperatureSystem.getShelterFactor(world, pos, true);
+    }
+
+    @Benchmark
+    public double heatSourceIndexed() {
+        return ThermalBlockIndex.getNearbyBlockTemp(sections, pos);
+    }
+
+    @Benchmark
+    public double waterIndexed() {
+        return ThermalBlockIndex.getWaterProximityEffect(sections, pos);
+    }
+
+    @Benchmark
+    public TemperatureSnapshot.Result compute() {
+        return TemperatureSystem.computeTemperature(snapshot);
+    }
+
+    @Benchmark
+    public TemperatureSnapshot.Result dirtyRefresh() {
+        return TemperatureSystem.computeTemperature(snapshot(
+            TemperatureSystem.getShelterFactor(world, pos, skyVisible),
+            ThermalBlockIndex.getNearbyBlockTemp(sections, pos),
+            ThermalBlockIndex.getWaterProximityEffect(sections, pos)));
+    }
+
+    private TemperatureSnapshot snapshot(double shelter, double heat, double humidity) {
+        return new TemperatureSnapshot(0L, PLAINS_BIOME_TEMP, false, false, NIGHT_TIME, y, skyVisible, shelter,
+            false, false, heat, humidity, 0.0, 0.0, false, false, false, false, false, false, 0L);
+    }
+}
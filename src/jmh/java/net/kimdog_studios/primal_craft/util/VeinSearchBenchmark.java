@@ -0,0 +1,96 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.util.math.BlockPos;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Primal Craft - Vein Search Benchmark
+ *
+ * Benchmarks the vein miner flood fill ({@link VeinSearch#search}) on synthetic iron
+ * veins of 64, 256 and 512 blocks embedded in stone. Veins are grown with a fixed seed
+ * so every run searches the same shape. Search limits match the vein miner
+ * (511 blocks, 64 block range).
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VeinSearchBenchmark {
+    private static final int MAX_BLOCKS = 511;
+    private static final int MAX_RANGE = 64;
+    private static final int WORLD_RADIUS = 24;
+    private static final long SEED = 42L;
+
+    @Param({"64", "256", "512"})
+    public int veinSize;
+
+    private FakeBlockView world;
+    private Predicate<BlockState> matchPredicate;
+
+    @Setup
+    public void setup() {
+        BenchmarkBootstrap.init();
+
+        world = new FakeBlockView(WORLD_RADIUS, Blocks.STONE.getDefaultState());
+        growVein(world, veinSize, new Random(SEED));
+
+        Set<Block> oreBlocks = new HashSet<>(Set.of(
+            Blocks.COAL_ORE, Blocks.IRON_ORE, Blocks.DEEPSLATE_IRON_ORE,
+            Blocks.COPPER_ORE, Blocks.GOLD_ORE, Blocks.DIAMOND_ORE
+        ));
+        matchPredicate = VeinSearch.createMatchPredicate(Blocks.IRON_ORE.getDefaultState(), oreBlocks);
+    }
+
+    @Benchmark
+    public List<BlockPos> search() {
+        return VeinSearch.search(world, BlockPos.ORIGIN, MAX_BLOCKS, MAX_RANGE, matchPredicate);
+    }
+
+    /**
+     * Grows a connected blob of iron ore (deepslate variant below y=0) from the origin.
+     */
+    private static void growVein(FakeBlockView world, int size, Random random) {
+        List<BlockPos> vein = new ArrayList<>(size);
+        vein.add(BlockPos.ORIGIN);
+        world.set(0, 0, 0, Blocks.IRON_ORE.getDefaultState());
+
+        while (vein.size() < size) {
+            BlockPos from = vein.get(random.nextInt(vein.size()));
+            BlockPos next = from.add(random.nextInt(3) - 1, random.nextInt(3) - 1, random.nextInt(3) - 1);
+            if (!world.contains(next.getX(), next.getY(), next.getZ())
+                || !world.get(next.getX(), next.getY(), next.getZ()).isOf(Blocks.STONE)) {
+                continue;
+            }
+            BlockState ore = next.getY() < 0 ? Blocks.DEEPSLATE_IRON_ORE.getDefaultState() : Blocks.IRON_ORE.getDefaultState();
+            world.set(next.getX(), next.getY(), next.getZ(), ore);
+            vein.add(next);
+        }
+    }
+}
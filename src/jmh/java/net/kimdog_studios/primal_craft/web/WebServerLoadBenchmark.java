@@ -0,0 +1,86 @@
+package net.kimdog_studios.primal_craft.web;
+
+import net.kimdog_studios.primal_craft.util.BenchmarkBootstrap;
+import net.kimdog_studios.primal_craft.web.server.WebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Web Server Load Benchmark
+ *
+ * Local load test for the dashboard web server: 16 client threads share one HTTP/1.1
+ * client (pooled keep-alive connections) against a server started on a free port.
+ * Covers the compressed dashboard page, its ETag revalidation (304, no body) and the
+ * streamed /api/status JSON. No game server runs, so status reports "not running".
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class WebServerLoadBenchmark {
+    private HttpClient client;
+    private HttpRequest dashboard;
+    private HttpRequest status;
+    private String etag;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, InterruptedException {
+        BenchmarkBootstrap.init();
+        WebServer.start(0);
+        URI base = URI.create("http://localhost:" + WebServer.getPort());
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        dashboard = HttpRequest.newBuilder(base.resolve("/")).header("Accept-Encoding", "gzip").build();
+        status = HttpRequest.newBuilder(base.resolve("/api/status")).header("Accept-Encoding", "gzip").build();
+        etag = client.send(dashboard, HttpResponse.BodyHandlers.discarding()).headers().firstValue("ETag").orElseThrow();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        WebServer.stop();
+    }
+
+    @Benchmark
+    public byte[] dashboardGzip() throws IOException, InterruptedException {
+        return client.send(dashboard, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    @Benchmark
+    public int dashboardNotModified() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(dashboard.uri())
+            .header("Accept-Encoding", "gzip")
+            .header("If-None-Match", etag)
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @Benchmark
+    public byte[] status() throws IOException, InterruptedException {
+        return client.send(status, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
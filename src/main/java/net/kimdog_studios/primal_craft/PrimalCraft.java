@@ -31,9 +31,11 @@ import net.kimdog_studios.primal_craft.util.ModLootTableModifiers;
 import net.kimdog_studios.primal_craft.villager.ModVillagers;
 import net.kimdog_studios.primal_craft.world.gen.ModWorldGeneration;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
-import net.kimdog_studios.primal_craft.network.StaminaSyncPayload;
+import net.kimdog_studios.primal_craft.network.PlayerVitalsPayload;
 import net.kimdog_studios.primal_craft.network.SprintCooldownPayload;
 import net.kimdog_studios.primal_craft.network.SwingAttackPayload;
+import net.kimdog_studios.primal_craft.util.PayloadTraffic;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.entity.passive.SheepEntity;
@@ -138,32 +140,60 @@ public class PrimalCraft implements ModInitializer {
 
             LOGGER.info("  🌐 Registering network payloads...");
             int payloadsRegistered = 0;
-            // Register stamina payload codec (S2C)
-            PayloadTypeRegistry.playS2C().register(StaminaSyncPayload.ID, StaminaSyncPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(SprintCooldownPayload.ID, SprintCooldownPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.TemperatureSyncPayload.ID,
-                net.kimdog_studios.primal_craft.network.TemperatureSyncPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.WorldTemperatureSyncPayload.ID,
-                net.kimdog_studios.primal_craft.network.WorldTemperatureSyncPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.ThirstSyncPayload.ID, net.kimdog_studios.primal_craft.network.ThirstSyncPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.FreecamCountdownPayload.ID, net.kimdog_studios.primal_craft.network.FreecamCountdownPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.ChatAnimatedPayload.ID, net.kimdog_studios.primal_craft.network.ChatAnimatedPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.BiomeNotificationPayload.ID, net.kimdog_studios.primal_craft.network.BiomeNotificationPayload.CODEC);
-            PayloadTypeRegistry.playS2C().register(LoginStreakPayload.ID, LoginStreakPayload.CODEC);
-            payloadsRegistered += 9;
+            // Register vitals payload codec (S2C): stamina, temperatures, thirst
+            PayloadTypeRegistry.playS2C().register(PlayerVitalsPayload.ID, PayloadTraffic.s2c(PlayerVitalsPayload.ID, PlayerVitalsPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(SprintCooldownPayload.ID, PayloadTraffic.s2c(SprintCooldownPayload.ID, SprintCooldownPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.FreecamCountdownPayload.ID, PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.FreecamCountdownPayload.ID, net.kimdog_studios.primal_craft.network.FreecamCountdownPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.ChatAnimatedPayload.ID, PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.ChatAnimatedPayload.ID, net.kimdog_studios.primal_craft.network.ChatAnimatedPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.BiomeNotificationPayload.ID, PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.BiomeNotificationPayload.ID, net.kimdog_studios.primal_craft.network.BiomeNotificationPayload.CODEC));
+            PayloadTypeRegistry.playS2C().register(LoginStreakPayload.ID, PayloadTraffic.s2c(LoginStreakPayload.ID, LoginStreakPayload.CODEC));
+            payloadsRegistered += 6;
             LOGGER.debug("    ✓ {} S2C (Server→Client) payloads registered", payloadsRegistered);
 
             // Register swing attack payload codec (C2S)
-            PayloadTypeRegistry.playC2S().register(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.CODEC);
-            PayloadTypeRegistry.playC2S().register(SwingAttackPayload.ID, SwingAttackPayload.CODEC);
-            PayloadTypeRegistry.playC2S().register(net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.ID, net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.CODEC);
+            PayloadTypeRegistry.playC2S().register(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, PayloadTraffic.c2s(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.CODEC));
+            PayloadTypeRegistry.playC2S().register(SwingAttackPayload.ID, PayloadTraffic.c2s(SwingAttackPayload.ID, SwingAttackPayload.CODEC));
+            PayloadTypeRegistry.playC2S().register(net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.ID, PayloadTraffic.c2s(net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.ID, net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.CODEC));
             payloadsRegistered += 3;
             LOGGER.debug("    ✓ {} C2S (Client→Server) payloads registered", payloadsRegistered);
 
+        // Survival tick pipeline - single per-player tick driver shared by the survival systems below
+        net.kimdog_studios.primal_craft.util.SurvivalTickPipeline.register();
+
+        // Server snapshot - immutable state published by the server thread for the web dashboard
+        net.kimdog_studios.primal_craft.web.server.ServerSnapshot.register();
+
+        // Payload traffic - per-payload and per-player packet/byte counters for the dashboard
+        PayloadTraffic.register();
+
+        // Tick scheduler - staggered, budgeted per-player work that doesn't need to run every tick
+        net.kimdog_studios.primal_craft.util.TickScheduler.register();
+
+        // Thermal block index - per-chunk-section heat/cold/water lookup for temperature
+        net.kimdog_studios.primal_craft.util.ThermalBlockIndex.register();
+
+        // Exposure cache - shared sky/shelter/wind exposure probes per block position
+        net.kimdog_studios.primal_craft.util.ExposureCache.register();
+
+        // Heat entity index - per-world spatial hash of heat/cold emitting mobs
+        net.kimdog_studios.primal_craft.util.HeatEntityIndex.register();
+
+        // Ambient temperature field - per-column biome temps and time-of-day lookup tables
+        net.kimdog_studios.primal_craft.util.AmbientTemperatureField.register();
+
+        // Player temperature store - per-player temperature state slots, allocated on join
+        net.kimdog_studios.primal_craft.util.PlayerTemperatureStore.register();
+
+        // Temperature worker pool - off-thread evaluation for bulk and heatmap queries
+        net.kimdog_studios.primal_craft.util.TemperatureWorkerPool.register();
+
         // Stamina system (server-side regen + API)
         net.kimdog_studios.primal_craft.util.StaminaSystem.register();
 
+        // Vitals sync - delta-encoded stamina/temperature/thirst updates to clients
+        net.kimdog_studios.primal_craft.util.VitalsSync.register();
+
         // Difficulty System - Dynamic difficulty scaling and progression tracking
         net.kimdog_studios.primal_craft.util.DifficultySystem.register();
 
@@ -204,6 +234,13 @@ public class PrimalCraft implements ModInitializer {
         // Stamina restoration system (rest/food)
         net.kimdog_studios.primal_craft.util.StaminaRestoration.register();
 
+        // Climate adaptation - slow cold/heat acclimatization that shifts the temperature comfort band
+        net.kimdog_studios.primal_craft.util.ClimateAdaptationSystem.register();
+
+        // Sanity and proximity threat warnings (off by default, see feature toggles)
+        net.kimdog_studios.primal_craft.event.SanityHandler.register();
+        net.kimdog_studios.primal_craft.event.ProximityThreatHandler.register();
+
         // Swing attack stamina drain handler
         net.kimdog_studios.primal_craft.event.SwingAttackHandler.registerServer();
 
@@ -247,13 +284,13 @@ public class PrimalCraft implements ModInitializer {
         net.kimdog_studios.primal_craft.event.BiomeNotificationHandler.register();
 
         // Wind system
-        net.kimdog_studios.primal_craft.network.WindSyncPayload.register();
+        net.kimdog_studios.primal_craft.network.WindFieldPayload.register();
         net.kimdog_studios.primal_craft.event.WindHandler.register();
         net.kimdog_studios.primal_craft.event.WeatherParticleHandler.register();
 
         // Typing indicator system
         net.kimdog_studios.primal_craft.event.TypingIndicatorHandler.register();
-        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, (payload, context) -> {
+        net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.TypingIndicatorPayload.ID, TickProfiler.receiver("c2s:typing_indicator", (payload, context) -> {
             net.minecraft.server.network.ServerPlayerEntity player = context.player();
             if (player != null) {
                 if (payload.isTyping()) {
@@ -262,7 +299,7 @@ public class PrimalCraft implements ModInitializer {
                     net.kimdog_studios.primal_craft.event.TypingIndicatorHandler.stopTyping(player);
                 }
             }
-        });
+        }));
 
         // Sign editor system
         net.kimdog_studios.primal_craft.event.SignEditorHandler.register();
@@ -270,42 +307,41 @@ public class PrimalCraft implements ModInitializer {
         // Register UpdateSignText payload handler (C2S)
         net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.registerGlobalReceiver(
             net.kimdog_studios.primal_craft.network.UpdateSignTextPayload.ID,
-            (payload, context) -> {
-                context.server().execute(() -> {
-                    net.minecraft.server.network.ServerPlayerEntity player = context.player();
-                    net.minecraft.server.world.ServerWorld world = player.getEntityWorld();
-                    net.minecraft.util.math.BlockPos pos = payload.pos();
-
-                    // Verify the block entity exists and is a sign
-                    net.minecraft.block.entity.BlockEntity blockEntity = world.getBlockEntity(pos);
-                    if (blockEntity instanceof net.minecraft.block.entity.SignBlockEntity signEntity) {
-                        // Get the current sign text
-                        net.minecraft.block.entity.SignText signText = signEntity.getFrontText();
-
-                        // Parse formatting codes from the formatting string
-                        net.minecraft.text.MutableText newText = net.minecraft.text.Text.literal(payload.text());
-
-                        // Apply formatting codes (e.g., "§c§l" for red bold)
-                        if (!payload.formatting().isEmpty()) {
-                            String formatted = payload.formatting() + payload.text();
-                            newText = net.minecraft.text.Text.literal(formatted);
-                        }
-
-                        // Update the specific line
-                        net.minecraft.block.entity.SignText updatedText = signText.withMessage(payload.line(), newText);
-                        signEntity.setText(updatedText, true); // true = front side
-
-                        // Mark the block entity as dirty and sync to clients
-                        signEntity.markDirty();
-                        world.updateListeners(pos, world.getBlockState(pos), world.getBlockState(pos), 3);
+            TickProfiler.receiver("c2s:update_sign_text", (payload, context) -> {
+                // Payload receivers already run on the server thread, so the profiler times the update itself
+                net.minecraft.server.network.ServerPlayerEntity player = context.player();
+                net.minecraft.server.world.ServerWorld world = player.getEntityWorld();
+                net.minecraft.util.math.BlockPos pos = payload.pos();
+
+                // Verify the block entity exists and is a sign
+                net.minecraft.block.entity.BlockEntity blockEntity = world.getBlockEntity(pos);
+                if (blockEntity instanceof net.minecraft.block.entity.SignBlockEntity signEntity) {
+                    // Get the current sign text
+                    net.minecraft.block.entity.SignText signText = signEntity.getFrontText();
+
+                    // Parse formatting codes from the formatting string
+                    net.minecraft.text.MutableText newText = net.minecraft.text.Text.literal(payload.text());
+
+                    // Apply formatting codes (e.g., "§c§l" for red bold)
+                    if (!payload.formatting().isEmpty()) {
+                        String formatted = payload.formatting() + payload.text();
+                        newText = net.minecraft.text.Text.literal(formatted);
                     }
-                });
-            }
+
+                    // Update the specific line
+                    net.minecraft.block.entity.SignText updatedText = signText.withMessage(payload.line(), newText);
+                    signEntity.setText(updatedText, true); // true = front side
+
+                    // Mark the block entity as dirty and sync to clients
+                    signEntity.markDirty();
+                    world.updateListeners(pos, world.getBlockState(pos), world.getBlockState(pos), 3);
+                }
+            })
         );
 
         // Register advancement notification system
         net.kimdog_studios.primal_craft.event.AdvancementNotificationHandler.register();
-        PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload.ID, net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload.ID, PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload.ID, net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload.CODEC));
 
         // Register custom weather command on server start
         ServerLifecycleEvents.SERVER_STARTING.register(server -> {
@@ -313,10 +349,11 @@ public class PrimalCraft implements ModInitializer {
             net.kimdog_studios.primal_craft.command.VanishCommand.register(dispatcher);
             net.kimdog_studios.primal_craft.command.FreecamCommand.register(dispatcher);
             net.kimdog_studios.primal_craft.command.DashboardCommand.register(dispatcher);
+            net.kimdog_studios.primal_craft.command.PrimalCommand.register(dispatcher);
 
             // Set up web dashboard endpoints
             net.kimdog_studios.primal_craft.web.api.ChatEndpoint.setServer(server);
-            net.kimdog_studios.primal_craft.web.api.StatusEndpoint.setServer(server);
+            net.kimdog_studios.primal_craft.web.api.HeatmapEndpoint.setServer(server);
 
             // Auto-start web dashboard (optional - can be disabled)
             if (System.getenv("PRIMAL_CRAFT_DASHBOARD") == null || !System.getenv("PRIMAL_CRAFT_DASHBOARD").equals("disabled")) {
@@ -334,8 +371,8 @@ public class PrimalCraft implements ModInitializer {
 			builder.add(ModItems.STARLIGHT_ASHES, 600);
 		});
 
-		PlayerBlockBreakEvents.BEFORE.register(new HammerUsageEvent());
-		AttackEntityCallback.EVENT.register((player, world, hand, entity, hitResult) -> {
+		PlayerBlockBreakEvents.BEFORE.register(TickProfiler.beforeBlockBreak("HammerUsageEvent", new HammerUsageEvent()));
+		AttackEntityCallback.EVENT.register(TickProfiler.attackEntity("PrimalCraft.attackEntity", (player, world, hand, entity, hitResult) -> {
 			if(entity instanceof SheepEntity sheepEntity) {
 				if(player.getMainHandStack().getItem() == Items.END_ROD) {
 					if (player instanceof net.minecraft.server.network.ServerPlayerEntity sp) {
@@ -349,7 +386,7 @@ public class PrimalCraft implements ModInitializer {
 			}
 
             return ActionResult.PASS;
-        });
+        }));
 
 		FabricBrewingRecipeRegistryBuilder.BUILD.register(builder -> {
 			builder.registerPotionRecipe(Potions.AWKWARD, Items.SLIME_BALL, ModPotions.SLIMEY_POTION);
@@ -27,9 +27,8 @@ import net.kimdog_studios.primal_craft.util.ModKeyBindings;
 import net.minecraft.client.gui.screen.ingame.HandledScreens;
 import net.minecraft.client.render.BlockRenderLayer;
 import net.minecraft.client.render.block.entity.BlockEntityRendererFactories;
-import net.kimdog_studios.primal_craft.network.StaminaSyncPayload;
+import net.kimdog_studios.primal_craft.network.PlayerVitalsPayload;
 import net.kimdog_studios.primal_craft.network.SprintCooldownPayload;
-import net.kimdog_studios.primal_craft.network.ThirstSyncPayload;
 import net.kimdog_studios.primal_craft.network.FreecamCountdownPayload;
 import net.kimdog_studios.primal_craft.event.UnifiedHudOverlay;
 import net.kimdog_studios.primal_craft.event.AnimatedChatHud;
@@ -85,26 +84,27 @@ public class PrimalCraftClient implements ClientModInitializer {
 			PrimalCraft.LOGGER.debug("    ✓ Zoom handler registered");
 
 			PrimalCraft.LOGGER.info("  ⚡ Registering stamina system...");
-			// Register stamina HUD + network receiver
-			ClientPlayNetworking.registerGlobalReceiver(StaminaSyncPayload.ID, (payload, context) -> {
-				double stamina = payload.stamina();
-				double max = payload.maxStamina();
-				context.client().execute(() -> StaminaHudOverlay.update(stamina, max));
+			// Register stamina HUD + vitals receiver (only fields present in the payload changed)
+			ClientPlayNetworking.registerGlobalReceiver(PlayerVitalsPayload.ID, (payload, context) -> {
+				context.client().execute(() -> {
+					if (payload.has(PlayerVitalsPayload.STAMINA)) {
+						StaminaHudOverlay.update(payload.staminaValue(), PlayerVitalsPayload.MAX_STAMINA);
+					}
+					if (payload.has(PlayerVitalsPayload.TEMPERATURE)) {
+						StaminaHudOverlay.updateTemperature(payload.temperatureValue());
+					}
+					if (payload.has(PlayerVitalsPayload.WORLD_TEMPERATURE)) {
+						StaminaHudOverlay.updateWorldTemperature(payload.worldTemperatureValue());
+					}
+					if (payload.has(PlayerVitalsPayload.THIRST)) {
+						UnifiedHudOverlay.updateThirst(payload.thirstValue(), PlayerVitalsPayload.MAX_THIRST);
+					}
+				});
 			});
 
 			ClientPlayNetworking.registerGlobalReceiver(SprintCooldownPayload.ID, (payload, context) -> {
-				int ticks = payload.cooldownTicks();
-				context.client().execute(() -> StaminaHudOverlay.updateCooldown(ticks));
-			});
-
-			ClientPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.TemperatureSyncPayload.ID, (payload, context) -> {
-				double temperature = payload.temperature();
-				context.client().execute(() -> StaminaHudOverlay.updateTemperature(temperature));
-			});
-
-			ClientPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.WorldTemperatureSyncPayload.ID, (payload, context) -> {
-				double worldTemperature = payload.worldTemperature();
-				context.client().execute(() -> StaminaHudOverlay.updateWorldTemperature(worldTemperature));
+				long endTick = payload.endTick();
+				context.client().execute(() -> StaminaHudOverlay.updateCooldown(endTick));
 			});
 
 			HudRenderCallback.EVENT.register(new StaminaHudOverlay());
@@ -156,16 +156,8 @@ public class PrimalCraftClient implements ClientModInitializer {
 			});
 			HudRenderCallback.EVENT.register(new BiomeNotificationHud());
 
-			// Register wind system client receiver + renderer
-			ClientPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.WindSyncPayload.ID, (payload, context) -> {
-				net.minecraft.util.math.Vec3d direction = new net.minecraft.util.math.Vec3d(payload.dirX(), payload.dirY(), payload.dirZ());
-				double strength = payload.strength();
-				boolean stormy = payload.stormy();
-				context.client().execute(() -> {
-					net.kimdog_studios.primal_craft.event.WindLineRenderer.updateWindData(direction, strength, stormy);
-					net.kimdog_studios.primal_craft.event.StaminaHudOverlay.updateWindSpeed(strength);
-			});
-		});
+			// Register wind system: local wind field evaluation + renderer
+			net.kimdog_studios.primal_craft.event.WindFieldClient.register();
 		net.kimdog_studios.primal_craft.event.WindLineRenderer.register();
 
 		// Register swing attack client handler
@@ -196,10 +188,6 @@ public class PrimalCraftClient implements ClientModInitializer {
 
 		HandledScreens.register(ModScreenHandlers.GROWTH_CHAMBER_SCREEN_HANDLER, GrowthChamberScreen::new);
 
-		ClientPlayNetworking.registerGlobalReceiver(ThirstSyncPayload.ID, (payload, context) -> {
-			context.client().execute(() -> UnifiedHudOverlay.updateThirst(payload.thirst(), payload.maxThirst()));
-		});
-
 		ClientPlayNetworking.registerGlobalReceiver(FreecamCountdownPayload.ID, (payload, context) -> {
 			int remaining = payload.ticksRemaining();
 			int total = payload.totalTicks();
@@ -219,7 +207,7 @@ public class PrimalCraftClient implements ClientModInitializer {
 		// Register sign editor payload and receiver
 		net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry.playS2C().register(
 			net.kimdog_studios.primal_craft.network.OpenSignEditorPayload.ID,
-			net.kimdog_studios.primal_craft.network.OpenSignEditorPayload.CODEC
+			net.kimdog_studios.primal_craft.util.PayloadTraffic.s2c(net.kimdog_studios.primal_craft.network.OpenSignEditorPayload.ID, net.kimdog_studios.primal_craft.network.OpenSignEditorPayload.CODEC)
 		);
 		ClientPlayNetworking.registerGlobalReceiver(net.kimdog_studios.primal_craft.network.OpenSignEditorPayload.ID, (payload, context) -> {
 			net.minecraft.util.math.BlockPos pos = payload.pos();
@@ -1,10 +1,17 @@
 package net.kimdog_studios.primal_craft.api;
 
+import net.kimdog_studios.primal_craft.util.BulkTemperatureQuery;
 import net.kimdog_studios.primal_craft.util.InventoryTemperatureSystem;
+import net.kimdog_studios.primal_craft.util.TemperatureBreakdown;
 import net.kimdog_studios.primal_craft.util.TemperatureSystem;
 import net.kimdog_studios.primal_craft.util.WaterCarryTracker;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Public API for temperature systems. Use this to integrate mechanics without touching internals.
@@ -44,6 +51,25 @@ public final class TemperatureAPI {
         return TemperatureSystem.getEffectiveTemperature(player);
     }
 
+    // Per-factor contributions of the last raw temperature calculation
+    public static TemperatureBreakdown getTemperatureBreakdown(ServerPlayerEntity player) {
+        return TemperatureSystem.getTemperatureBreakdown(player);
+    }
+
+    // Bulk position queries: ambient field + nearby heat/cold blocks, no player modifiers.
+    // Result[i] is the temperature (°C) at positions.get(i), NaN if its chunk is not loaded. Server thread only.
+    public static double[] getTemperatures(ServerWorld world, List<BlockPos> positions) {
+        return BulkTemperatureQuery.evaluate(world, positions);
+    }
+
+    /**
+     * Async variant of {@link #getTemperatures}: inputs are snapshotted on the server thread,
+     * the model runs on a worker thread. Safe to call from any thread.
+     */
+    public static CompletableFuture<double[]> getTemperaturesAsync(ServerWorld world, List<BlockPos> positions) {
+        return BulkTemperatureQuery.evaluateAsync(world, positions);
+    }
+
     /**
      * Apply external heat delta (±°C) to the player's temperature cache.
      * This nudges the smoothed temperature toward the adjusted value.
@@ -237,6 +237,8 @@ public class PrimalCraftConfig {
             public boolean enableParticles = true;
             public boolean enableSounds = true;
             public int updateFrequency = 20;
+            public long tickBudgetNanos = 2_000_000L; // Per-tick budget for scheduled per-player work (0 = unlimited)
+            public boolean profilingEnabled = true; // Per-handler timing histograms (/primal profile, /api/profile)
         }
 
         public static class DeveloperSettings {
@@ -277,6 +279,9 @@ public class PrimalCraftConfig {
             // Phase 5: Major Overhauls
             public boolean dragonRedesign = true;
             public boolean netherOverhaul = true;
+            public boolean sanity = false;            // Sanity loss from darkness, danger and hunger
+            public boolean proximityThreat = false;   // Bad omen/darkness warnings near hostile mobs
+            public boolean climateAdaptation = false; // Acclimatisation shifts the stamina comfort band by up to ±3°C
 
             // Meta Feature
             public boolean hytaleFeelEnabled = true;
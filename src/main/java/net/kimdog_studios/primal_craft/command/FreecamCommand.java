@@ -8,6 +8,7 @@ import net.minecraft.text.Text;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.GameMode;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,7 +27,7 @@ public final class FreecamCommand {
         );
 
         // Tick handler to countdown and auto-restore
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("FreecamCommand", server -> {
             for (var entry : sessions.entrySet()) {
                 UUID id = entry.getKey();
                 Session s = entry.getValue();
@@ -45,7 +46,7 @@ public final class FreecamCommand {
                 }
             }
             sessions.values().removeIf(sess -> sess != null && sess.ticksLeft <= 0);
-        });
+        }));
     }
 
     private static int start(ServerCommandSource source) {
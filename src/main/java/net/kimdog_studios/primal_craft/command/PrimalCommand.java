@@ -0,0 +1,168 @@
+package net.kimdog_studios.primal_craft.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import com.mojang.brigadier.arguments.IntegerArgumentType;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.util.HeatmapEvaluator;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.minecraft.server.command.CommandManager;
+import net.minecraft.server.command.ServerCommandSource;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.text.Text;
+import net.minecraft.util.Formatting;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 🛠️ Primal Craft - Admin Command
+ *
+ * Server diagnostics for Primal Craft systems.
+ *
+ * Commands (operators only):
+ * - /primal profile [limit] - Show per-handler timings (p50/p99/max), most expensive first
+ * - /primal profile reset - Clear collected timings
+ * - /primal heatmap [size] [step] - Evaluate ambient temperature over a grid of columns around you
+ *   (one capture per player every {@link HeatmapEvaluator#COOLDOWN_MS} ms, since the
+ *   capture of up to 256x256 columns runs in a single server tick)
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PrimalCommand {
+    private static final int DEFAULT_PROFILE_LIMIT = 10;
+    private static final int DEFAULT_HEATMAP_SIZE = 64;
+    private static final int OPERATOR_PERMISSION_LEVEL = 2;
+
+    private PrimalCommand() {}
+
+    public static void register(CommandDispatcher<ServerCommandSource> dispatcher) {
+        PrimalCraft.LOGGER.info("[PRIMAL_COMMAND] Registering primal command dispatcher");
+
+        dispatcher.register(
+            CommandManager.literal("primal")
+                .then(CommandManager.literal("profile")
+                    .requires(source -> source.hasPermissionLevel(OPERATOR_PERMISSION_LEVEL))
+                    .executes(ctx -> showProfile(ctx.getSource(), DEFAULT_PROFILE_LIMIT))
+                    .then(CommandManager.argument("limit", IntegerArgumentType.integer(1, 100))
+                        .executes(ctx -> showProfile(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "limit")))
+                    )
+                    .then(CommandManager.literal("reset")
+                        .executes(ctx -> resetProfile(ctx.getSource()))
+                    )
+                )
+                .then(CommandManager.literal("heatmap")
+                    .requires(source -> source.hasPermissionLevel(OPERATOR_PERMISSION_LEVEL))
+                    .executes(ctx -> showHeatmap(ctx.getSource(), DEFAULT_HEATMAP_SIZE, 1))
+                    .then(CommandManager.argument("size", IntegerArgumentType.integer(1, HeatmapEvaluator.MAX_SIZE))
+                        .executes(ctx -> showHeatmap(ctx.getSource(), IntegerArgumentType.getInteger(ctx, "size"), 1))
+                        .then(CommandManager.argument("step", IntegerArgumentType.integer(1, HeatmapEvaluator.MAX_STEP))
+                            .executes(ctx -> showHeatmap(ctx.getSource(),
+                                IntegerArgumentType.getInteger(ctx, "size"), IntegerArgumentType.getInteger(ctx, "step")))
+                        )
+                    )
+                )
+        );
+
+        PrimalCraft.LOGGER.info("[PRIMAL_COMMAND] Primal command registered successfully");
+    }
+
+    private static int showProfile(ServerCommandSource source, int limit) {
+        if (!TickProfiler.isEnabled()) {
+            source.sendError(Text.literal("Profiling is disabled (advanced.performance.profilingEnabled)"));
+            return 0;
+        }
+
+        List<TickProfiler.HandlerStats> stats = TickProfiler.getStats();
+        if (stats.isEmpty()) {
+            source.sendFeedback(() -> Text.literal("No timings recorded yet").formatted(Formatting.GRAY), false);
+            return 0;
+        }
+
+        source.sendFeedback(() -> Text.literal("⏱ Primal Craft handler timings (p50 / p99 / max, µs)")
+            .formatted(Formatting.GOLD), false);
+
+        int shown = Math.min(limit, stats.size());
+        for (int i = 0; i < shown; i++) {
+            TickProfiler.HandlerStats s = stats.get(i);
+            Text line = Text.literal(String.format("%2d. ", i + 1)).formatted(Formatting.DARK_GRAY)
+                .append(Text.literal(s.name()).formatted(Formatting.AQUA))
+                .append(Text.literal(String.format("  %.1f / %.1f / %.1f", s.p50() / 1000.0, s.p99() / 1000.0, s.max() / 1000.0))
+                    .formatted(p99Color(s.p99())))
+                .append(Text.literal(String.format("  (%d calls, %.1fms total)", s.count(), s.totalNanos() / 1_000_000.0))
+                    .formatted(Formatting.GRAY));
+            source.sendFeedback(() -> line, false);
+        }
+
+        PrimalCraft.LOGGER.info("[PRIMAL_COMMAND] Profile displayed to {} ({} of {} handlers)", source.getName(), shown, stats.size());
+        return shown;
+    }
+
+    private static int resetProfile(ServerCommandSource source) {
+        TickProfiler.reset();
+        source.sendFeedback(() -> Text.literal("Profiler timings cleared").formatted(Formatting.GREEN), true);
+        return 1;
+    }
+
+    private static int showHeatmap(ServerCommandSource source, int size, int step) {
+        ServerPlayerEntity player = source.getPlayer();
+        String requester = player != null ? "player:" + player.getUuid() : "command:" + source.getName();
+        ServerWorld world = source.getWorld();
+        BlockPos center = BlockPos.ofFloored(source.getPosition());
+
+        // Capture runs now on the server thread; feedback comes back on it once the kernel finishes
+        HeatmapEvaluator.evaluateAsync(world, center.getX(), center.getZ(), size, step, requester)
+            .whenCompleteAsync((heatmap, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    source.sendError(Text.literal(cause instanceof HeatmapEvaluator.CooldownException
+                        ? cause.getMessage() : "Heatmap failed: " + cause.getMessage()));
+                    return;
+                }
+                int coldest = heatmap.coldest();
+                int hottest = heatmap.hottest();
+                if (coldest < 0) {
+                    source.sendError(Text.literal("No loaded chunks in range"));
+                    return;
+                }
+
+                float[] temps = heatmap.temperatures();
+                double sum = 0.0;
+                int loaded = 0;
+                for (float t : temps) {
+                    if (!Float.isNaN(t)) {
+                        sum += t;
+                        loaded++;
+                    }
+                }
+                double mean = sum / loaded;
+                int loadedColumns = loaded;
+                int span = (heatmap.size() - 1) * heatmap.step() + 1;
+
+                source.sendFeedback(() -> Text.literal(String.format("🌡 Heatmap %dx%d columns (%d blocks across, step %d)",
+                    heatmap.size(), heatmap.size(), span, heatmap.step())).formatted(Formatting.GOLD), false);
+                source.sendFeedback(() -> Text.literal(String.format("  Coldest %.1f°C at %d, %d",
+                    temps[coldest], heatmap.blockX(coldest), heatmap.blockZ(coldest))).formatted(Formatting.AQUA), false);
+                source.sendFeedback(() -> Text.literal(String.format("  Hottest %.1f°C at %d, %d",
+                    temps[hottest], heatmap.blockX(hottest), heatmap.blockZ(hottest))).formatted(Formatting.RED), false);
+                source.sendFeedback(() -> Text.literal(String.format("  Mean %.1f°C over %d loaded columns", mean, loadedColumns))
+                    .formatted(Formatting.WHITE), false);
+                source.sendFeedback(() -> Text.literal(String.format("  %s kernel • capture %.2fms • evaluate %.2fms",
+                    heatmap.kernel(), heatmap.captureNanos() / 1_000_000.0, heatmap.kernelNanos() / 1_000_000.0))
+                    .formatted(Formatting.GRAY), false);
+            }, source.getServer());
+        return 1;
+    }
+
+    private static Formatting p99Color(long nanos) {
+        if (nanos >= 1_000_000) {
+            return Formatting.RED;       // >= 1ms
+        } else if (nanos >= 100_000) {
+            return Formatting.YELLOW;    // >= 100µs
+        }
+        return Formatting.GREEN;
+    }
+}
@@ -7,6 +7,7 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Box;
 import net.minecraft.util.math.Vec3d;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -24,7 +25,7 @@ public class LightningTaskManager {
     public static void init() {
         if (initialized) return;
         initialized = true;
-        ServerTickEvents.END_SERVER_TICK.register(server -> tick(server));
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("LightningTaskManager", server -> tick(server)));
     }
 
     public static void addTask(ServerWorld world, Vec3d pos, int level, int durationTicks, int intervalTicks, UUID excludedPlayer) {
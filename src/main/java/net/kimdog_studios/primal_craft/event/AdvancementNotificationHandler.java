@@ -3,6 +3,7 @@ package net.kimdog_studios.primal_craft.event;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.network.AdvancementNotificationPayload;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.advancement.AdvancementEntry;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -16,12 +17,12 @@ public class AdvancementNotificationHandler {
     private AdvancementNotificationHandler() {}
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("AdvancementNotificationHandler", server -> {
             currentServer = server;
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 checkAndNotifyAdvancements(player, server);
             }
-        });
+        }));
     }
 
     private static void checkAndNotifyAdvancements(ServerPlayerEntity player, MinecraftServer server) {
@@ -4,6 +4,7 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.network.BiomeNotificationPayload;
 import net.kimdog_studios.primal_craft.util.TemperatureSystem;
 import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
@@ -27,7 +28,7 @@ public class BiomeNotificationHandler {
     private static int checkCounter = 0;
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("BiomeNotificationHandler", server -> {
             // Only check biome changes every 20 ticks (1 second) to reduce server load and false positives
             checkCounter++;
             if (checkCounter % 20 != 0) return;
@@ -35,7 +36,7 @@ public class BiomeNotificationHandler {
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 tickPlayer(player);
             }
-        });
+        }));
     }
 
     private static void tickPlayer(ServerPlayerEntity player) {
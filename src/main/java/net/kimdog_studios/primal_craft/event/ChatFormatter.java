@@ -1,7 +1,10 @@
 package net.kimdog_studios.primal_craft.event;
 
 import net.fabricmc.fabric.api.message.v1.ServerMessageEvents;
+import net.kimdog_studios.primal_craft.network.ChatAnimatedPayload;
+import net.kimdog_studios.primal_craft.util.PayloadInterest;
 import net.minecraft.network.message.SignedMessage;
+import net.minecraft.server.PlayerManager;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.minecraft.text.Style;
@@ -10,16 +13,17 @@ import net.minecraft.util.Formatting;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class ChatFormatter {
     private static final Map<UUID, String> roles = new HashMap<>();
-    private static final Pattern MENTION_PATTERN = Pattern.compile("@([a-zA-Z0-9_]+)");
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss");
 
     private ChatFormatter() {}
 
     public static void register() {
+        // Chat stays server-wide
+        PayloadInterest.declare(ChatAnimatedPayload.ID, PayloadInterest.Rule.GLOBAL);
+
         ServerMessageEvents.ALLOW_CHAT_MESSAGE.register((message, sender, params) -> {
             formatAndBroadcast(sender, message);
             return false;
@@ -39,45 +43,20 @@ public final class ChatFormatter {
 
 
         // Get timestamp
-        LocalTime now = LocalTime.now();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss");
-        String timestamp = now.format(formatter);
+        String timestamp = LocalTime.now().format(TIME_FORMAT);
 
         // Get player status
         String statusEmoji = getPlayerStatus(sender);
 
-        // Process message formatting (**bold**, __italic__, ~~strike~~)
-        String formattedMessage = processMessageFormatting(rawMessage);
-
-        // Handle mentions
-        String finalMessage = formattedMessage;
-        Matcher mentionMatcher = MENTION_PATTERN.matcher(finalMessage);
-        StringBuffer sb = new StringBuffer();
+        // Formatting (**bold**, __italic__, ~~strike~~) and mentions in one pass
         List<ServerPlayerEntity> mentionedPlayers = new ArrayList<>();
+        StringBuilder messageToSend = new StringBuilder(rawMessage.length() + 32)
+            .append("§8[").append(timestamp).append("]§r ").append(statusEmoji).append(' ');
+        appendFormatted(messageToSend, rawMessage, 0, rawMessage.length(), server.getPlayerManager(), mentionedPlayers);
 
-        while (mentionMatcher.find()) {
-            String mentionedName = mentionMatcher.group(1);
-            ServerPlayerEntity mentionedPlayer = server.getPlayerManager().getPlayer(mentionedName);
-            if (mentionedPlayer != null) {
-                mentionedPlayers.add(mentionedPlayer);
-                mentionMatcher.appendReplacement(sb, "§b@" + mentionedName + "§r");
-            }
-        }
-        mentionMatcher.appendTail(sb);
-        finalMessage = sb.toString();
-
-        // Get player coordinates
-        String coords = String.format("§7[%d, %d, %d]§r",
-            (int)sender.getX(), (int)sender.getY(), (int)sender.getZ());
-
-        // Build final message with all context - timestamp at the very front
-        String messageToSend = "§8[" + timestamp + "]§r " + statusEmoji + " " + finalMessage;
-
-        // Send to all players
-        server.getPlayerManager().getPlayerList().forEach(p ->
-            net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking.send(p,
-                new net.kimdog_studios.primal_craft.network.ChatAnimatedPayload(role, sender.getName().getString(), messageToSend))
-        );
+        // Encode once, send to everyone the chat interest rule covers
+        PayloadInterest.send(sender,
+            ChatAnimatedPayload.preEncoded(role, sender.getName().getString(), messageToSend.toString()));
 
         // Play sounds
         sender.playSound(net.kimdog_studios.primal_craft.sound.ModSounds.CHAT_SEND, 0.7f, 1.0f);
@@ -99,9 +78,7 @@ public final class ChatFormatter {
         if (command.startsWith("/me ")) {
             String action = command.substring(4);
             String message = "§6* " + sender.getName().getString() + " " + action + "§r";
-            server.getPlayerManager().getPlayerList().forEach(p ->
-                p.sendMessage(Text.literal(message), false)
-            );
+            PayloadInterest.send(sender, ChatAnimatedPayload.preEncoded("SYS", "System", message));
         } else if (command.startsWith("/whisper ") || command.startsWith("/w ")) {
             String[] parts = command.split(" ", 3);
             if (parts.length < 3) {
@@ -112,7 +89,7 @@ public final class ChatFormatter {
             String message = parts[2];
             ServerPlayerEntity target = server.getPlayerManager().getPlayer(targetName);
             if (target != null) {
-                String timestamp = LocalTime.now().format(DateTimeFormatter.ofPattern("HH:mm:ss"));
+                String timestamp = LocalTime.now().format(TIME_FORMAT);
                 String dmMessage = "§5[WHISPER] [" + timestamp + "] " + sender.getName().getString() + "§5: " + message;
                 target.sendMessage(Text.literal(dmMessage), false);
                 sender.sendMessage(Text.literal(dmMessage), false);
@@ -134,17 +111,49 @@ public final class ChatFormatter {
         }
     }
 
-    private static String processMessageFormatting(String message) {
-        // Bold: **text** -> §ltext§r
-        message = message.replaceAll("\\*\\*([^*]+)\\*\\*", "§l$1§r");
-
-        // Italic: __text__ -> §otext§r
-        message = message.replaceAll("__([^_]+)__", "§o$1§r");
-
-        // Strikethrough: ~~text~~ -> §mtext§r
-        message = message.replaceAll("~~([^~]+)~~", "§m$1§r");
+    /**
+     * Appends text[from, to) with chat markup applied in a single pass:
+     * **bold** -> §l, __italic__ -> §o, ~~strike~~ -> §m (non-empty, without the marker
+     * character inside; spans may nest), and @name -> §b@name§r for online players,
+     * who are added to {@code mentioned}.
+     */
+    private static void appendFormatted(StringBuilder out, String text, int from, int to,
+                                        PlayerManager players, List<ServerPlayerEntity> mentioned) {
+        int i = from;
+        while (i < to) {
+            char c = text.charAt(i);
+            if ((c == '*' || c == '_' || c == '~') && i + 1 < to && text.charAt(i + 1) == c) {
+                int end = i + 2;
+                while (end < to && text.charAt(end) != c) {
+                    end++;
+                }
+                if (end > i + 2 && end + 1 < to && text.charAt(end + 1) == c) {
+                    out.append(c == '*' ? "§l" : c == '_' ? "§o" : "§m");
+                    appendFormatted(out, text, i + 2, end, players, mentioned);
+                    out.append("§r");
+                    i = end + 2;
+                    continue;
+                }
+            } else if (c == '@') {
+                int end = i + 1;
+                while (end < to && isNameChar(text.charAt(end))) {
+                    end++;
+                }
+                ServerPlayerEntity player = end > i + 1 ? players.getPlayer(text.substring(i + 1, end)) : null;
+                if (player != null) {
+                    mentioned.add(player);
+                    out.append("§b").append(text, i, end).append("§r");
+                    i = end;
+                    continue;
+                }
+            }
+            out.append(c);
+            i++;
+        }
+    }
 
-        return message;
+    private static boolean isNameChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 
     public static void setRole(ServerPlayerEntity player, String role) {
@@ -5,6 +5,7 @@ import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Day/Night intensity system - affects recovery and player abilities
@@ -13,11 +14,11 @@ import net.minecraft.server.world.ServerWorld;
  */
 public class DayNightCycleHandler {
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("DayNightCycleHandler", server -> {
             server.getPlayerManager().getPlayerList().forEach(player -> {
                 tickDayNightEffects(player);
             });
-        });
+        }));
     }
 
     private static void tickDayNightEffects(ServerPlayerEntity player) {
@@ -4,17 +4,18 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Day/Night Cycle Overhaul - Day gives benefits, night is threatening
  */
 public class DayNightOverhaulHandler {
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("DayNightOverhaulHandler", server -> {
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 tickDayNight(player);
             }
-        });
+        }));
     }
 
     private static void tickDayNight(ServerPlayerEntity player) {
@@ -4,6 +4,7 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.util.DifficultySystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import java.util.HashMap;
 import java.util.Map;
@@ -32,7 +33,7 @@ public final class DifficultyMetricsHandler {
 
         try {
             // Register tick handler to detect deaths
-            ServerTickEvents.END_SERVER_TICK.register(server -> {
+            ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("DifficultyMetricsHandler", server -> {
                 for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                     try {
                         float currentHealth = player.getHealth();
@@ -49,11 +50,11 @@ public final class DifficultyMetricsHandler {
                         PrimalCraft.LOGGER.error("[DIFFICULTY_METRICS] Error processing player metrics", e);
                     }
                 }
-            });
+            }));
             PrimalCraft.LOGGER.debug("   ├─ Registered death tracking");
 
             // Register block break tracking (proxy for resource gathering)
-            PlayerBlockBreakEvents.AFTER.register((world, player, pos, state, blockEntity) -> {
+            PlayerBlockBreakEvents.AFTER.register(TickProfiler.afterBlockBreak("DifficultyMetricsHandler.afterBlockBreak", (world, player, pos, state, blockEntity) -> {
                 if (player instanceof ServerPlayerEntity serverPlayer) {
                     try {
                         // Track resource gathering
@@ -62,7 +63,7 @@ public final class DifficultyMetricsHandler {
                         PrimalCraft.LOGGER.error("[DIFFICULTY_METRICS] Error tracking block break", e);
                     }
                 }
-            });
+            }));
             PrimalCraft.LOGGER.debug("   ├─ Registered block break tracking");
 
             long elapsed = System.currentTimeMillis() - startTime;
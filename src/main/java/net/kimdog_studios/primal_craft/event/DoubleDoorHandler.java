@@ -11,6 +11,7 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.world.World;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Double Doors Handler
@@ -36,7 +37,7 @@ public final class DoubleDoorHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🚪 [DOUBLE_DOORS] Registering Double Doors Handler");
 
-        UseBlockCallback.EVENT.register(DoubleDoorHandler::onUseBlock);
+        UseBlockCallback.EVENT.register(TickProfiler.useBlock("DoubleDoorHandler.useBlock", DoubleDoorHandler::onUseBlock));
 
         PrimalCraft.LOGGER.info("✅ [DOUBLE_DOORS] Double Doors Handler registered");
     }
@@ -4,6 +4,7 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
 import net.kimdog_studios.primal_craft.util.ThirstSystem;
 import net.kimdog_studios.primal_craft.util.WaterCarryTracker;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -14,14 +15,14 @@ public final class DrinkWaterBottleHandler {
 
     public static void register() {
         // Track carried water bottles every server tick
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("DrinkWaterBottleHandler", server -> {
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 WaterCarryTracker.tick(player);
             }
-        });
+        }));
 
         // Drink handler
-        UseItemCallback.EVENT.register((player, world, hand) -> {
+        UseItemCallback.EVENT.register(TickProfiler.useItem("DrinkWaterBottleHandler.useItem", (player, world, hand) -> {
             if (world.isClient()) return ActionResult.PASS;
             if (!(player instanceof ServerPlayerEntity serverPlayer)) return ActionResult.PASS;
 
@@ -49,6 +50,6 @@ public final class DrinkWaterBottleHandler {
             }
 
             return ActionResult.PASS;
-        });
+        }));
     }
 }
@@ -12,6 +12,7 @@ import net.minecraft.util.Hand;
 import net.minecraft.world.World;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Easy Elytra Takeoff Handler
@@ -37,7 +38,7 @@ public final class EasyElytraTakeoffHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🛫 [ELYTRA] Registering Easy Elytra Takeoff Handler");
 
-        UseItemCallback.EVENT.register(EasyElytraTakeoffHandler::onUseItem);
+        UseItemCallback.EVENT.register(TickProfiler.useItem("EasyElytraTakeoffHandler.useItem", EasyElytraTakeoffHandler::onUseItem));
 
         PrimalCraft.LOGGER.info("✅ [ELYTRA] Easy Elytra Takeoff Handler registered");
     }
@@ -9,6 +9,7 @@ import net.minecraft.world.World;
 import net.minecraft.world.dimension.DimensionTypes;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Ender Dragon Redesign Handler
@@ -42,7 +43,7 @@ public final class EnderDragonRedesignHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🐉 [DRAGON_REDESIGN] Registering Ender Dragon Redesign Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(EnderDragonRedesignHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("EnderDragonRedesignHandler", EnderDragonRedesignHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [DRAGON_REDESIGN] Ender Dragon Redesign Handler registered");
     }
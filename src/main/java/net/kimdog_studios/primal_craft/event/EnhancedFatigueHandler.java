@@ -4,6 +4,7 @@ import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Enhanced Fatigue system - players get tired from constant activity
@@ -14,11 +15,11 @@ public class EnhancedFatigueHandler {
     private static final int MAX_FATIGUE = 100;
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("EnhancedFatigueHandler", server -> {
             server.getPlayerManager().getPlayerList().forEach(player -> {
                 tickFatigue(player);
             });
-        });
+        }));
     }
 
     private static void tickFatigue(ServerPlayerEntity player) {
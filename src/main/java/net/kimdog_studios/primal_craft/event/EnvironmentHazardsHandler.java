@@ -1,9 +1,10 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.kimdog_studios.primal_craft.util.LoggingHelper;
+import net.kimdog_studios.primal_craft.util.PlayerEnvironment;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 import java.util.HashMap;
@@ -29,39 +30,33 @@ public class EnvironmentHazardsHandler {
         LoggingHelper.logSubsection("Altitude hazard detection (high altitude effects)");
         LoggingHelper.logSubsection("Weather hazard tracking and alerts");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            // Check if environmental hazards are enabled
-            if (!PrimalCraftConfig.getGameplay().environmentalHazardsEnabled) {
-                return; // Skip processing if disabled
-            }
-
-            hazardTicks++;
-            int playerCount = server.getPlayerManager().getPlayerList().size();
-
-            if (hazardTicks % 200 == 0) {
-                PrimalCraft.LOGGER.info("📊 [HAZARD_STATS] Tick #{} - Players: {} | Biome Changes: {} | Warnings: {} | Altitude: {}",
-                    hazardTicks, playerCount, biomeChangeEvents, hazardWarnings, altitudeWarnings);
-            }
+        SurvivalTickPipeline.registerStage("environment_hazards", 700,
+            () -> PrimalCraftConfig.getGameplay().environmentalHazardsEnabled,
+            server -> {
+                hazardTicks++;
+                int playerCount = server.getPlayerManager().getPlayerList().size();
 
-            if (hazardTicks % 100 == 0) {
-                PrimalCraft.LOGGER.trace("⏱️  [HAZARD_TICK] Tick #{} - Processing {} players for hazards",
-                    hazardTicks, playerCount);
-            }
+                if (hazardTicks % 200 == 0) {
+                    PrimalCraft.LOGGER.info("📊 [HAZARD_STATS] Tick #{} - Players: {} | Biome Changes: {} | Warnings: {} | Altitude: {}",
+                        hazardTicks, playerCount, biomeChangeEvents, hazardWarnings, altitudeWarnings);
+                }
 
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                tickHazards(player);
-            }
-        });
+                if (hazardTicks % 100 == 0) {
+                    PrimalCraft.LOGGER.trace("⏱️  [HAZARD_TICK] Tick #{} - Processing {} players for hazards",
+                        hazardTicks, playerCount);
+                }
+            },
+            EnvironmentHazardsHandler::tickHazards);
 
         PrimalCraft.LOGGER.info("✅ [ENVIRONMENT_HAZARDS] EnvironmentHazardsHandler registered successfully");
     }
 
-    private static void tickHazards(ServerPlayerEntity player) {
+    private static void tickHazards(ServerPlayerEntity player, PlayerEnvironment env) {
         UUID id = player.getUuid();
 
         // Use TemperatureSystem to apply environmental hazards
-        double temp = net.kimdog_studios.primal_craft.util.TemperatureSystem.getEffectiveTemperature(player);
-        String biome = player.getEntityWorld().getBiome(player.getBlockPos()).getKey().map(k -> k.getValue().getPath()).orElse("unknown");
+        double temp = env.effectiveTemperature();
+        String biome = env.biome();
         String previousBiome = lastBiome.getOrDefault(id, biome);
         int altitude = (int) player.getY();
         int lastAlt = lastAltitude.getOrDefault(id, altitude);
@@ -5,6 +5,7 @@ import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Environmental hazards - random events and environmental effects
@@ -12,11 +13,11 @@ import net.minecraft.server.world.ServerWorld;
  */
 public class EnvironmentalDangerHandler {
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("EnvironmentalDangerHandler", server -> {
             server.getPlayerManager().getPlayerList().forEach(player -> {
                 tickEnvironmentalHazards(player);
             });
-        });
+        }));
     }
 
     private static void tickEnvironmentalHazards(ServerPlayerEntity player) {
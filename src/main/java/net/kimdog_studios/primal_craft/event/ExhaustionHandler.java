@@ -1,8 +1,9 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.util.LoggingHelper;
+import net.kimdog_studios.primal_craft.util.PlayerEnvironment;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 import java.util.HashMap;
@@ -26,29 +27,27 @@ public class ExhaustionHandler {
         LoggingHelper.logSubsection("Tracking player movement and activity fatigue");
         LoggingHelper.logSubsection("Warning thresholds: 33%, 66%, 100%");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            exhaustionTicks++;
-            int playerCount = server.getPlayerManager().getPlayerList().size();
+        SurvivalTickPipeline.registerStage("exhaustion", 600, SurvivalTickPipeline.ALWAYS,
+            server -> {
+                exhaustionTicks++;
+                int playerCount = server.getPlayerManager().getPlayerList().size();
 
-            if (exhaustionTicks % 200 == 0) {
-                PrimalCraft.LOGGER.info("📊 [EXHAUSTION_STATS] Tick #{} - Players: {} | Updates: {} | Breaches: {}",
-                    exhaustionTicks, playerCount, exhaustionUpdates, thresholdBreaches);
-            }
-
-            if (exhaustionTicks % 100 == 0) {
-                PrimalCraft.LOGGER.trace("⏱️  [EXHAUSTION_TICK] Tick #{} - Processing {} players",
-                    exhaustionTicks, playerCount);
-            }
+                if (exhaustionTicks % 200 == 0) {
+                    PrimalCraft.LOGGER.info("📊 [EXHAUSTION_STATS] Tick #{} - Players: {} | Updates: {} | Breaches: {}",
+                        exhaustionTicks, playerCount, exhaustionUpdates, thresholdBreaches);
+                }
 
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                tickExhaustion(player);
-            }
-        });
+                if (exhaustionTicks % 100 == 0) {
+                    PrimalCraft.LOGGER.trace("⏱️  [EXHAUSTION_TICK] Tick #{} - Processing {} players",
+                        exhaustionTicks, playerCount);
+                }
+            },
+            ExhaustionHandler::tickExhaustion);
 
         PrimalCraft.LOGGER.info("✅ [EXHAUSTION] ExhaustionHandler registered successfully");
     }
 
-    private static void tickExhaustion(ServerPlayerEntity player) {
+    private static void tickExhaustion(ServerPlayerEntity player, PlayerEnvironment env) {
         UUID id = player.getUuid();
         double exhaustion = EXHAUSTION.getOrDefault(id, 0.0);
         double lastExhaustion = LAST_EXHAUSTION.getOrDefault(id, 0.0);
@@ -8,6 +8,7 @@ import net.minecraft.world.Difficulty;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.kimdog_studios.primal_craft.util.DifficultySystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Hardcore/World Difficulty Handler
@@ -39,7 +40,7 @@ public final class HardcoreDifficultyHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🏆 [HARDCORE_DIFFICULTY] Registering Hardcore Mode Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(HardcoreDifficultyHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("HardcoreDifficultyHandler", HardcoreDifficultyHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [HARDCORE_DIFFICULTY] Handler registered successfully");
     }
@@ -1,9 +1,10 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.kimdog_studios.primal_craft.util.LoggingHelper;
+import net.kimdog_studios.primal_craft.util.PlayerEnvironment;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 import java.util.HashMap;
@@ -28,30 +29,27 @@ public class HungerOverhaulHandler {
         LoggingHelper.logSubsection("Implementing custom hunger mechanics");
         LoggingHelper.logSubsection("Features: Faster depletion, Activity-based drain, Healing modifiers");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        SurvivalTickPipeline.registerStage("hunger_overhaul", 500, SurvivalTickPipeline.ALWAYS,
+            server -> {
+                hungerTicks++;
+                int playerCount = server.getPlayerManager().getPlayerList().size();
 
-            hungerTicks++;
-            int playerCount = server.getPlayerManager().getPlayerList().size();
+                if (hungerTicks % 200 == 0) {
+                    PrimalCraft.LOGGER.info("📊 [HUNGER_OVERHAUL_STATS] Tick #{} - Players: {} | Changes: {} | Drains: {}",
+                        hungerTicks, playerCount, hungerChangeEvents, drainApplications);
+                }
 
-            if (hungerTicks % 200 == 0) {
-                PrimalCraft.LOGGER.info("📊 [HUNGER_OVERHAUL_STATS] Tick #{} - Players: {} | Changes: {} | Drains: {}",
-                    hungerTicks, playerCount, hungerChangeEvents, drainApplications);
-            }
-
-            if (hungerTicks % 100 == 0) {
-                PrimalCraft.LOGGER.trace("⏱️  [HUNGER_TICK] Tick #{} - Processing {} players",
-                    hungerTicks, playerCount);
-            }
-
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                tickHunger(player);
-            }
-        });
+                if (hungerTicks % 100 == 0) {
+                    PrimalCraft.LOGGER.trace("⏱️  [HUNGER_TICK] Tick #{} - Processing {} players",
+                        hungerTicks, playerCount);
+                }
+            },
+            HungerOverhaulHandler::tickHunger);
 
         PrimalCraft.LOGGER.info("✅ [HUNGER_OVERHAUL] HungerOverhaulHandler registered successfully");
     }
 
-    private static void tickHunger(ServerPlayerEntity player) {
+    private static void tickHunger(ServerPlayerEntity player, PlayerEnvironment env) {
         UUID id = player.getUuid();
         int currentHunger = player.getHungerManager().getFoodLevel();
         float currentSaturation = player.getHungerManager().getSaturationLevel();
@@ -7,6 +7,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.village.VillagerProfession;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Infinite Trading System
@@ -31,7 +32,7 @@ public final class InfiniteTradingHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("💰 [INFINITE_TRADE] Registering Infinite Trading Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(InfiniteTradingHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("InfiniteTradingHandler", InfiniteTradingHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [INFINITE_TRADE] Infinite Trading Handler registered");
     }
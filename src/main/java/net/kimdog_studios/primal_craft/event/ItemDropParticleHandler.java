@@ -8,6 +8,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.particle.ParticleTypes;
 
 import java.util.HashSet;
@@ -38,7 +39,7 @@ public final class ItemDropParticleHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("✨ [ITEM_PARTICLES] Registering Item Drop Particle Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(ItemDropParticleHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("ItemDropParticleHandler", ItemDropParticleHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [ITEM_PARTICLES] Item Drop Particle Handler registered");
     }
@@ -8,6 +8,7 @@ import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Box;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 import java.util.List;
 
@@ -39,7 +40,7 @@ public final class MobAggressionHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🔥 [MOB_AGGRESSION] Registering Aggressive Mob Scaling Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(MobAggressionHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("MobAggressionHandler", MobAggressionHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [MOB_AGGRESSION] Aggressive Mob Scaling Handler registered");
     }
@@ -1,6 +1,5 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
 import net.minecraft.entity.mob.MobEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
@@ -9,6 +8,8 @@ import net.minecraft.util.ActionResult;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.kimdog_studios.primal_craft.util.DifficultySystem;
+import net.kimdog_studios.primal_craft.util.TickScheduler;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.World;
@@ -41,6 +42,7 @@ public final class MobDifficultyHandler {
     // ═══════════════════════════════════════════════════════════════════════════════
 
     private static final Map<UUID, MobScalingData> MOB_SCALING_CACHE = new HashMap<>();
+    private static final int MOB_SCAN_CADENCE_TICKS = 20;
     private static final Random LOOT_RANDOM = new Random();
 
     // ═══════════════════════════════════════════════════════════════════════════════
@@ -129,7 +131,7 @@ public final class MobDifficultyHandler {
 
         try {
             // Register attack handler
-            AttackEntityCallback.EVENT.register((player, world, hand, entity, hitResult) -> {
+            AttackEntityCallback.EVENT.register(TickProfiler.attackEntity("MobDifficultyHandler.attackEntity", (player, world, hand, entity, hitResult) -> {
                 if (entity instanceof MobEntity mob && player instanceof ServerPlayerEntity serverPlayer) {
                     try {
                         float multiplier = DifficultySystem.getDifficultyMultiplier(serverPlayer, "mob");
@@ -138,20 +140,13 @@ public final class MobDifficultyHandler {
                     }
                 }
                 return ActionResult.PASS;
-            });
+            }));
             PrimalCraft.LOGGER.debug("   ├─ Attack event handler registered");
 
             // Register tick handler
-            ServerTickEvents.END_SERVER_TICK.register(server -> {
-                try {
-                    for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                        updateNearbyMobDifficulty(player);
-                    }
-                } catch (Exception e) {
-                    PrimalCraft.LOGGER.error("[MOB_DIFFICULTY] Error updating mobs", e);
-                }
-            });
-            PrimalCraft.LOGGER.debug("   ├─ Tick event handler registered");
+            // Entity scan is expensive - run once per second per player, staggered across ticks
+            TickScheduler.schedule("mob_difficulty", MOB_SCAN_CADENCE_TICKS, MobDifficultyHandler::updateNearbyMobDifficulty);
+            PrimalCraft.LOGGER.debug("   ├─ Scheduled mob scan every {} ticks", MOB_SCAN_CADENCE_TICKS);
 
             long elapsed = System.currentTimeMillis() - startTime;
             PrimalCraft.LOGGER.info("✅ [MOB_DIFFICULTY] Advanced system initialized in {}ms", elapsed);
@@ -9,6 +9,7 @@ import net.minecraft.util.math.Box;
 import net.minecraft.world.World;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Nether Dimension Overhaul
@@ -42,7 +43,7 @@ public final class NetherOverhaulHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🔥 [NETHER_OVERHAUL] Registering Nether Dimension Overhaul Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(NetherOverhaulHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("NetherOverhaulHandler", NetherOverhaulHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [NETHER_OVERHAUL] Nether Dimension Overhaul Handler registered");
     }
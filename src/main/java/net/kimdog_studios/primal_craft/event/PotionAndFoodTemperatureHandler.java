@@ -2,6 +2,7 @@ package net.kimdog_studios.primal_craft.event;
 
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
 import net.kimdog_studios.primal_craft.api.TemperatureAPI;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.item.Item;
@@ -14,7 +15,7 @@ public final class PotionAndFoodTemperatureHandler {
     private PotionAndFoodTemperatureHandler() {}
 
     public static void register() {
-        UseItemCallback.EVENT.register((player, world, hand) -> {
+        UseItemCallback.EVENT.register(TickProfiler.useItem("PotionAndFoodTemperatureHandler.useItem", (player, world, hand) -> {
             if (world.isClient()) return ActionResult.PASS;
             if (!(player instanceof ServerPlayerEntity sp)) return ActionResult.PASS;
 
@@ -46,7 +47,7 @@ public final class PotionAndFoodTemperatureHandler {
             // }
 
             return ActionResult.PASS;
-        });
+        }));
     }
 
     private static int findSlotIndex(ServerPlayerEntity sp, ItemStack target) {
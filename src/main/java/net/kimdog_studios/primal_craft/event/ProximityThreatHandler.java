@@ -1,11 +1,12 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.entity.mob.HostileEntity;
 import net.minecraft.server.world.ServerWorld;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
 
 /**
  * Proximity awareness - players sense nearby threats
@@ -13,11 +14,9 @@ import net.minecraft.server.world.ServerWorld;
  */
 public class ProximityThreatHandler {
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            server.getPlayerManager().getPlayerList().forEach(player -> {
-                tickProximityThreat(player);
-            });
-        });
+        SurvivalTickPipeline.registerStage("proximity_threat", 760,
+            () -> PrimalCraftConfig.getAdvanced().features.proximityThreat,
+            (player, env) -> tickProximityThreat(player));
     }
 
     private static void tickProximityThreat(ServerPlayerEntity player) {
@@ -15,6 +15,7 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Right-Click Harvester
@@ -40,7 +41,7 @@ public final class RightClickHarvesterHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🌾 [HARVESTER] Registering Right-Click Harvester Handler");
 
-        UseBlockCallback.EVENT.register(RightClickHarvesterHandler::onUseBlock);
+        UseBlockCallback.EVENT.register(TickProfiler.useBlock("RightClickHarvesterHandler.useBlock", RightClickHarvesterHandler::onUseBlock));
 
         PrimalCraft.LOGGER.info("✅ [HARVESTER] Right-Click Harvester Handler registered");
     }
@@ -1,11 +1,12 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.PlayerEnvironment;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
-import net.minecraft.util.math.BlockPos;
 
 /**
  * Sanity system - players lose sanity from darkness and danger
@@ -16,18 +17,16 @@ public class SanityHandler {
     private static final int MAX_SANITY = 100;
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            server.getPlayerManager().getPlayerList().forEach(player -> {
-                tickSanity(player);
-            });
-        });
+        SurvivalTickPipeline.registerStage("sanity", 750,
+            () -> PrimalCraftConfig.getAdvanced().features.sanity,
+            SanityHandler::tickSanity);
     }
 
-    private static void tickSanity(ServerPlayerEntity player) {
+    private static void tickSanity(ServerPlayerEntity player, PlayerEnvironment env) {
         int sanity = playerSanity.getOrDefault(player, MAX_SANITY);
 
         // Lose sanity in darkness
-        int lightLevel = ((ServerWorld) player.getEntityWorld()).getLightLevel(player.getBlockPos());
+        int lightLevel = ((ServerWorld) player.getEntityWorld()).getLightLevel(env.blockPos());
         if(lightLevel < 5) sanity -= 2;
 
         // Lose sanity when low on health
@@ -3,6 +3,7 @@ package net.kimdog_studios.primal_craft.event;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.network.OpenSignEditorPayload;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.SignBlock;
 import net.minecraft.block.entity.BlockEntity;
@@ -16,7 +17,7 @@ import net.minecraft.world.World;
 public class SignEditorHandler {
 
     public static void register() {
-        UseBlockCallback.EVENT.register(SignEditorHandler::onBlockUse);
+        UseBlockCallback.EVENT.register(TickProfiler.useBlock("SignEditorHandler.useBlock", SignEditorHandler::onBlockUse));
     }
 
     private static ActionResult onBlockUse(PlayerEntity player, World world, Hand hand, BlockHitResult hitResult) {
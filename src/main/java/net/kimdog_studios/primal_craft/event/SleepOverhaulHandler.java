@@ -8,6 +8,7 @@ import net.minecraft.entity.player.PlayerInventory;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.text.Text;
 import net.kimdog_studios.primal_craft.item.ModItems;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Sleep Overhaul - custom rules: must wear pajamas (top and bottoms) and have an empty inventory to sleep.
@@ -32,14 +33,14 @@ public class SleepOverhaulHandler {
         });
 
         // Failsafe: if player somehow starts sleeping without meeting rules, kick them out
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("SleepOverhaulHandler", server -> {
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 if (player.isSleeping() && (!isWearingSleepPajamas(player) || !isInventoryEmptyForSleep(player))) {
                     player.wakeUp();
                     player.sendMessage(Text.literal("Sleep cancelled: wear pajamas and empty inventory."), true);
                 }
             }
-        });
+        }));
     }
 
     private static boolean isWearingHeadItem(ServerPlayerEntity player) {
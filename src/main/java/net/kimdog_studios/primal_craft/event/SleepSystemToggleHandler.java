@@ -6,6 +6,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * 🎮 Primal Craft - Sleep System Toggle Handler
@@ -25,7 +26,7 @@ public final class SleepSystemToggleHandler {
     public static void register() {
         PrimalCraft.LOGGER.info("🛏️  [SLEEP_SYSTEM] Registering Sleep System Toggle Handler");
 
-        ServerTickEvents.END_SERVER_TICK.register(SleepSystemToggleHandler::onServerTick);
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("SleepSystemToggleHandler", SleepSystemToggleHandler::onServerTick));
 
         PrimalCraft.LOGGER.info("✅ [SLEEP_SYSTEM] Sleep System Toggle Handler registered");
     }
@@ -1,11 +1,13 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
 import net.fabricmc.fabric.api.event.player.AttackBlockCallback;
 import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
 import net.fabricmc.fabric.api.event.player.UseBlockCallback;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.kimdog_studios.primal_craft.network.SprintCooldownPayload;
 import net.kimdog_studios.primal_craft.util.*;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -14,7 +16,6 @@ import net.minecraft.util.hit.BlockHitResult;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.Vec3d;
-import net.minecraft.world.World;
 
 import java.util.Map;
 import java.util.UUID;
@@ -36,7 +37,7 @@ public final class StaminaHooks {
     private static final Map<UUID, Integer> lastSprintChargeTick = new ConcurrentHashMap<>();
     private static final Map<UUID, Boolean> lastOnGround = new ConcurrentHashMap<>();
     private static final Map<UUID, Vec3d> lastPosition = new ConcurrentHashMap<>();
-    private static final Map<UUID, Integer> sprintCooldownTick = new ConcurrentHashMap<>();
+    private static final Map<UUID, Long> sprintCooldownUntil = new ConcurrentHashMap<>(); // World time the cooldown ends
 
     private static int ticksProcessed = 0;
     private static int sprintsTriggered = 0;
@@ -53,143 +54,41 @@ public final class StaminaHooks {
         PrimalCraft.LOGGER.info("╚════════════════════════════════════════════════════════════╝");
 
         try {
-            // Per-player tick via server tick
-            ServerTickEvents.END_SERVER_TICK.register(server -> {
-                int tick = server.getTicks();
-                int playerCount = server.getPlayerManager().getPlayerList().size();
-
-                PrimalCraft.LOGGER.trace("📍 [SERVER_TICK] Tick #{} - Processing {} players", tick, playerCount);
-
-                for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                    World world = player.getEntityWorld();
-                    UUID id = player.getUuid();
-                    ticksProcessed++;
-
-                    // Update cooldown
-                    int cooldownTick = sprintCooldownTick.getOrDefault(id, 0);
-                    if (cooldownTick > 0) {
-                        sprintCooldownTick.put(id, cooldownTick - 1);
-                        PrimalCraft.LOGGER.trace("   ├─ [COOLDOWN] {} cooldown: {} -> {}",
-                            player.getName().getString(), cooldownTick, cooldownTick - 1);
-                        ServerPlayNetworking.send(player, new SprintCooldownPayload(cooldownTick - 1));
-                    } else if (cooldownTick == 0 && tick % 5 == 0) {
-                        PrimalCraft.LOGGER.trace("   ├─ [SYNC] Syncing sprint cooldown to client: 0");
-                        ServerPlayNetworking.send(player, new SprintCooldownPayload(0));
+            // Per-player stage in the shared survival tick pipeline
+            SurvivalTickPipeline.registerStage("stamina_hooks", 200,
+                () -> PrimalCraftConfig.getGameplay().staminaSystemEnabled,
+                server -> {
+                    int tick = server.getTicks();
+                    int playerCount = server.getPlayerManager().getPlayerList().size();
+
+                    PrimalCraft.LOGGER.trace("📍 [SERVER_TICK] Tick #{} - Processing {} players", tick, playerCount);
+
+                    if (tick % 100 == 0) {
+                        PrimalCraft.LOGGER.debug("📊 [TICK STATS] Processed {} ticks with {} sprints, {} jumps, {} attacks, {} breaks, {} uses",
+                            ticksProcessed, sprintsTriggered, jumpsTriggered, attacksTriggered, blockBreaksTriggered, blockUsesTriggered);
                     }
+                },
+                StaminaHooks::tickPlayer);
 
-                    // Get weight penalty based on inventory
-                    double weightPenalty = ItemWeightSystem.calculateInventoryWeightPenalty(player);
-                    PrimalCraft.LOGGER.trace("   ├─ [WEIGHT] {} weight penalty: {}",
-                        player.getName().getString(), String.format("%.2f%%", weightPenalty * 100));
-
-                    // Get all multipliers
-                    double potionMultiplier = StaminaPotionEffects.getDrainMultiplier(player);
-                    double currentTemp = TemperatureSystem.getPlayerTemperature(player);
-                    double tempMultiplier = TemperatureSystem.getTemperatureStaminaMultiplier(currentTemp);
-                    double envMultiplier = 1.0;
-                    double armorMultiplier = 1.0;
-
-                    PrimalCraft.LOGGER.trace("   ├─ [MULTIPLIERS] Potion: {}, Temp: {} ({}°C), Env: {}, Armor: {}",
-                        String.format("%.2f", potionMultiplier), String.format("%.2f", tempMultiplier),
-                        String.format("%.1f", currentTemp), String.format("%.2f", envMultiplier),
-                        String.format("%.2f", armorMultiplier));
-
-                    // Get current position
-                    Vec3d currentPos = new Vec3d(player.getX(), player.getY(), player.getZ());
-                    Vec3d lastPos = lastPosition.getOrDefault(id, currentPos);
-                    double distanceMoved = currentPos.squaredDistanceTo(lastPos);
-                    lastPosition.put(id, currentPos);
-
-                    PrimalCraft.LOGGER.trace("   ├─ [POSITION] Moved: {} blocks", String.format("%.3f", Math.sqrt(distanceMoved)));
-
-                    // Sprint drain every tick while sprinting
-                    if (player.isSprinting()) {
-                        double currentStamina = StaminaSystem.get(player);
-                        PrimalCraft.LOGGER.trace("   ├─ [SPRINT] Current stamina: {}", String.format("%.1f", currentStamina));
-
-                        if (currentStamina < SPRINT_MIN_STAMINA) {
-                            PrimalCraft.LOGGER.debug("   │  ⚠️  [SPRINT] Below minimum stamina ({}), stopping sprint",
-                                String.format("%.1f", SPRINT_MIN_STAMINA));
-                            player.setSprinting(false);
-                        } else if (sprintCooldownTick.getOrDefault(id, 0) > 0) {
-                            PrimalCraft.LOGGER.trace("   │  ⚠️  [SPRINT] In cooldown, stopping sprint");
-                            player.setSprinting(false);
-                        } else if (distanceMoved > 0.0001) {
-                            double sprintCost = COST_SPRINT_TICK * (1.0 + weightPenalty) * potionMultiplier * tempMultiplier * envMultiplier * armorMultiplier;
-                            PrimalCraft.LOGGER.trace("   │  ⚡ [SPRINT] Cost calculation: {} * (1.0 + {}) * {} * {} = {}",
-                                COST_SPRINT_TICK, String.format("%.2f", weightPenalty),
-                                String.format("%.2f", potionMultiplier), String.format("%.2f", tempMultiplier),
-                                String.format("%.2f", sprintCost));
-
-                            if (!StaminaSystem.tryConsume(player, sprintCost)) {
-                                sprintsTriggered++;
-                                PrimalCraft.LOGGER.debug("   │  ✗ [SPRINT] Failed to consume {}, starting cooldown (Event #{})",
-                                    String.format("%.2f", sprintCost), sprintsTriggered);
-                                player.setSprinting(false);
-                                sprintCooldownTick.put(id, SPRINT_COOLDOWN_TICKS);
-                            } else {
-                                PrimalCraft.LOGGER.trace("   │  ✓ [SPRINT] Consumed {} stamina", String.format("%.2f", sprintCost));
-                            }
-                        }
-                    } else {
-                        // Walking movement drain
-                        if (distanceMoved > 0.0001 && !player.isSwimming() && !player.isClimbing()) {
-                            double movementCost = (COST_MOVEMENT + weightPenalty * 0.5);
-                            PrimalCraft.LOGGER.trace("   ├─ [MOVEMENT] Cost: {}", String.format("%.2f", movementCost));
-                            StaminaSystem.tryConsume(player, movementCost);
-                        }
-                    }
-
-                    // Swimming drain
-                    if (player.isSwimming()) {
-                        double swimCost = COST_SWIM * (1.0 + weightPenalty * 0.5);
-                        PrimalCraft.LOGGER.trace("   ├─ [SWIM] Cost: {}", String.format("%.2f", swimCost));
-                        StaminaSystem.tryConsume(player, swimCost);
-                    }
-
-                    // Climbing drain
-                    if (player.isClimbing()) {
-                        double climbCost = COST_CLIMB * (1.0 + weightPenalty);
-                        PrimalCraft.LOGGER.trace("   ├─ [CLIMB] Cost: {}", String.format("%.2f", climbCost));
-                        StaminaSystem.tryConsume(player, climbCost);
-                    }
+            PrimalCraft.LOGGER.debug("✓ Survival pipeline stage registered");
 
-                    // Crouching drain
-                    if (player.isInSneakingPose()) {
-                        double crouchCost = COST_CROUCH * (1.0 + weightPenalty * 0.3);
-                        PrimalCraft.LOGGER.trace("   ├─ [CROUCH] Cost: {}", String.format("%.2f", crouchCost));
-                        StaminaSystem.tryConsume(player, crouchCost);
-                    }
-
-                    // Jump detection
-                    boolean onGround = player.isOnGround();
-                    boolean wasOnGround = lastOnGround.getOrDefault(id, true);
-                    if (wasOnGround && !onGround) {
-                        jumpsTriggered++;
-                        double jumpCost = COST_JUMP * (1.0 + weightPenalty);
-                        PrimalCraft.LOGGER.debug("📍 [JUMP] Event #{} for {}", jumpsTriggered, player.getName().getString());
-                        PrimalCraft.LOGGER.trace("   ├─ Cost: {}", String.format("%.2f", jumpCost));
-
-                        if (!StaminaSystem.tryConsume(player, jumpCost)) {
-                            PrimalCraft.LOGGER.debug("   ├─ ✗ Insufficient stamina, canceling jump");
-                            player.setVelocity(player.getVelocity().x, Math.min(0, player.getVelocity().y), player.getVelocity().z);
-                            player.velocityDirty = true;
-                        } else {
-                            PrimalCraft.LOGGER.trace("   └─ ✓ Jump approved");
-                        }
-                    }
-                    lastOnGround.put(id, onGround);
-                }
-
-                if (tick % 100 == 0) {
-                    PrimalCraft.LOGGER.debug("📊 [TICK STATS] Processed {} ticks with {} sprints, {} jumps, {} attacks, {} breaks, {} uses",
-                        ticksProcessed, sprintsTriggered, jumpsTriggered, attacksTriggered, blockBreaksTriggered, blockUsesTriggered);
-                }
+            // Cooldown is synced as events, so reset stale client state on join and clear it on respawn
+            ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+                ServerPlayerEntity player = handler.getPlayer();
+                ServerPlayNetworking.send(player, new SprintCooldownPayload(sprintCooldownUntil.getOrDefault(player.getUuid(), 0L)));
             });
+            ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> {
+                UUID id = handler.getPlayer().getUuid();
+                sprintCooldownUntil.remove(id);
+                lastSprintChargeTick.remove(id);
+                lastOnGround.remove(id);
+                lastPosition.remove(id);
+            });
+            ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> cancelSprintCooldown(newPlayer));
 
-            PrimalCraft.LOGGER.debug("✓ Server tick event registered");
+            PrimalCraft.LOGGER.debug("✓ Sprint cooldown sync events registered");
 
-            AttackEntityCallback.EVENT.register((player, world, hand, entity, hitResult) -> {
+            AttackEntityCallback.EVENT.register(TickProfiler.attackEntity("StaminaHooks.attackEntity", (player, world, hand, entity, hitResult) -> {
                 attacksTriggered++;
 
                 if (world.isClient()) {
@@ -221,11 +120,11 @@ public final class StaminaHooks {
 
                 PrimalCraft.LOGGER.trace("   └─ ✓ Attack approved");
                 return ActionResult.PASS;
-            });
+            }));
 
             PrimalCraft.LOGGER.debug("✓ AttackEntity event registered");
 
-            AttackBlockCallback.EVENT.register((player, world, hand, pos, direction) -> {
+            AttackBlockCallback.EVENT.register(TickProfiler.attackBlock("StaminaHooks.attackBlock", (player, world, hand, pos, direction) -> {
                 blockBreaksTriggered++;
 
                 if (world.isClient()) {
@@ -258,11 +157,11 @@ public final class StaminaHooks {
 
                 PrimalCraft.LOGGER.trace("   └─ ✓ Block break approved");
                 return ActionResult.PASS;
-            });
+            }));
 
             PrimalCraft.LOGGER.debug("✓ AttackBlock event registered");
 
-            UseBlockCallback.EVENT.register((player, world, hand, hitResult) -> {
+            UseBlockCallback.EVENT.register(TickProfiler.useBlock("StaminaHooks.useBlock", (player, world, hand, hitResult) -> {
                 blockUsesTriggered++;
 
                 if (world.isClient()) {
@@ -296,7 +195,7 @@ public final class StaminaHooks {
 
                 PrimalCraft.LOGGER.trace("   └─ ✓ Block use approved");
                 return ActionResult.PASS;
-            });
+            }));
 
             PrimalCraft.LOGGER.debug("✓ UseBlock event registered");
 
@@ -305,4 +204,139 @@ public final class StaminaHooks {
             PrimalCraft.LOGGER.error("❌ [STAMINA HOOKS] Failed to register event handlers", e);
         }
     }
+
+    private static void startSprintCooldown(ServerPlayerEntity player, long endTick) {
+        sprintCooldownUntil.put(player.getUuid(), endTick);
+        ServerPlayNetworking.send(player, new SprintCooldownPayload(endTick));
+    }
+
+    /**
+     * Ends a player's sprint cooldown early and tells the client. No-op if none is active.
+     */
+    public static void cancelSprintCooldown(ServerPlayerEntity player) {
+        if (sprintCooldownUntil.remove(player.getUuid()) != null) {
+            ServerPlayNetworking.send(player, new SprintCooldownPayload(0));
+        }
+    }
+
+    /**
+     * Per-player stamina drain: sprint cooldown, movement, swimming, climbing,
+     * crouching and jump costs.
+     */
+    private static void tickPlayer(ServerPlayerEntity player, PlayerEnvironment env) {
+        UUID id = player.getUuid();
+        ticksProcessed++;
+
+        // Expire cooldown; the client counts down to the same end tick, so nothing is sent
+        long worldTime = player.getEntityWorld().getTime();
+        Long cooldownUntil = sprintCooldownUntil.get(id);
+        boolean inCooldown = cooldownUntil != null && cooldownUntil > worldTime;
+        if (cooldownUntil != null && !inCooldown) {
+            sprintCooldownUntil.remove(id);
+            PrimalCraft.LOGGER.trace("   ├─ [COOLDOWN] {} cooldown expired", player.getName().getString());
+        }
+
+        // Get weight penalty based on inventory
+        double weightPenalty = env.weightPenalty();
+        PrimalCraft.LOGGER.trace("   ├─ [WEIGHT] {} weight penalty: {}",
+            player.getName().getString(), String.format("%.2f%%", weightPenalty * 100));
+
+        // Get all multipliers
+        double potionMultiplier = StaminaPotionEffects.getDrainMultiplier(player);
+        double currentTemp = env.temperature();
+        double tempMultiplier = TemperatureSystem.getTemperatureStaminaMultiplier(currentTemp);
+        double envMultiplier = 1.0;
+        double armorMultiplier = 1.0;
+
+        PrimalCraft.LOGGER.trace("   ├─ [MULTIPLIERS] Potion: {}, Temp: {} ({}°C), Env: {}, Armor: {}",
+            String.format("%.2f", potionMultiplier), String.format("%.2f", tempMultiplier),
+            String.format("%.1f", currentTemp), String.format("%.2f", envMultiplier),
+            String.format("%.2f", armorMultiplier));
+
+        // Get current position
+        Vec3d currentPos = new Vec3d(player.getX(), player.getY(), player.getZ());
+        Vec3d lastPos = lastPosition.getOrDefault(id, currentPos);
+        double distanceMoved = currentPos.squaredDistanceTo(lastPos);
+        lastPosition.put(id, currentPos);
+
+        PrimalCraft.LOGGER.trace("   ├─ [POSITION] Moved: {} blocks", String.format("%.3f", Math.sqrt(distanceMoved)));
+
+        // Sprint drain every tick while sprinting
+        if (player.isSprinting()) {
+            double currentStamina = StaminaSystem.get(player);
+            PrimalCraft.LOGGER.trace("   ├─ [SPRINT] Current stamina: {}", String.format("%.1f", currentStamina));
+
+            if (currentStamina < SPRINT_MIN_STAMINA) {
+                PrimalCraft.LOGGER.debug("   │  ⚠️  [SPRINT] Below minimum stamina ({}), stopping sprint",
+                    String.format("%.1f", SPRINT_MIN_STAMINA));
+                player.setSprinting(false);
+            } else if (inCooldown) {
+                PrimalCraft.LOGGER.trace("   │  ⚠️  [SPRINT] In cooldown, stopping sprint");
+                player.setSprinting(false);
+            } else if (distanceMoved > 0.0001) {
+                double sprintCost = COST_SPRINT_TICK * (1.0 + weightPenalty) * potionMultiplier * tempMultiplier * envMultiplier * armorMultiplier;
+                PrimalCraft.LOGGER.trace("   │  ⚡ [SPRINT] Cost calculation: {} * (1.0 + {}) * {} * {} = {}",
+                    COST_SPRINT_TICK, String.format("%.2f", weightPenalty),
+                    String.format("%.2f", potionMultiplier), String.format("%.2f", tempMultiplier),
+                    String.format("%.2f", sprintCost));
+
+                if (!StaminaSystem.tryConsume(player, sprintCost)) {
+                    sprintsTriggered++;
+                    PrimalCraft.LOGGER.debug("   │  ✗ [SPRINT] Failed to consume {}, starting cooldown (Event #{})",
+                        String.format("%.2f", sprintCost), sprintsTriggered);
+                    player.setSprinting(false);
+                    startSprintCooldown(player, worldTime + SPRINT_COOLDOWN_TICKS);
+                } else {
+                    PrimalCraft.LOGGER.trace("   │  ✓ [SPRINT] Consumed {} stamina", String.format("%.2f", sprintCost));
+                }
+            }
+        } else {
+            // Walking movement drain
+            if (distanceMoved > 0.0001 && !player.isSwimming() && !player.isClimbing()) {
+                double movementCost = (COST_MOVEMENT + weightPenalty * 0.5);
+                PrimalCraft.LOGGER.trace("   ├─ [MOVEMENT] Cost: {}", String.format("%.2f", movementCost));
+                StaminaSystem.tryConsume(player, movementCost);
+            }
+        }
+
+        // Swimming drain
+        if (player.isSwimming()) {
+            double swimCost = COST_SWIM * (1.0 + weightPenalty * 0.5);
+            PrimalCraft.LOGGER.trace("   ├─ [SWIM] Cost: {}", String.format("%.2f", swimCost));
+            StaminaSystem.tryConsume(player, swimCost);
+        }
+
+        // Climbing drain
+        if (player.isClimbing()) {
+            double climbCost = COST_CLIMB * (1.0 + weightPenalty);
+            PrimalCraft.LOGGER.trace("   ├─ [CLIMB] Cost: {}", String.format("%.2f", climbCost));
+            StaminaSystem.tryConsume(player, climbCost);
+        }
+
+        // Crouching drain
+        if (player.isInSneakingPose()) {
+            double crouchCost = COST_CROUCH * (1.0 + weightPenalty * 0.3);
+            PrimalCraft.LOGGER.trace("   ├─ [CROUCH] Cost: {}", String.format("%.2f", crouchCost));
+            StaminaSystem.tryConsume(player, crouchCost);
+        }
+
+        // Jump detection
+        boolean onGround = player.isOnGround();
+        boolean wasOnGround = lastOnGround.getOrDefault(id, true);
+        if (wasOnGround && !onGround) {
+            jumpsTriggered++;
+            double jumpCost = COST_JUMP * (1.0 + weightPenalty);
+            PrimalCraft.LOGGER.debug("📍 [JUMP] Event #{} for {}", jumpsTriggered, player.getName().getString());
+            PrimalCraft.LOGGER.trace("   ├─ Cost: {}", String.format("%.2f", jumpCost));
+
+            if (!StaminaSystem.tryConsume(player, jumpCost)) {
+                PrimalCraft.LOGGER.debug("   ├─ ✗ Insufficient stamina, canceling jump");
+                player.setVelocity(player.getVelocity().x, Math.min(0, player.getVelocity().y), player.getVelocity().z);
+                player.velocityDirty = true;
+            } else {
+                PrimalCraft.LOGGER.trace("   └─ ✓ Jump approved");
+            }
+        }
+        lastOnGround.put(id, onGround);
+    }
 }
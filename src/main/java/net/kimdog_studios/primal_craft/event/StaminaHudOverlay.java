@@ -12,7 +12,7 @@ public class StaminaHudOverlay implements HudRenderCallback {
     private static float smoothStamina = 100.0f;
     private static float pulse = 0f;
     private static double lastStamina = 100.0;
-    private static int sprintCooldownTicks = 0;
+    private static long sprintCooldownEndTick = 0; // World time; 0 = none
     private static double clientFatigue = 0.0;
     private static float regenRate = 0.2f;
     private static double clientTemperature = 20.0; // Default comfortable temp
@@ -83,8 +83,17 @@ public class StaminaHudOverlay implements HudRenderCallback {
         clientMaxStamina = maxStamina;
     }
 
-    public static void updateCooldown(int ticks) {
-        sprintCooldownTicks = ticks;
+    /**
+     * @param endTick World time the sprint cooldown ends at, 0 if none
+     */
+    public static void updateCooldown(long endTick) {
+        sprintCooldownEndTick = endTick;
+    }
+
+    // Counted down locally against the synced world time
+    private static long getCooldownTicksRemaining(MinecraftClient client) {
+        if (sprintCooldownEndTick == 0 || client.world == null) return 0;
+        return Math.max(0, sprintCooldownEndTick - client.world.getTime());
     }
 
     public static void updateFatigue(double fatigue) {
@@ -234,7 +243,7 @@ public class StaminaHudOverlay implements HudRenderCallback {
         // Activity + idle auto-hide (with startup pulse) - calculate AFTER all bar visibility
         boolean isMoving = client.player.getVelocity().lengthSquared() > IDLE_MOVE_THRESHOLD;
         boolean staminaLow = staminaFill < 0.999f;
-        boolean cooldownActive = sprintCooldownTicks > 0;
+        boolean cooldownActive = getCooldownTicksRemaining(client) > 0;
         boolean invVisible = invVisibilityTicks > 0;
         boolean tempVisible = true; // Always true now - temp is always visible
         boolean thirstVisible = showThirst;
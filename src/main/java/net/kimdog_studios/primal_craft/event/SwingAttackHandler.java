@@ -6,6 +6,7 @@ import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.network.SwingAttackPayload;
 import net.kimdog_studios.primal_craft.util.ItemWeightSystem;
 import net.kimdog_studios.primal_craft.util.StaminaSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.input.Input;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -43,7 +44,7 @@ public final class SwingAttackHandler {
         // Server-side handler for swing attacks
         ServerPlayNetworking.registerGlobalReceiver(
             SwingAttackPayload.ID,
-            (payload, context) -> {
+            TickProfiler.receiver("c2s:swing_attack", (payload, context) -> {
                 ServerPlayerEntity player = context.player();
                 if (player != null) {
                     swingAttacksTriggered++;
@@ -64,7 +65,7 @@ public final class SwingAttackHandler {
                         PrimalCraft.LOGGER.trace("   └─ ✓ Swing approved");
                     }
                 }
-            }
+            })
         );
 
         PrimalCraft.LOGGER.info("✅ [SWING_ATTACK] Server-side handler registered");
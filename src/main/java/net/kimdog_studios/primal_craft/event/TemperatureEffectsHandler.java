@@ -1,8 +1,8 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
-import net.kimdog_studios.primal_craft.util.TemperatureSystem;
+import net.kimdog_studios.primal_craft.util.SurvivalTickPipeline;
+import net.kimdog_studios.primal_craft.util.TickScheduler;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -24,18 +24,12 @@ public final class TemperatureEffectsHandler {
         PrimalCraft.LOGGER.debug("   ├─ Temperature-based effect system");
         PrimalCraft.LOGGER.debug("   └─ Event listener registered");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            int serverTick = server.getTicks();
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                double temperature = TemperatureSystem.getPlayerTemperature(player);
-                applyTemperatureEffects(player, temperature, serverTick);
+        SurvivalTickPipeline.registerStage("temperature_effects", 400, SurvivalTickPipeline.ALWAYS,
+            (player, env) -> applyTemperatureEffects(player, env.temperature(), env.serverTick()));
 
-                // Check weather notifications every 5 seconds
-                if (serverTick % 100 == 0) {
-                    net.kimdog_studios.primal_craft.util.WeatherNotificationSystem.checkAndNotify(player);
-                }
-            }
-        });
+        // Check weather notifications every 5 seconds, staggered per player
+        TickScheduler.schedule("weather_notifications", 100,
+            net.kimdog_studios.primal_craft.util.WeatherNotificationSystem::checkAndNotify);
 
         PrimalCraft.LOGGER.info("✅ [TEMPERATURE_EFFECTS] Handler registered");
     }
@@ -2,17 +2,18 @@ package net.kimdog_studios.primal_craft.event;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.minecraft.server.network.ServerPlayerEntity;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 
 /**
  * Threat System - Mobs and darkness create real danger
  */
 public class ThreatSystemHandler {
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("ThreatSystemHandler", server -> {
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 tickThreats(player);
             }
-        });
+        }));
     }
 
     private static void tickThreats(ServerPlayerEntity player) {
@@ -1,8 +1,9 @@
 package net.kimdog_studios.primal_craft.event;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.network.TypingIndicatorPayload;
+import net.kimdog_studios.primal_craft.util.PayloadInterest;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 import java.util.*;
@@ -10,11 +11,14 @@ import java.util.*;
 public class TypingIndicatorHandler {
     private static final Map<UUID, Long> typingPlayers = new HashMap<>();
     private static final long TYPING_TIMEOUT_MS = 3000; // 3 seconds without input = stop typing
+    public static final PayloadInterest.Rule TYPING_INTEREST = PayloadInterest.Rule.nearby(128);
 
     private TypingIndicatorHandler() {}
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        PayloadInterest.declare(TypingIndicatorPayload.ID, TYPING_INTEREST);
+
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("TypingIndicatorHandler", server -> {
             long currentTime = System.currentTimeMillis();
             List<UUID> toRemove = new ArrayList<>();
 
@@ -29,37 +33,29 @@ public class TypingIndicatorHandler {
             for (UUID uuid : toRemove) {
                 ServerPlayerEntity player = server.getPlayerManager().getPlayer(uuid);
                 if (player != null) {
-                    broadcastTypingState(server, player.getName().getString(), false, "");
+                    broadcastTypingState(player, false, "");
                 }
                 typingPlayers.remove(uuid);
             }
-        });
+        }));
     }
 
     public static void notifyTyping(ServerPlayerEntity player, String partialText) {
         // Update the player's typing timestamp
         typingPlayers.put(player.getUuid(), System.currentTimeMillis());
 
-        // Broadcast to all players that this player is typing
-        var server = player.getEntityWorld().getServer();
-        if (server != null) {
-            broadcastTypingState(server, player.getName().getString(), true, partialText);
-        }
+        // Tell nearby players that this player is typing
+        broadcastTypingState(player, true, partialText);
     }
 
-    private static void broadcastTypingState(net.minecraft.server.MinecraftServer server, String playerName, boolean isTyping, String partialText) {
-        TypingIndicatorPayload payload = new TypingIndicatorPayload(playerName, isTyping, partialText);
-        server.getPlayerManager().getPlayerList().forEach(p ->
-            ServerPlayNetworking.send(p, payload)
-        );
+    private static void broadcastTypingState(ServerPlayerEntity player, boolean isTyping, String partialText) {
+        // Recipients follow the declared interest rule (TYPING_INTEREST); clients drop stale indicators on their own
+        PayloadInterest.send(player, new TypingIndicatorPayload(player.getName().getString(), isTyping, partialText));
     }
 
     public static void stopTyping(ServerPlayerEntity player) {
         if (typingPlayers.remove(player.getUuid()) != null) {
-            var server = player.getEntityWorld().getServer();
-            if (server != null) {
-                broadcastTypingState(server, player.getName().getString(), false, "");
-            }
+            broadcastTypingState(player, false, "");
         }
     }
 }
@@ -7,6 +7,8 @@ import net.kimdog_studios.primal_craft.block.ModBlocks;
 import net.kimdog_studios.primal_craft.network.ChatAnimatedPayload;
 import net.kimdog_studios.primal_craft.util.ItemWeightSystem;
 import net.kimdog_studios.primal_craft.util.StaminaSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.kimdog_studios.primal_craft.util.VeinSearch;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.Blocks;
@@ -14,14 +16,12 @@ import net.minecraft.entity.ItemEntity;
 import net.minecraft.item.ItemStack;
 import net.minecraft.particle.BlockStateParticleEffect;
 import net.minecraft.particle.ParticleTypes;
-import net.minecraft.registry.Registries;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.text.Text;
 import net.minecraft.util.Formatting;
 import net.minecraft.util.Hand;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.world.World;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -82,7 +82,7 @@ public class VeinMinerHandler {
         PrimalCraft.LOGGER.debug("   ├─ Cascade breaking: {}", ENABLE_CASCADE ? "ENABLED" : "DISABLED");
         PrimalCraft.LOGGER.debug("   └─ Registered ore types: {}", ORE_BLOCKS.size());
 
-        PlayerBlockBreakEvents.AFTER.register((world, player, pos, state, blockEntity) -> {
+        PlayerBlockBreakEvents.AFTER.register(TickProfiler.afterBlockBreak("VeinMinerHandler.afterBlockBreak", (world, player, pos, state, blockEntity) -> {
             if (!(world instanceof ServerWorld)) return;
             if (!(player instanceof ServerPlayerEntity)) return;
 
@@ -100,8 +100,8 @@ public class VeinMinerHandler {
             PrimalCraft.LOGGER.trace("   ├─ Position: X={}, Y={}, Z={}", pos.getX(), pos.getY(), pos.getZ());
 
             // Find all adjacent ore blocks of the same type (BFS)
-            Predicate<BlockState> matchPredicate = createMatchPredicate(state);
-            List<BlockPos> veinBlocks = searchVein(serverWorld, pos, state, MAX_BLOCKS - 1, MAX_RANGE, matchPredicate);
+            Predicate<BlockState> matchPredicate = VeinSearch.createMatchPredicate(state, ORE_BLOCKS);
+            List<BlockPos> veinBlocks = VeinSearch.search(serverWorld, pos, MAX_BLOCKS - 1, MAX_RANGE, matchPredicate);
 
             if (veinBlocks.isEmpty()) {
                 PrimalCraft.LOGGER.trace("   └─ No adjacent ore blocks found (single block)");
@@ -132,7 +132,7 @@ public class VeinMinerHandler {
 
             // Spawn completion animation
             spawnCompletionAnimation(serverWorld, pos, veinBlocks.size());
-        });
+        }));
     }
 
     private static void applyBreaks(ServerPlayerEntity player, ServerWorld world, List<BlockPos> positions, BlockPos originPos, ItemStack tool) {
@@ -315,72 +315,6 @@ public class VeinMinerHandler {
         }
     }
 
-    private static List<BlockPos> searchVein(World world, BlockPos start, BlockState originState, int maxBlocks, int maxRange, Predicate<BlockState> matchPredicate) {
-        List<BlockPos> results = new ArrayList<>();
-        java.util.Queue<BlockPos> queue = new java.util.ArrayDeque<>();
-        java.util.Set<BlockPos> visited = new java.util.HashSet<>();
-
-        queue.add(start);
-        visited.add(start);
-
-        while (!queue.isEmpty() && results.size() < maxBlocks) {
-            BlockPos pos = queue.poll();
-
-            for (int dx = -1; dx <= 1; dx++) {
-                for (int dy = -1; dy <= 1; dy++) {
-                    for (int dz = -1; dz <= 1; dz++) {
-                        if (dx == 0 && dy == 0 && dz == 0) continue;
-
-                        BlockPos offsetPos = pos.add(dx, dy, dz);
-
-                        // Skip if already visited
-                        if (visited.contains(offsetPos)) continue;
-
-                        // Skip if out of range
-                        if (Math.abs(offsetPos.getX() - start.getX()) > maxRange ||
-                            Math.abs(offsetPos.getY() - start.getY()) > maxRange ||
-                            Math.abs(offsetPos.getZ() - start.getZ()) > maxRange) {
-                            visited.add(offsetPos);
-                            continue;
-                        }
-
-                        BlockState state = world.getBlockState(offsetPos);
-                        visited.add(offsetPos);
-
-                        // If it matches, add to results and queue for further searching
-                        if (matchPredicate.test(state)) {
-                            results.add(offsetPos);
-                            queue.add(offsetPos);
-                        }
-                    }
-                }
-            }
-        }
-
-        return results;
-    }
-
-    private static Predicate<BlockState> createMatchPredicate(BlockState originState) {
-        Block originBlock = originState.getBlock();
-        String originBlockName = Registries.BLOCK.getId(originBlock).getPath();
-        String baseOreType = getBaseOreType(originBlockName);
-
-        return (blockState) -> {
-            Block block = blockState.getBlock();
-            if (block == originBlock) return true;
-            String blockName = Registries.BLOCK.getId(block).getPath();
-            String blockBaseType = getBaseOreType(blockName);
-            return baseOreType.equals(blockBaseType) && isOreBlock(block);
-        };
-    }
-
-    private static String getBaseOreType(String blockName) {
-        if (blockName.startsWith("deepslate_")) {
-            return blockName.substring("deepslate_".length());
-        }
-        return blockName;
-    }
-
     private static boolean isOreBlock(Block block) {
         return ORE_BLOCKS.contains(block);
     }
@@ -1,35 +1,48 @@
 package net.kimdog_studios.primal_craft.event;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.util.ExposureCache;
+import net.kimdog_studios.primal_craft.util.PayloadBroadcast;
+import net.kimdog_studios.primal_craft.util.PayloadInterest;
 import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.minecraft.network.packet.s2c.play.ParticleS2CPacket;
 import net.minecraft.particle.ParticleEffect;
 import net.minecraft.particle.ParticleTypes;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.util.math.Vec3d;
 
+import java.util.List;
 import java.util.Random;
 
 /**
  * Spawns ambient particles for custom weather states.
+ *
+ * Particles are sent to the player they surround and to players tracking them within
+ * vanilla's particle range, resolved once per player through {@link PayloadInterest},
+ * rather than letting every spawn scan all players in the world.
  */
 public final class WeatherParticleHandler {
     private static final Random RANDOM = new Random();
+    private static final PayloadInterest.Rule PARTICLE_INTEREST = PayloadInterest.Rule.nearby(32); // Vanilla particle view range
 
     private WeatherParticleHandler() {}
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("WeatherParticleHandler", server -> {
             int tick = server.getTicks();
             // Light frequency: every 5 ticks to reduce load
             if ((tick % 5) != 0) return;
 
             for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
                 ServerWorld world = (ServerWorld) player.getEntityWorld();
+                // Weather particles only make sense under open sky
+                if (!ExposureCache.isSkyVisible(world, player.getBlockPos())) continue;
                 WindSystem.WindData wind = WindSystem.getWindData(world);
                 spawnParticlesForWeather(world, player, wind);
             }
-        });
+        }));
     }
 
     private static void spawnParticlesForWeather(ServerWorld world, ServerPlayerEntity player, WindSystem.WindData wind) {
@@ -81,6 +94,7 @@ public final class WeatherParticleHandler {
 
         Vec3d base = new Vec3d(player.getX(), player.getY() + 1.0, player.getZ());
         Vec3d dir = wind.direction.normalize();
+        List<ServerPlayerEntity> viewers = PayloadInterest.recipients(player, PARTICLE_INTEREST);
 
         for (int i = 0; i < count; i++) {
             double ox = (RANDOM.nextDouble() - 0.5) * 1.5;
@@ -89,21 +103,21 @@ public final class WeatherParticleHandler {
             double dx = dir.x * speed;
             double dy = dir.y * speed * 0.5;
             double dz = dir.z * speed;
-            world.spawnParticles(particle,
+            PayloadBroadcast.send(viewers, new ParticleS2CPacket(particle, false, false,
                     base.x + ox,
                     base.y + oy,
                     base.z + oz,
-                    1,
-                    0.1, 0.1, 0.1,
-                    0.0);
+                    0.1f, 0.1f, 0.1f,
+                    0.0f,
+                    1));
             // Apply a slight motion by re-spawning with speed values as deltas
-            world.spawnParticles(particle,
+            PayloadBroadcast.send(viewers, new ParticleS2CPacket(particle, false, false,
                     base.x + ox,
                     base.y + oy,
                     base.z + oz,
-                    0,
-                    dx, dy, dz,
-                    speed);
+                    (float) dx, (float) dy, (float) dz,
+                    (float) speed,
+                    0));
         }
     }
 }
@@ -0,0 +1,52 @@
+package net.kimdog_studios.primal_craft.event;
+
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.kimdog_studios.primal_craft.network.WindFieldPayload;
+import net.kimdog_studios.primal_craft.util.WindField;
+import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Client-side wind: evaluates the server's {@link WindField} locally every tick from the
+ * seed and weather in the last {@link WindFieldPayload} and the client's world time.
+ *
+ * Matches the server's sample at the player (direction, gusts, weather strength); sky
+ * exposure is checked against the client world, sheltered players feel no wind. Terrain
+ * modifiers (altitude, coast, lee) only affect the server-side push and are not applied.
+ */
+public final class WindFieldClient {
+    private static boolean hasField = false;
+    private static long fieldSeed;
+    private static WindSystem.CustomWeatherType weather = WindSystem.CustomWeatherType.CLEAR;
+
+    private WindFieldClient() {}
+
+    public static void register() {
+        ClientPlayNetworking.registerGlobalReceiver(WindFieldPayload.ID, (payload, context) -> {
+            long seed = payload.seed();
+            WindSystem.CustomWeatherType type = payload.weatherType();
+            context.client().execute(() -> {
+                fieldSeed = seed;
+                weather = type;
+                hasField = true;
+            });
+        });
+        ClientPlayConnectionEvents.DISCONNECT.register((handler, client) -> hasField = false);
+        ClientTickEvents.END_CLIENT_TICK.register(WindFieldClient::tick);
+    }
+
+    private static void tick(MinecraftClient client) {
+        if (!hasField || client.player == null || client.world == null) {
+            return;
+        }
+        BlockPos pos = client.player.getBlockPos();
+        WindField.Sample local = WindField.sample(fieldSeed, pos.getX() + 0.5, pos.getZ() + 0.5, client.world.getTime(), weather);
+        double strength = client.world.isSkyVisible(pos) ? local.strength() : 0.0;
+
+        WindLineRenderer.updateWindData(Math.atan2(local.dirZ(), local.dirX()), strength, weather.isStorm);
+        StaminaHudOverlay.updateWindSpeed(strength);
+    }
+}
@@ -1,32 +1,49 @@
 package net.kimdog_studios.primal_craft.event;
 
+import net.fabricmc.fabric.api.entity.event.v1.ServerEntityWorldChangeEvents;
+import net.fabricmc.fabric.api.entity.event.v1.ServerPlayerEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.PrimalCraft;
-import net.kimdog_studios.primal_craft.network.WindSyncPayload;
+import net.kimdog_studios.primal_craft.network.WindFieldPayload;
 import net.kimdog_studios.primal_craft.util.LoggingHelper;
+import net.kimdog_studios.primal_craft.util.PayloadBroadcast;
 import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.server.network.ServerPlayerEntity;
-import net.minecraft.util.math.Vec3d;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.world.World;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Server-side wind system handler with detailed logging
+ * Server-side wind system handler with detailed logging.
+ *
+ * Clients evaluate the deterministic wind field themselves (see WindFieldClient), so wind
+ * is not synced per tick. Each player only receives the field inputs of their world as a
+ * {@link WindFieldPayload}: on join, world change and respawn, and again for every player in
+ * a world whose custom weather type changed.
  */
 public class WindHandler {
-    private static int syncTimer = 0;
+    // Weather type each world's players last received
+    private static final Map<RegistryKey<World>, WindSystem.CustomWeatherType> lastWeather = new ConcurrentHashMap<>();
+
     private static int windUpdates = 0;
-    private static int windSyncs = 0;
+    private static int fieldSyncs = 0;
     private static int windApplications = 0;
 
     public static void register() {
         LoggingHelper.logSystemInit("[WIND_SYSTEM]");
         LoggingHelper.logSubsection("Wind physics updates per tick");
-        LoggingHelper.logSubsection("Wind syncs every 20 ticks (1 second)");
+        LoggingHelper.logSubsection("Wind field seed/weather synced on join, world change and weather change");
         LoggingHelper.logSubsection("Wind effects based on sky exposure and weather");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("WindHandler", server -> {
             int serverTick = server.getTicks();
             List<net.minecraft.server.world.ServerWorld> worlds = new ArrayList<>();
             server.getWorlds().forEach(worlds::add);
@@ -34,8 +51,8 @@ public class WindHandler {
             int playerCount = server.getPlayerManager().getPlayerList().size();
 
             if (serverTick % 200 == 0) {
-                PrimalCraft.LOGGER.info("📊 [WIND_STATS] Tick #{} - Worlds: {} | Players: {} | Updates: {} | Syncs: {} | Applications: {}",
-                    serverTick, worldCount, playerCount, windUpdates, windSyncs, windApplications);
+                PrimalCraft.LOGGER.info("📊 [WIND_STATS] Tick #{} - Worlds: {} | Players: {} | Updates: {} | Field syncs: {} | Applications: {}",
+                    serverTick, worldCount, playerCount, windUpdates, fieldSyncs, windApplications);
             }
 
             if (serverTick % 100 == 0) {
@@ -46,7 +63,8 @@ public class WindHandler {
             // Update wind for each world
             server.getWorlds().forEach(world -> {
                 windUpdates++;
-                WindSystem.updateWind(world, serverTick);
+                WindSystem.updateWind(world);
+                syncWeatherChange(world);
 
                 if (serverTick % 200 == 0) {
                     WindSystem.WindData wind = WindSystem.getWindData(world);
@@ -65,48 +83,31 @@ public class WindHandler {
                 windApplications++;
                 WindSystem.applyWindToPlayer(player);
             }
-
-            // Sync wind data to clients every second
-            syncTimer++;
-            if (syncTimer >= 20) {
-                syncTimer = 0;
-                syncWindToClients(server);
-            }
-        });
+        }));
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> sendField(handler.getPlayer()));
+        ServerEntityWorldChangeEvents.AFTER_PLAYER_CHANGE_WORLD.register((player, origin, destination) -> sendField(player));
+        ServerPlayerEvents.AFTER_RESPAWN.register((oldPlayer, newPlayer, alive) -> sendField(newPlayer));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> lastWeather.clear());
 
         PrimalCraft.LOGGER.info("✅ [WIND_SYSTEM] WindHandler registered successfully");
     }
 
-    private static void syncWindToClients(net.minecraft.server.MinecraftServer server) {
-        int syncCount = 0;
-
-        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-            windSyncs++;
-            syncCount++;
-
-            WindSystem.WindData wind = WindSystem.getWindData(player.getEntityWorld());
-            Vec3d dir = wind.direction;
-
-            // Check if player is exposed to sky - if not, send 0 wind
-            boolean skyVisible = player.getEntityWorld().isSkyVisible(player.getBlockPos());
-            double windStrength = skyVisible ? wind.getEffectiveStrength() : 0.0;
-
-            String exposure = skyVisible ? "EXPOSED" : "SHELTERED";
-
-            if (windSyncs % 50 == 0) {
-                PrimalCraft.LOGGER.trace("🌐 [WIND_SYNC] Event #{}: {} | Exposure: {} | Wind: ({}, {}, {}) | Strength: {} | Stormy: {}",
-                    windSyncs, player.getName().getString(), exposure,
-                    String.format("%.2f", dir.x), String.format("%.2f", dir.y), String.format("%.2f", dir.z),
-                    String.format("%.2f", windStrength), wind.stormy);
-            }
-
-            ServerPlayNetworking.send(player, new WindSyncPayload(
-                dir.x,
-                dir.y,
-                dir.z,
-                windStrength,
-                wind.stormy
-            ));
+    // Re-sends the field to a world's players when its weather type changed
+    private static void syncWeatherChange(ServerWorld world) {
+        WindSystem.WindData wind = WindSystem.getWindData(world);
+        WindSystem.CustomWeatherType previous = lastWeather.put(world.getRegistryKey(), wind.customWeather);
+        if (previous == null || previous == wind.customWeather || world.getPlayers().isEmpty()) {
+            return;
         }
+        fieldSyncs += world.getPlayers().size();
+        PayloadBroadcast.send(world.getPlayers(), WindFieldPayload.of(wind.fieldSeed, wind.customWeather));
+        PrimalCraft.LOGGER.debug("🌐 [WIND_SYNC] {} weather {} -> {}, field sent to {} players",
+            world.getRegistryKey().getValue(), previous, wind.customWeather, world.getPlayers().size());
+    }
+
+    private static void sendField(ServerPlayerEntity player) {
+        WindSystem.WindData wind = WindSystem.getWindData(player.getEntityWorld());
+        fieldSyncs++;
+        ServerPlayNetworking.send(player, WindFieldPayload.of(wind.fieldSeed, wind.customWeather));
     }
-}
\ No newline at end of file
+}
@@ -1,95 +1,108 @@
 package net.kimdog_studios.primal_craft.event;
 
-import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
+import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderContext;
+import net.fabricmc.fabric.api.client.rendering.v1.world.WorldRenderEvents;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.render.*;
+import net.minecraft.client.render.RenderLayers;
+import net.minecraft.client.render.VertexConsumer;
 import net.minecraft.client.util.math.MatrixStack;
 import net.minecraft.util.math.Vec3d;
-import org.joml.Matrix4f;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
 import java.util.Random;
 
 /**
- * Client-side wind line renderer with anime-style streaks
+ * Client-side wind line renderer with anime-style streaks.
+ *
+ * Wind comes from the locally evaluated field (WindFieldClient); direction and strength
+ * ease toward it each client tick, so exposure flips and weather changes don't jump.
+ *
+ * Lines live in a fixed-capacity ring buffer of primitive arrays (a spawn reuses the
+ * oldest slot), advance once per client tick and are drawn in the world render pass as
+ * one batch of line vertices, interpolated by tick progress. No allocation per frame or
+ * per line.
+ *
+ * LOD: a smoothed frame time scales how many lines spawn and draw (down to 25% when
+ * frames take twice the 60 FPS budget); under reduced LOD, every other line beyond
+ * {@link #LOD_NEAR_DISTANCE} blocks is skipped.
  */
 public class WindLineRenderer {
-    private static final List<WindLine> windLines = new ArrayList<>();
+    private static final double INTERPOLATION_RATE = 0.15; // Fraction of the gap closed per tick
+
+    private static final int CAPACITY = 512;
+    private static final double LOD_NEAR_DISTANCE = 16.0;
+    private static final double MAX_DISTANCE = 32.0;
+    private static final double TARGET_FRAME_NANOS = 1_000_000_000.0 / 60.0;
+    private static final double MIN_LOD = 0.25;
+    private static final float BASE_ALPHA = 0.55f;
+    private static final float LINE_WIDTH = 1.5f;
+
+    // Line slots: position at the start of the tick, per-tick velocity, length, age
+    private static final double[] posX = new double[CAPACITY];
+    private static final double[] posY = new double[CAPACITY];
+    private static final double[] posZ = new double[CAPACITY];
+    private static final float[] velX = new float[CAPACITY];
+    private static final float[] velY = new float[CAPACITY];
+    private static final float[] velZ = new float[CAPACITY];
+    private static final float[] length = new float[CAPACITY];
+    private static final int[] age = new int[CAPACITY];
+    private static final int[] maxAge = new int[CAPACITY]; // 0 = free slot
+    private static int head = 0;
+
     private static final Random random = new Random();
-    private static Vec3d windDirection = new Vec3d(1, 0, 0);
+    private static double windDirX = 1.0;
+    private static double windDirZ = 0.0;
+    private static double windAngle = 0.0;
     private static double windStrength = 0.5;
+    private static double targetAngle = 0.0;
+    private static double targetStrength = 0.5;
     private static boolean stormy = false;
     private static int spawnTimer = 0;
 
-    public static class WindLine {
-        public Vec3d startPos;
-        public Vec3d velocity;
-        public float alpha;
-        public float length;
-        public int age;
-        public int maxAge;
-        public int color;
-
-        public WindLine(Vec3d startPos, Vec3d velocity, float length, int maxAge, int color) {
-            this.startPos = startPos;
-            this.velocity = velocity;
-            this.alpha = 0f;
-            this.length = length;
-            this.age = 0;
-            this.maxAge = maxAge;
-            this.color = color;
-        }
-
-        public boolean update() {
-            age++;
-
-            // Move line
-            startPos = startPos.add(velocity);
-
-            // Fade in/out
-            if (age < 10) {
-                alpha = age / 10f;
-            } else if (age > maxAge - 10) {
-                alpha = (maxAge - age) / 10f;
-            } else {
-                alpha = 1f;
-            }
-
-            return age < maxAge;
-        }
-
-        public Vec3d getEndPos() {
-            return startPos.add(velocity.normalize().multiply(length));
-        }
-    }
+    // Frame time LOD
+    private static long lastFrameNanos = 0;
+    private static double avgFrameNanos = TARGET_FRAME_NANOS;
+    private static double lod = 1.0;
 
     public static void register() {
-        // Update and render on HUD (runs every frame)
-        HudRenderCallback.EVENT.register((context, tickCounter) -> {
-            MinecraftClient client = MinecraftClient.getInstance();
-            if (client.player == null || client.world == null) return;
-
+        ClientTickEvents.END_CLIENT_TICK.register(client -> {
+            interpolate();
+            if (client.player == null || client.world == null || client.isPaused()) return;
             updateWindLines(client);
-            renderWindLines(client);
         });
+        WorldRenderEvents.AFTER_ENTITIES.register(WindLineRenderer::renderWindLines);
     }
 
-    public static void updateWindData(Vec3d direction, double strength, boolean isStormy) {
-        windDirection = direction;
-        windStrength = strength;
+    /**
+     * @param angle    Horizontal wind direction in radians (atan2(z, x))
+     * @param strength Wind strength at the player, 0 when sheltered
+     */
+    public static void updateWindData(double angle, double strength, boolean isStormy) {
+        targetAngle = angle;
+        targetStrength = strength;
         stormy = isStormy;
     }
 
+    private static void interpolate() {
+        // Shortest way around the circle
+        double delta = Math.IEEEremainder(targetAngle - windAngle, Math.PI * 2);
+        windAngle += delta * INTERPOLATION_RATE;
+        windStrength += (targetStrength - windStrength) * INTERPOLATION_RATE;
+        windDirX = Math.cos(windAngle);
+        windDirZ = Math.sin(windAngle);
+    }
+
     private static void updateWindLines(MinecraftClient client) {
-        // Update existing lines
-        Iterator<WindLine> iterator = windLines.iterator();
-        while (iterator.hasNext()) {
-            WindLine line = iterator.next();
-            if (!line.update()) {
-                iterator.remove();
+        // Advance live lines
+        for (int i = 0; i < CAPACITY; i++) {
+            if (maxAge[i] == 0) continue;
+            if (++age[i] >= maxAge[i]) {
+                maxAge[i] = 0;
+                continue;
             }
+            posX[i] += velX[i];
+            posY[i] += velY[i];
+            posZ[i] += velZ[i];
         }
 
         // Spawn new wind lines
@@ -103,58 +116,104 @@ public class WindLineRenderer {
     }
 
     private static void spawnWindLines(MinecraftClient client) {
+        if (windStrength < 0.05) return; // Sheltered or calm
+
         Vec3d playerPos = client.player.getEyePos();
 
         // Spawn multiple lines in a radius around player
         int count = stormy ? 8 : (int)(3 + windStrength * 5);
+        count = (int) Math.ceil(count * lod);
+
+        float speed = (float) (0.3 + windStrength * 0.5);
+        float lineLength = (float)(1.5 + windStrength * 2.5);
+        for (int n = 0; n < count; n++) {
+            int i = head;
+            head = (head + 1) % CAPACITY;
 
-        for (int i = 0; i < count; i++) {
-            // Random spawn position around player (30 block radius)
+            // Random spawn position around player (10-30 blocks)
             double angle = random.nextDouble() * Math.PI * 2;
             double distance = 10 + random.nextDouble() * 20;
-            double height = (random.nextDouble() - 0.5) * 20;
-
-            Vec3d spawnPos = playerPos.add(
-                Math.cos(angle) * distance,
-                height,
-                Math.sin(angle) * distance
-            );
-
-            // Wind velocity (based on global wind direction)
-            Vec3d velocity = windDirection
-                .multiply(0.3 + windStrength * 0.5)
-                .add(
-                    (random.nextDouble() - 0.5) * 0.1,
-                    (random.nextDouble() - 0.5) * 0.05,
-                    (random.nextDouble() - 0.5) * 0.1
-                );
-
-            // Line properties
-            float length = (float)(1.5 + windStrength * 2.5);
-            int maxAge = (int)(20 + random.nextInt(40));
-
-            // Color based on weather
-            int color;
-            if (stormy) {
-                color = 0xCCEEFF; // Bright white-blue for storms
-            } else {
-                color = 0xDDEEFF; // Soft white for normal wind
-            }
+            posX[i] = playerPos.x + Math.cos(angle) * distance;
+            posY[i] = playerPos.y + (random.nextDouble() - 0.5) * 20;
+            posZ[i] = playerPos.z + Math.sin(angle) * distance;
+
+            // Wind velocity with a little turbulence
+            velX[i] = (float) (windDirX * speed + (random.nextDouble() - 0.5) * 0.1);
+            velY[i] = (float) ((random.nextDouble() - 0.5) * 0.05);
+            velZ[i] = (float) (windDirZ * speed + (random.nextDouble() - 0.5) * 0.1);
+
+            length[i] = lineLength;
+            age[i] = 0;
+            maxAge[i] = 20 + random.nextInt(40);
+        }
+    }
 
-            windLines.add(new WindLine(spawnPos, velocity, length, maxAge, color));
+    private static void renderWindLines(WorldRenderContext context) {
+        updateLod();
+
+        MinecraftClient client = MinecraftClient.getInstance();
+        if (client.player == null || client.world == null) return;
+
+        Vec3d camera = context.worldState().cameraRenderState.pos;
+        float partial = client.getRenderTickCounter().getTickProgress(false);
+        MatrixStack.Entry entry = context.matrices().peek();
+        VertexConsumer buffer = null;
+
+        int rgb = stormy ? 0xCCEEFF : 0xDDEEFF; // Bright white-blue for storms, soft white otherwise
+        double maxDistanceSq = MAX_DISTANCE * MAX_DISTANCE;
+        double nearDistanceSq = LOD_NEAR_DISTANCE * LOD_NEAR_DISTANCE;
+        boolean thinFar = lod < 1.0;
+
+        for (int i = 0; i < CAPACITY; i++) {
+            if (maxAge[i] == 0) continue;
+
+            // Camera-relative start, interpolated within the tick
+            float x = (float) (posX[i] + velX[i] * partial - camera.x);
+            float y = (float) (posY[i] + velY[i] * partial - camera.y);
+            float z = (float) (posZ[i] + velZ[i] * partial - camera.z);
+            double distanceSq = (double) x * x + (double) y * y + (double) z * z;
+            if (distanceSq > maxDistanceSq) continue;
+            if (thinFar && distanceSq > nearDistanceSq && (i & 1) == 1) continue;
+
+            float speed = (float) Math.sqrt(velX[i] * velX[i] + velY[i] * velY[i] + velZ[i] * velZ[i]);
+            if (speed < 1.0e-4f) continue;
+            float nx = velX[i] / speed;
+            float ny = velY[i] / speed;
+            float nz = velZ[i] / speed;
+
+            // Fade in/out over 10 ticks, and out toward max distance
+            int a = age[i];
+            float alpha = a < 10 ? a / 10f : a > maxAge[i] - 10 ? (maxAge[i] - a) / 10f : 1f;
+            alpha *= BASE_ALPHA * (float) (1.0 - distanceSq / maxDistanceSq);
+            int argb = ((int) (alpha * 255.0f) & 0xFF) << 24 | rgb;
+
+            if (buffer == null) {
+                buffer = context.consumers().getBuffer(RenderLayers.lines());
+            }
+            buffer.vertex(entry, x, y, z).color(argb).normal(entry, nx, ny, nz).lineWidth(LINE_WIDTH);
+            buffer.vertex(entry, x + nx * length[i], y + ny * length[i], z + nz * length[i])
+                .color(argb).normal(entry, nx, ny, nz).lineWidth(LINE_WIDTH);
         }
     }
 
-    private static void renderWindLines(MinecraftClient client) {
-        // TODO: Implement custom wind particle renderer with proper 1.21 rendering API
-        // For now wind physics work, visual lines disabled until proper particle system
-        if (windLines.isEmpty()) return;
+    // Exponentially smoothed frame time -> LOD factor in [MIN_LOD, 1]
+    private static void updateLod() {
+        long now = System.nanoTime();
+        if (lastFrameNanos != 0) {
+            long frame = Math.min(now - lastFrameNanos, 250_000_000L); // Ignore stalls (pause, world load)
+            avgFrameNanos += (frame - avgFrameNanos) * 0.05;
+        }
+        lastFrameNanos = now;
 
-        // Rendering temporarily disabled - wind physics still active
-        // Will be implemented with custom particles in next update
+        // Full detail at 60 FPS or better, MIN_LOD at half that
+        double over = (avgFrameNanos - TARGET_FRAME_NANOS) / TARGET_FRAME_NANOS;
+        lod = Math.max(MIN_LOD, Math.min(1.0, 1.0 - over * (1.0 - MIN_LOD)));
     }
 
     public static void clear() {
-        windLines.clear();
+        for (int i = 0; i < CAPACITY; i++) {
+            maxAge[i] = 0;
+        }
+        head = 0;
     }
 }
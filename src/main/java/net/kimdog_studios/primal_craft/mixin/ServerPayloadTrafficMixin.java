@@ -0,0 +1,22 @@
+package net.kimdog_studios.primal_craft.mixin;
+
+import net.kimdog_studios.primal_craft.util.PayloadTraffic;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.network.packet.s2c.common.CustomPayloadS2CPacket;
+import net.minecraft.server.network.ServerCommonNetworkHandler;
+import net.minecraft.server.network.ServerPlayNetworkHandler;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerCommonNetworkHandler.class)
+public abstract class ServerPayloadTrafficMixin {
+    // Per-player payload accounting; per-type sizes are measured in the wrapped codecs
+    @Inject(method = "sendPacket(Lnet/minecraft/network/packet/Packet;)V", at = @At("HEAD"))
+    private void primal_craft$countPayload(Packet<?> packet, CallbackInfo ci) {
+        if (packet instanceof CustomPayloadS2CPacket custom && (Object) this instanceof ServerPlayNetworkHandler handler) {
+            PayloadTraffic.onSend(handler.player, custom.payload());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package net.kimdog_studios.primal_craft.mixin;
+
+import net.kimdog_studios.primal_craft.util.PlayerTemperatureStore;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+
+@Mixin(ServerPlayerEntity.class)
+public abstract class ServerPlayerTemperatureSlotMixin implements PlayerTemperatureStore.SlotHolder {
+    // Slot in PlayerTemperatureStore; -1 until the store assigns one to this entity
+    @Unique
+    private int primal_craft$temperatureSlot = -1;
+
+    @Override
+    public int primal_craft$getTemperatureSlot() {
+        return primal_craft$temperatureSlot;
+    }
+
+    @Override
+    public void primal_craft$setTemperatureSlot(int slot) {
+        primal_craft$temperatureSlot = slot;
+    }
+}
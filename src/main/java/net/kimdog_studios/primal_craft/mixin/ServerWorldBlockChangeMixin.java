@@ -0,0 +1,21 @@
+package net.kimdog_studios.primal_craft.mixin;
+
+import net.kimdog_studios.primal_craft.util.ExposureCache;
+import net.kimdog_studios.primal_craft.util.ThermalBlockIndex;
+import net.minecraft.block.BlockState;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+@Mixin(ServerWorld.class)
+public abstract class ServerWorldBlockChangeMixin {
+    // Keep block indexes and exposure cache in sync with every block state change in the world
+    @Inject(method = "onBlockStateChanged", at = @At("HEAD"))
+    private void primal_craft$onBlockStateChanged(BlockPos pos, BlockState oldState, BlockState newState, CallbackInfo ci) {
+        ThermalBlockIndex.onBlockChanged((ServerWorld) (Object) this, pos, oldState, newState);
+        ExposureCache.onBlockChanged((ServerWorld) (Object) this, pos, oldState, newState);
+    }
+}
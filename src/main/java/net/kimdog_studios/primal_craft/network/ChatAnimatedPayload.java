@@ -1,21 +1,70 @@
 package net.kimdog_studios.primal_craft.network;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
+import org.jetbrains.annotations.Nullable;
 
-public record ChatAnimatedPayload(String role, String name, String message) implements CustomPayload {
+/**
+ * Animated chat line: sender role, sender name and the §-formatted message.
+ *
+ * For broadcasts, {@link #preEncoded} encodes the three strings once; every connection
+ * then copies those bytes instead of re-encoding the strings.
+ *
+ * @param encoded Wire bytes of role, name and message, or null to encode on send
+ */
+public record ChatAnimatedPayload(String role, String name, String message, @Nullable byte[] encoded) implements CustomPayload {
     public static final CustomPayload.Id<ChatAnimatedPayload> ID = new CustomPayload.Id<>(Identifier.of(PrimalCraft.MOD_ID, "chat_animated"));
-    public static final PacketCodec<RegistryByteBuf, ChatAnimatedPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.STRING, ChatAnimatedPayload::role,
-            PacketCodecs.STRING, ChatAnimatedPayload::name,
-            PacketCodecs.STRING, ChatAnimatedPayload::message,
-            ChatAnimatedPayload::new
+    public static final PacketCodec<RegistryByteBuf, ChatAnimatedPayload> CODEC = PacketCodec.of(
+            ChatAnimatedPayload::write,
+            ChatAnimatedPayload::read
     );
 
+    public ChatAnimatedPayload(String role, String name, String message) {
+        this(role, name, message, null);
+    }
+
+    /**
+     * Builds a payload whose wire form is encoded now, for sending to many players.
+     */
+    public static ChatAnimatedPayload preEncoded(String role, String name, String message) {
+        ByteBuf buf = Unpooled.buffer();
+        try {
+            writeFields(buf, role, name, message);
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            return new ChatAnimatedPayload(role, name, message, bytes);
+        } finally {
+            buf.release();
+        }
+    }
+
+    private static void writeFields(ByteBuf buf, String role, String name, String message) {
+        PacketCodecs.STRING.encode(buf, role);
+        PacketCodecs.STRING.encode(buf, name);
+        PacketCodecs.STRING.encode(buf, message);
+    }
+
+    private void write(RegistryByteBuf buf) {
+        if (encoded != null) {
+            buf.writeBytes(encoded);
+        } else {
+            writeFields(buf, role, name, message);
+        }
+    }
+
+    private static ChatAnimatedPayload read(RegistryByteBuf buf) {
+        String role = PacketCodecs.STRING.decode(buf);
+        String name = PacketCodecs.STRING.decode(buf);
+        String message = PacketCodecs.STRING.decode(buf);
+        return new ChatAnimatedPayload(role, name, message);
+    }
+
     @Override
     public Id<? extends CustomPayload> getId() {
         return ID;
@@ -0,0 +1,98 @@
+package net.kimdog_studios.primal_craft.network;
+
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Player vitals for the HUD: stamina, body temperature, world temperature and thirst in
+ * one packet. A leading bitmask says which fields follow; absent fields are unchanged on
+ * the client. Values are quantized:
+ * - Stamina (0-100) and thirst (0-20): one unsigned byte each, 250 steps
+ * - Temperatures: signed short in tenths of a degree
+ *
+ * Field values are held quantized; use the decoding accessors.
+ */
+public record PlayerVitalsPayload(int changed, int stamina, int temperature, int worldTemperature, int thirst) implements CustomPayload {
+    public static final int STAMINA = 1;
+    public static final int TEMPERATURE = 1 << 1;
+    public static final int WORLD_TEMPERATURE = 1 << 2;
+    public static final int THIRST = 1 << 3;
+    public static final int ALL = STAMINA | TEMPERATURE | WORLD_TEMPERATURE | THIRST;
+
+    public static final double MAX_STAMINA = 100.0;
+    public static final double MAX_THIRST = 20.0;
+    private static final int STEPS = 250;
+
+    public static final Id<PlayerVitalsPayload> ID = new Id<>(Identifier.of(PrimalCraft.MOD_ID, "player_vitals"));
+    public static final PacketCodec<RegistryByteBuf, PlayerVitalsPayload> CODEC = PacketCodec.of(
+            PlayerVitalsPayload::write,
+            PlayerVitalsPayload::read
+    );
+
+    /**
+     * Quantizes all four values; {@code changed} selects which are written.
+     */
+    public static PlayerVitalsPayload of(int changed, double stamina, double temperature, double worldTemperature, double thirst) {
+        return new PlayerVitalsPayload(changed,
+                quantizeFraction(stamina, MAX_STAMINA),
+                quantizeTenths(temperature),
+                quantizeTenths(worldTemperature),
+                quantizeFraction(thirst, MAX_THIRST));
+    }
+
+    public boolean has(int field) {
+        return (changed & field) != 0;
+    }
+
+    public double staminaValue() {
+        return stamina * MAX_STAMINA / STEPS;
+    }
+
+    public double temperatureValue() {
+        return temperature / 10.0;
+    }
+
+    public double worldTemperatureValue() {
+        return worldTemperature / 10.0;
+    }
+
+    public double thirstValue() {
+        return thirst * MAX_THIRST / STEPS;
+    }
+
+    private static int quantizeFraction(double value, double max) {
+        return (int) Math.round(Math.max(0.0, Math.min(max, value)) / max * STEPS);
+    }
+
+    private static int quantizeTenths(double value) {
+        if (Double.isNaN(value)) {
+            return 0;
+        }
+        return (int) Math.round(Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, value * 10.0)));
+    }
+
+    private void write(RegistryByteBuf buf) {
+        buf.writeByte(changed);
+        if (has(STAMINA)) buf.writeByte(stamina);
+        if (has(TEMPERATURE)) buf.writeShort(temperature);
+        if (has(WORLD_TEMPERATURE)) buf.writeShort(worldTemperature);
+        if (has(THIRST)) buf.writeByte(thirst);
+    }
+
+    private static PlayerVitalsPayload read(RegistryByteBuf buf) {
+        int changed = buf.readUnsignedByte();
+        int stamina = (changed & STAMINA) != 0 ? buf.readUnsignedByte() : 0;
+        int temperature = (changed & TEMPERATURE) != 0 ? buf.readShort() : 0;
+        int worldTemperature = (changed & WORLD_TEMPERATURE) != 0 ? buf.readShort() : 0;
+        int thirst = (changed & THIRST) != 0 ? buf.readUnsignedByte() : 0;
+        return new PlayerVitalsPayload(changed, stamina, temperature, worldTemperature, thirst);
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
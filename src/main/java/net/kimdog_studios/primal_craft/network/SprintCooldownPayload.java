@@ -7,10 +7,16 @@ import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.network.packet.CustomPayload;
 import net.minecraft.util.Identifier;
 
-public record SprintCooldownPayload(int cooldownTicks) implements CustomPayload {
+/**
+ * Sprint cooldown state change: sent once when a cooldown starts and once if it is
+ * cancelled early. The client counts down against its synced world time.
+ *
+ * @param endTick World time (World#getTime) the cooldown ends at; 0 = no cooldown
+ */
+public record SprintCooldownPayload(long endTick) implements CustomPayload {
     public static final Id<SprintCooldownPayload> ID = new Id<>(Identifier.of(PrimalCraft.MOD_ID, "sprint_cooldown"));
     public static final PacketCodec<RegistryByteBuf, SprintCooldownPayload> CODEC = PacketCodec.tuple(
-            PacketCodecs.INTEGER, SprintCooldownPayload::cooldownTicks,
+            PacketCodecs.VAR_LONG, SprintCooldownPayload::endTick,
             SprintCooldownPayload::new
     );
 
@@ -1,6 +1,7 @@
 package net.kimdog_studios.primal_craft.network;
 
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.kimdog_studios.primal_craft.util.PayloadTraffic;
 import net.minecraft.network.RegistryByteBuf;
 import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.network.codec.PacketCodecs;
@@ -19,7 +20,7 @@ public record WeatherNotificationPayload(String message, int color) implements C
             );
 
     public static void register() {
-        PayloadTypeRegistry.playS2C().register(ID, CODEC);
+        PayloadTypeRegistry.playS2C().register(ID, PayloadTraffic.s2c(ID, CODEC));
     }
 
     @Override
@@ -0,0 +1,52 @@
+package net.kimdog_studios.primal_craft.network;
+
+import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
+import net.kimdog_studios.primal_craft.util.PayloadTraffic;
+import net.kimdog_studios.primal_craft.util.WindSystem;
+import net.minecraft.network.RegistryByteBuf;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.codec.PacketCodecs;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.util.Identifier;
+
+/**
+ * Inputs of the wind field for the player's current world: the field seed and the custom
+ * weather type. With these and the world time the client evaluates
+ * {@link net.kimdog_studios.primal_craft.util.WindField} itself, so wind needs no per-tick
+ * sync. Sent on join, world change and respawn, and when the world's weather type changes.
+ * 9 bytes on the wire.
+ */
+public record WindFieldPayload(long seed, byte weather) implements CustomPayload {
+    public static final CustomPayload.Id<WindFieldPayload> ID =
+            new CustomPayload.Id<>(Identifier.of("primal-craft", "wind_field"));
+
+    public static final PacketCodec<RegistryByteBuf, WindFieldPayload> CODEC =
+            PacketCodec.tuple(
+                    PacketCodecs.LONG, WindFieldPayload::seed,
+                    PacketCodecs.BYTE, WindFieldPayload::weather,
+                    WindFieldPayload::new
+            );
+
+    private static final WindSystem.CustomWeatherType[] WEATHER_TYPES = WindSystem.CustomWeatherType.values();
+
+    public static void register() {
+        PayloadTypeRegistry.playS2C().register(ID, PayloadTraffic.s2c(ID, CODEC));
+    }
+
+    public static WindFieldPayload of(long seed, WindSystem.CustomWeatherType weather) {
+        return new WindFieldPayload(seed, (byte) weather.ordinal());
+    }
+
+    /**
+     * @return The weather type, CLEAR if the ordinal is unknown
+     */
+    public WindSystem.CustomWeatherType weatherType() {
+        int ordinal = weather & 0xFF;
+        return ordinal < WEATHER_TYPES.length ? WEATHER_TYPES[ordinal] : WindSystem.CustomWeatherType.CLEAR;
+    }
+
+    @Override
+    public Id<? extends CustomPayload> getId() {
+        return ID;
+    }
+}
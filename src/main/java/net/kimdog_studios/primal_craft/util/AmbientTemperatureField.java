@@ -0,0 +1,252 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primal Craft - Ambient Temperature Field
+ *
+ * Environmental ("world") temperature at any position, without player-specific modifiers:
+ * biome + time of day + sun + altitude + weather. Every query is O(1):
+ * - Player queries read the exact biome at the position, so temperatures change right at
+ *   biome borders; they are already cached per position by {@link TemperatureFactors}
+ * - Bulk queries (heatmap, {@link BulkTemperatureQuery}) sample the biome once per chunk
+ *   column and 16-block band (3D biomes put caves under surface biomes) and keep it until
+ *   the chunk unloads
+ * - Time of day and sun intensity come from per-tick lookup tables (24000 buckets)
+ * - Biome-to-Celsius conversion interpolates a 0.05-step table; every breakpoint of
+ *   {@link TemperatureSystem#convertBiomeToRealTemp} lies on that grid, so it matches
+ *   the piecewise curve to float precision
+ * - Altitude and weather are simple arithmetic on the query
+ *
+ * The tables are built from the TemperatureSystem reference curves, which stay the
+ * single source of truth.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class AmbientTemperatureField {
+    private static final int DAY_LENGTH = 24000;
+    private static final float BIOME_STEP = 0.05f;
+    private static final float BIOME_MAX = 2.0f;
+
+    private static final double[] BIOME_TABLE = new double[Math.round(BIOME_MAX / BIOME_STEP) + 1];
+    private static final double[] AMBIENT_TABLE = new double[DAY_LENGTH];
+    private static final double[] SUN_TABLE = new double[DAY_LENGTH];
+
+    private static final Map<RegistryKey<World>, Map<Long, Float>> WORLDS = new ConcurrentHashMap<>();
+    private static boolean registered = false;
+
+    // Statistics
+    private static long sectionsSampled = 0;
+    private static long queries = 0;
+
+    static {
+        for (int i = 0; i < BIOME_TABLE.length; i++) {
+            BIOME_TABLE[i] = TemperatureSystem.convertBiomeToRealTemp(i * BIOME_STEP);
+        }
+        for (int t = 0; t < DAY_LENGTH; t++) {
+            AMBIENT_TABLE[t] = TemperatureSystem.getAmbientTempForTime(t);
+            SUN_TABLE[t] = TemperatureSystem.getSunIntensity(t);
+        }
+    }
+
+    private AmbientTemperatureField() {
+        throw new UnsupportedOperationException("AmbientTemperatureField is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Registers chunk/world unload listeners. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> invalidateChunk(world, chunk.getPos()));
+        ServerWorldEvents.UNLOAD.register((server, world) -> WORLDS.remove(world.getRegistryKey()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> WORLDS.clear());
+
+        PrimalCraft.LOGGER.info("✅ [AMBIENT_FIELD] Ambient temperature field registered");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // FIELD QUERIES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Ambient temperature at a position: biome, time of day, partial sun, altitude and weather.
+     *
+     * @return Temperature in °C
+     */
+    public static double getAmbientTemperature(ServerWorld world, BlockPos pos) {
+        queries++;
+
+        double dimensionTemp = getDimensionTemperature(world);
+        if (!Double.isNaN(dimensionTemp)) {
+            return dimensionTemp;
+        }
+        return ambientTemperature(getBiomeTemperature(world, pos), pos.getY(),
+            (int) (world.getTimeOfDay() % DAY_LENGTH), world.isRaining(), world.isThundering());
+    }
+
+    /**
+     * Fixed temperature of dimensions without biome/time variation.
+     *
+     * @return Temperature in °C, or NaN for biome-driven dimensions
+     */
+    static double getDimensionTemperature(ServerWorld world) {
+        String dimension = world.getRegistryKey().getValue().getPath();
+        if (dimension.contains("nether")) {
+            return 90.0; // Average nether temp
+        } else if (dimension.contains("end")) {
+            return -12.0; // Average end temp
+        }
+        return Double.NaN;
+    }
+
+    /**
+     * Ambient model over already-sampled inputs; pure, safe off the server thread.
+     */
+    static double ambientTemperature(float biomeTemp, int y, int timeOfDay, boolean raining, boolean thundering) {
+        return biomeToRealTemp(biomeTemp) + altitudeOffset(y) + timeAndWeatherOffset(timeOfDay, raining, thundering);
+    }
+
+    /**
+     * Position-independent part of the ambient model: time of day, weather and partial sun.
+     */
+    static double timeAndWeatherOffset(int timeOfDay, boolean raining, boolean thundering) {
+        double temperature = AMBIENT_TABLE[timeOfDay];
+
+        // Weather affects world temp
+        if (raining) {
+            temperature -= 10.0;
+        }
+        if (thundering) {
+            temperature -= 12.0;
+        }
+
+        // World temp only gets partial sun benefit (ambient heating)
+        if (timeOfDay > 5000 && timeOfDay < 19000) {
+            temperature += SUN_TABLE[timeOfDay] * 15.0;
+        }
+        return temperature;
+    }
+
+    /**
+     * Vanilla biome temperature (0-2 scale) at pos.
+     */
+    public static float getBiomeTemperature(ServerWorld world, BlockPos pos) {
+        return world.getBiome(pos).value().getTemperature();
+    }
+
+    /**
+     * Vanilla biome temperature (0-2 scale) for the chunk column band containing pos,
+     * sampled at the band centre and cached. Coarser than {@link #getBiomeTemperature};
+     * for bulk queries over many positions.
+     *
+     * @return Biome temperature, or NaN if the chunk is not loaded (nothing is cached then,
+     *         since CHUNK_UNLOAD would never clear it)
+     */
+    public static float getCachedBiomeTemperature(ServerWorld world, BlockPos pos) {
+        Map<Long, Float> sections = WORLDS.computeIfAbsent(world.getRegistryKey(), k -> new ConcurrentHashMap<>());
+        int sx = pos.getX() >> 4;
+        int sy = pos.getY() >> 4;
+        int sz = pos.getZ() >> 4;
+        long key = ChunkSectionPos.asLong(sx, sy, sz);
+        Float cached = sections.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (world.getChunkManager().getWorldChunk(sx, sz) == null) {
+            return Float.NaN; // Not loaded - don't sample the generator, don't cache
+        }
+
+        // Sample the band centre
+        BlockPos centre = new BlockPos((sx << 4) + 8, (sy << 4) + 8, (sz << 4) + 8);
+        float biomeTemp = world.getBiome(centre).value().getTemperature();
+        sections.put(key, biomeTemp);
+        sectionsSampled++;
+        return biomeTemp;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // LOOKUP TABLES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Table lookup for {@link TemperatureSystem#convertBiomeToRealTemp}.
+     */
+    public static double biomeToRealTemp(float biomeTemp) {
+        if (biomeTemp <= 0.0f) {
+            return BIOME_TABLE[0];
+        }
+        if (biomeTemp >= BIOME_MAX) {
+            return BIOME_TABLE[BIOME_TABLE.length - 1];
+        }
+        float scaled = biomeTemp / BIOME_STEP;
+        int index = (int) scaled;
+        double frac = scaled - index;
+        return BIOME_TABLE[index] + (BIOME_TABLE[index + 1] - BIOME_TABLE[index]) * frac;
+    }
+
+    /**
+     * Table lookup for {@link TemperatureSystem#getAmbientTempForTime}.
+     */
+    public static double ambientForTime(long timeOfDay) {
+        return AMBIENT_TABLE[(int) Math.floorMod(timeOfDay, DAY_LENGTH)];
+    }
+
+    /**
+     * Table lookup for {@link TemperatureSystem#getSunIntensity}.
+     */
+    public static double sunIntensity(long timeOfDay) {
+        return SUN_TABLE[(int) Math.floorMod(timeOfDay, DAY_LENGTH)];
+    }
+
+    // Realistic lapse rate above sea level, geothermal gradient below (HeatmapKernel mirrors this)
+    private static double altitudeOffset(int y) {
+        if (y > 64) {
+            return -(y - 64) * 0.065;
+        } else if (y < 64) {
+            return (64 - y) * 0.02;
+        }
+        return 0.0;
+    }
+
+    private static void invalidateChunk(ServerWorld world, ChunkPos chunkPos) {
+        Map<Long, Float> sections = WORLDS.get(world.getRegistryKey());
+        if (sections == null) {
+            return;
+        }
+        for (int sy = world.getBottomSectionCoord(); sy <= world.getTopSectionCoord(); sy++) {
+            sections.remove(ChunkSectionPos.asLong(chunkPos.x, sy, chunkPos.z));
+        }
+    }
+
+    /**
+     * Gets field statistics for debugging.
+     *
+     * @return A formatted string with field statistics
+     */
+    public static String getStatistics() {
+        int cached = 0;
+        for (Map<Long, Float> sections : WORLDS.values()) {
+            cached += sections.size();
+        }
+        return String.format("Sections: %d cached, %d sampled | Queries: %d", cached, sectionsSampled, queries);
+    }
+}
@@ -0,0 +1,142 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Primal Craft - Bulk Temperature Query
+ *
+ * Environmental temperature for many arbitrary block positions in one call, without the
+ * per-player path: ambient field (biome, time of day, partial sun, altitude, weather) plus
+ * nearby heat and cold blocks.
+ *
+ * Two steps:
+ * - {@link #capture} reads everything the model needs on the server thread: world scalars,
+ *   the cached biome temperature per position and copies of the thermal sections around
+ *   each position (each section copied once per query)
+ * - {@link #evaluate(Snapshot)} is pure over the snapshot and can run on any thread
+ *
+ * {@link #evaluateAsync} captures on the server thread (hopping to it if needed) and
+ * evaluates on the temperature worker pool. Positions in unloaded chunks are never loaded
+ * or sampled; they evaluate to NaN.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class BulkTemperatureQuery {
+    // Statistics
+    private static long queries = 0;
+    private static long positionsQueried = 0;
+    private static long sectionsCopied = 0;
+
+    private BulkTemperatureQuery() {
+        throw new UnsupportedOperationException("BulkTemperatureQuery is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Immutable model inputs for a set of positions.
+     *
+     * @param dimensionTemp Fixed dimension temperature, or NaN for biome-driven dimensions
+     * @param timeOfDay     Time of day (0-23999)
+     * @param raining       World is raining
+     * @param thundering    World is thundering
+     * @param positions     Queried positions
+     * @param biomeTemps    Vanilla biome temperature per position, NaN if not loaded
+     * @param sections      Copied thermal sections covering every position's heat grid
+     */
+    record Snapshot(
+        double dimensionTemp,
+        int timeOfDay,
+        boolean raining,
+        boolean thundering,
+        BlockPos[] positions,
+        float[] biomeTemps,
+        Map<Long, byte[]> sections
+    ) {}
+
+    /**
+     * Captures model inputs for the positions. Server thread only.
+     */
+    static Snapshot capture(ServerWorld world, List<BlockPos> positions) {
+        BlockPos[] copy = new BlockPos[positions.size()];
+        float[] biomeTemps = new float[copy.length];
+        Map<Long, byte[]> sections = new HashMap<>();
+        for (int i = 0; i < copy.length; i++) {
+            BlockPos pos = positions.get(i).toImmutable();
+            copy[i] = pos;
+            biomeTemps[i] = AmbientTemperatureField.getCachedBiomeTemperature(world, pos);
+            if (!Float.isNaN(biomeTemps[i])) {
+                ThermalBlockIndex.captureHeatSections(world, pos, sections);
+            }
+        }
+        queries++;
+        positionsQueried += copy.length;
+        sectionsCopied += sections.size();
+        return new Snapshot(
+            AmbientTemperatureField.getDimensionTemperature(world),
+            (int) (world.getTimeOfDay() % 24000),
+            world.isRaining(),
+            world.isThundering(),
+            copy,
+            biomeTemps,
+            sections
+        );
+    }
+
+    /**
+     * Evaluates temperature for every position in the snapshot. Safe on any thread.
+     *
+     * @return Temperature in °C per position, in snapshot order; NaN where not loaded
+     */
+    static double[] evaluate(Snapshot s) {
+        double[] result = new double[s.positions().length];
+        for (int i = 0; i < result.length; i++) {
+            if (Float.isNaN(s.biomeTemps()[i])) {
+                result[i] = Double.NaN;
+                continue;
+            }
+            BlockPos pos = s.positions()[i];
+            double ambient = Double.isNaN(s.dimensionTemp())
+                ? AmbientTemperatureField.ambientTemperature(s.biomeTemps()[i], pos.getY(), s.timeOfDay(), s.raining(), s.thundering())
+                : s.dimensionTemp();
+            result[i] = ambient + ThermalBlockIndex.getNearbyBlockTemp(s.sections(), pos);
+        }
+        return result;
+    }
+
+    /**
+     * Captures and evaluates on the calling thread. Server thread only.
+     */
+    public static double[] evaluate(ServerWorld world, List<BlockPos> positions) {
+        return evaluate(capture(world, positions));
+    }
+
+    /**
+     * Captures on the server thread and evaluates on the temperature worker pool.
+     * May be called from any thread; the positions list must not change until the
+     * returned future's capture has run.
+     */
+    public static CompletableFuture<double[]> evaluateAsync(ServerWorld world, List<BlockPos> positions) {
+        MinecraftServer server = world.getServer();
+        CompletableFuture<Snapshot> snapshot = server.isOnThread()
+            ? CompletableFuture.completedFuture(capture(world, positions))
+            : server.submit(() -> capture(world, positions));
+        return snapshot.thenApplyAsync(BulkTemperatureQuery::evaluate, TemperatureWorkerPool.pool());
+    }
+
+    /**
+     * Gets query statistics for debugging.
+     *
+     * @return A formatted string with query statistics
+     */
+    public static String getStatistics() {
+        return String.format("Queries: %d | Positions: %d | Sections copied: %d", queries, positionsQueried, sectionsCopied);
+    }
+}
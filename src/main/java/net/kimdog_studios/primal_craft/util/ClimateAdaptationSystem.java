@@ -1,6 +1,6 @@
 package net.kimdog_studios.primal_craft.util;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
 import net.minecraft.server.network.ServerPlayerEntity;
 
 import java.util.HashMap;
@@ -14,13 +14,13 @@ public final class ClimateAdaptationSystem {
     private ClimateAdaptationSystem() {}
 
     public static void register() {
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            for (ServerPlayerEntity p : server.getPlayerManager().getPlayerList()) tick(p);
-        });
+        SurvivalTickPipeline.registerStage("climate_adaptation", 350,
+            () -> PrimalCraftConfig.getAdvanced().features.climateAdaptation
+                && PrimalCraftConfig.getGameplay().temperatureSystemEnabled,
+            (player, env) -> tick(player, env.effectiveTemperature()));
     }
 
-    private static void tick(ServerPlayerEntity player) {
-        double eff = TemperatureSystem.getEffectiveTemperature(player);
+    private static void tick(ServerPlayerEntity player, double eff) {
         UUID id = player.getUuid();
         double c = coldAdapt.getOrDefault(id, 0.0);
         double h = heatAdapt.getOrDefault(id, 0.0);
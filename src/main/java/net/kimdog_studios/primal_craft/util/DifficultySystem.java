@@ -70,7 +70,7 @@ public final class DifficultySystem {
 
         try {
             // Register tick handler for difficulty updates
-            ServerTickEvents.END_SERVER_TICK.register(DifficultySystem::tick);
+            ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("DifficultySystem", DifficultySystem::tick));
             PrimalCraft.LOGGER.debug("      ✓ Registered tick handler");
 
             // Register cleanup handler for server shutdown
@@ -0,0 +1,294 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.block.BlockState;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.Vec3d;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primal Craft - Exposure Cache
+ *
+ * Shared per-block-position cache of sky exposure and shelter probes, queried by
+ * {@link TemperatureSystem}, {@link WindSystem} and the weather particle handler:
+ * - Sky visibility
+ * - Temperature shelter factor (roof column + wall ring scan)
+ * - Wind exposure factor (3x3 opaque scan + roof penalty)
+ * - Opaque mask of the head-height layer used by the wind lee/funnel probe
+ * - Per chunk column: whether the region is on or near ocean/coast (wind boost)
+ *
+ * Each value is computed lazily on first query and kept until invalidated. The wind
+ * direction is not part of the key: the head-height mask is cached instead and the
+ * direction-dependent probe reads from it.
+ *
+ * Invalidation:
+ * - Every chunk column keeps a version counter, bumped by block changes that can
+ *   alter a probe (air, opaque cube or light opacity changed); see ServerWorldBlockChangeMixin
+ * - An entry records the sum of the versions of the chunk columns its probes touch
+ *   (at most 2x2) and is recomputed when that sum changes
+ * - Entries also expire after {@link #ENTRY_TTL_TICKS}, which covers sky light that
+ *   settles a few ticks after the block change
+ *
+ * Coastal flags are not versioned (coastlines don't move with ordinary building) and are
+ * dropped when their chunk unloads.
+ *
+ * Non-server worlds bypass the cache and compute directly.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class ExposureCache {
+    private static final int ENTRY_TTL_TICKS = 100;
+    private static final int SWEEP_INTERVAL_TICKS = 200;
+
+    // Largest horizontal probe reach (wind lee probe: 6 blocks upwind)
+    static final int PROBE_RADIUS = 6;
+
+    private static final Map<RegistryKey<World>, WorldCache> WORLDS = new ConcurrentHashMap<>();
+    private static boolean registered = false;
+
+    // Statistics
+    private static long hits = 0;
+    private static long misses = 0;
+    private static long invalidations = 0;
+
+    private ExposureCache() {
+        throw new UnsupportedOperationException("ExposureCache is a utility class and cannot be instantiated");
+    }
+
+    private static final class WorldCache {
+        final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+        final Map<Long, Integer> chunkVersions = new ConcurrentHashMap<>();
+        final Map<Long, Boolean> coastal = new ConcurrentHashMap<>();
+    }
+
+    private static final class Entry {
+        final long createdTick;
+        final long versionSum;
+        byte skyVisible = -1; // -1 = not computed
+        double shelter = Double.NaN;
+        double exposure = Double.NaN;
+        long[] headMask;
+
+        Entry(long createdTick, long versionSum) {
+            this.createdTick = createdTick;
+            this.versionSum = versionSum;
+        }
+    }
+
+    /**
+     * Registers the cleanup sweep and world/server lifecycle listeners. Must be called
+     * during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("ExposureCache", server -> {
+            if (server.getTicks() % SWEEP_INTERVAL_TICKS != 0) {
+                return;
+            }
+            for (ServerWorld world : server.getWorlds()) {
+                WorldCache cache = WORLDS.get(world.getRegistryKey());
+                if (cache != null) {
+                    long now = world.getTime();
+                    cache.entries.values().removeIf(entry -> now - entry.createdTick > ENTRY_TTL_TICKS);
+                }
+            }
+        }));
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> {
+            WorldCache cache = WORLDS.get(world.getRegistryKey());
+            if (cache != null) {
+                cache.coastal.remove(chunk.getPos().toLong());
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> WORLDS.remove(world.getRegistryKey()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> WORLDS.clear());
+
+        PrimalCraft.LOGGER.info("✅ [EXPOSURE_CACHE] Exposure cache registered");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Cached {@link World#isSkyVisible(BlockPos)}.
+     */
+    public static boolean isSkyVisible(World world, BlockPos pos) {
+        Entry entry = entryFor(world, pos);
+        if (entry == null) {
+            return world.isSkyVisible(pos);
+        }
+        if (entry.skyVisible < 0) {
+            entry.skyVisible = (byte) (world.isSkyVisible(pos) ? 1 : 0);
+        }
+        return entry.skyVisible == 1;
+    }
+
+    /**
+     * Cached temperature shelter factor, see {@link TemperatureSystem#getShelterFactor}.
+     *
+     * @return 0.0 (fully open) to 1.0 (fully sheltered)
+     */
+    public static double getShelterFactor(World world, BlockPos pos) {
+        Entry entry = entryFor(world, pos);
+        if (entry == null) {
+            return TemperatureSystem.getShelterFactor(world, pos, world.isSkyVisible(pos));
+        }
+        if (Double.isNaN(entry.shelter)) {
+            entry.shelter = TemperatureSystem.getShelterFactor(world, pos, isSkyVisible(world, pos));
+        }
+        return entry.shelter;
+    }
+
+    /**
+     * Cached wind exposure factor, see {@link WindSystem#computeExposureFactor}.
+     *
+     * @return 0.1 * 0.35 (sealed room) to 1.0 (open sky)
+     */
+    public static double getExposureFactor(World world, BlockPos pos) {
+        Entry entry = entryFor(world, pos);
+        if (entry == null) {
+            return WindSystem.computeExposureFactor(world, pos);
+        }
+        if (Double.isNaN(entry.exposure)) {
+            entry.exposure = WindSystem.computeExposureFactor(world, pos);
+        }
+        return entry.exposure;
+    }
+
+    /**
+     * Wind lee/funnel multiplier for the given wind direction, probed against the cached
+     * head-height mask. See {@link WindSystem#computeTerrainShelterMultiplier}.
+     */
+    public static double getTerrainShelterMultiplier(World world, BlockPos pos, Vec3d windDir) {
+        Entry entry = entryFor(world, pos);
+        long[] mask;
+        if (entry == null) {
+            mask = WindSystem.scanHeadLayer(world, pos);
+        } else {
+            if (entry.headMask == null) {
+                entry.headMask = WindSystem.scanHeadLayer(world, pos);
+            }
+            mask = entry.headMask;
+        }
+        return WindSystem.computeTerrainShelterMultiplier(mask, windDir);
+    }
+
+    /**
+     * Whether the chunk column containing pos is on or near ocean/coast, see
+     * {@link WindSystem#isNearOceanOrCoast}. Probed once from the column centre at sea level.
+     */
+    public static boolean isCoastal(World world, BlockPos pos) {
+        if (!(world instanceof ServerWorld)) {
+            return WindSystem.isNearOceanOrCoast(world, pos);
+        }
+        WorldCache cache = WORLDS.computeIfAbsent(world.getRegistryKey(), k -> new WorldCache());
+        long key = ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Boolean coastal = cache.coastal.get(key);
+        if (coastal != null) {
+            hits++;
+            return coastal;
+        }
+        misses++;
+        coastal = WindSystem.isNearOceanOrCoast(world,
+            new BlockPos((pos.getX() & ~15) + 8, world.getSeaLevel(), (pos.getZ() & ~15) + 8));
+        cache.coastal.put(key, coastal);
+        return coastal;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // INVALIDATION
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Bumps the chunk column version when a block change can alter a cached probe.
+     * Called for every block state change in a server world.
+     */
+    public static void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+        WorldCache cache = WORLDS.get(world.getRegistryKey());
+        if (cache == null) {
+            return;
+        }
+        if (oldState.isAir() == newState.isAir()
+                && oldState.isOpaqueFullCube() == newState.isOpaqueFullCube()
+                && oldState.getOpacity() == newState.getOpacity()) {
+            return; // e.g. furnace lit, crop growth, redstone power
+        }
+        cache.chunkVersions.merge(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4), 1, Integer::sum);
+        invalidations++;
+    }
+
+    private static Entry entryFor(World world, BlockPos pos) {
+        if (!(world instanceof ServerWorld)) {
+            return null;
+        }
+        WorldCache cache = WORLDS.computeIfAbsent(world.getRegistryKey(), k -> new WorldCache());
+        long now = world.getTime();
+        long versionSum = versionSum(cache, pos);
+        long key = pos.asLong();
+
+        Entry entry = cache.entries.get(key);
+        if (entry != null && entry.versionSum == versionSum && now - entry.createdTick <= ENTRY_TTL_TICKS) {
+            hits++;
+            return entry;
+        }
+        misses++;
+        entry = new Entry(now, versionSum);
+        cache.entries.put(key, entry);
+        return entry;
+    }
+
+    /**
+     * Version of the probe neighbourhood around pos; changes whenever a block change
+     * could alter any cached probe there.
+     */
+    static long getVersion(World world, BlockPos pos) {
+        WorldCache cache = WORLDS.get(world.getRegistryKey());
+        return cache == null ? 0L : versionSum(cache, pos);
+    }
+
+    // Versions only grow, so the sum over a fixed set of chunks changes iff any of them changed
+    private static long versionSum(WorldCache cache, BlockPos pos) {
+        int minX = (pos.getX() - PROBE_RADIUS) >> 4;
+        int maxX = (pos.getX() + PROBE_RADIUS) >> 4;
+        int minZ = (pos.getZ() - PROBE_RADIUS) >> 4;
+        int maxZ = (pos.getZ() + PROBE_RADIUS) >> 4;
+        long sum = 0;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                sum += cache.chunkVersions.getOrDefault(ChunkPos.toLong(cx, cz), 0);
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * Gets cache statistics for debugging.
+     *
+     * @return A formatted string with cache statistics
+     */
+    public static String getStatistics() {
+        int cached = 0;
+        for (WorldCache cache : WORLDS.values()) {
+            cached += cache.entries.size();
+        }
+        long total = hits + misses;
+        return String.format("Entries: %d | Hits: %d | Misses: %d | Hit rate: %.1f%% | Invalidations: %d",
+            cached, hits, misses, total == 0 ? 0.0 : hits * 100.0 / total, invalidations);
+    }
+}
@@ -0,0 +1,198 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Box;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.World;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primal Craft - Heat Entity Index
+ *
+ * Per-world spatial hash of the entities that affect player temperature (blazes, magma
+ * cubes, strays, polar bears...), used by {@link TemperatureSystem#getNearbyEntityTemp}
+ * instead of a getOtherEntities scan per player.
+ *
+ * Maintenance:
+ * - Entity load/unload events keep a per-world set of heat-emitting entities; every other
+ *   entity type is ignored at load time
+ * - The hash (8-block cells) is rebuilt from that set at most once per world tick, on the
+ *   first query of the tick, so worlds nobody queries cost nothing
+ * - A query walks the cells overlapping the box and tests the few emitters found there
+ *   against it, matching the getOtherEntities bounding box semantics
+ *
+ * Server thread only.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class HeatEntityIndex {
+    private static final int CELL_SHIFT = 3; // 8-block cells
+    // Largest emitter bounding box extent from its position (wither: 3.5 tall), rounded up
+    private static final double MAX_ENTITY_EXTENT = 4.0;
+
+    private static final Map<RegistryKey<World>, WorldIndex> WORLDS = new ConcurrentHashMap<>();
+    private static boolean registered = false;
+
+    // Statistics
+    private static long rebuilds = 0;
+    private static long queries = 0;
+    private static long candidates = 0;
+
+    private HeatEntityIndex() {
+        throw new UnsupportedOperationException("HeatEntityIndex is a utility class and cannot be instantiated");
+    }
+
+    private static final class WorldIndex {
+        final Set<Entity> tracked = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Map<Long, List<Entity>> cells = new HashMap<>();
+        long builtTick = Long.MIN_VALUE;
+    }
+
+    /**
+     * Registers entity and world lifecycle listeners. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerEntityEvents.ENTITY_LOAD.register((entity, world) -> {
+            if (getEntityHeat(entity.getType()) != 0.0) {
+                indexOf(world).tracked.add(entity);
+            }
+        });
+        ServerEntityEvents.ENTITY_UNLOAD.register((entity, world) -> {
+            WorldIndex index = WORLDS.get(world.getRegistryKey());
+            if (index != null) {
+                index.tracked.remove(entity);
+            }
+        });
+        ServerWorldEvents.UNLOAD.register((server, world) -> WORLDS.remove(world.getRegistryKey()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> WORLDS.clear());
+
+        PrimalCraft.LOGGER.info("✅ [HEAT_ENTITIES] Heat entity index registered");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Heat (°C) an entity type gives off to nearby players; 0 for types that don't matter.
+     */
+    static double getEntityHeat(EntityType<?> t) {
+        if (t == EntityType.BLAZE) return 8.0;
+        if (t == EntityType.STRAY) return -6.0;
+        if (t == EntityType.MAGMA_CUBE) return 5.0;
+        if (t == EntityType.ENDERMAN) return -2.0;
+        if (t == EntityType.WITHER) return 6.0;
+        if (t == EntityType.POLAR_BEAR) return -4.0;
+        if (t == EntityType.HOGLIN) return 2.0;
+        if (t == EntityType.ZOGLIN) return 3.0;
+        if (t == EntityType.ZOMBIFIED_PIGLIN) return 1.5;
+        return 0.0;
+    }
+
+    /**
+     * Sums the heat of emitters whose bounding box intersects the box.
+     *
+     * @param except Entity to skip (the querying player)
+     * @return Unclamped heat (positive) or cold (negative) from nearby entities
+     */
+    public static double getNearbyEntityHeat(ServerWorld world, Entity except, Box box) {
+        queries++;
+        WorldIndex index = WORLDS.get(world.getRegistryKey());
+        if (index == null || index.tracked.isEmpty()) {
+            return 0.0;
+        }
+        long tick = world.getTime();
+        if (index.builtTick != tick) {
+            rebuild(index);
+            index.builtTick = tick;
+        }
+
+        int minX = MathHelper.floor(box.minX - MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+        int maxX = MathHelper.floor(box.maxX + MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+        int minY = MathHelper.floor(box.minY - MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+        int maxY = MathHelper.floor(box.maxY + MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+        int minZ = MathHelper.floor(box.minZ - MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+        int maxZ = MathHelper.floor(box.maxZ + MAX_ENTITY_EXTENT) >> CELL_SHIFT;
+
+        double delta = 0.0;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    List<Entity> cell = index.cells.get(BlockPos.asLong(cx, cy, cz));
+                    if (cell == null) continue;
+                    for (Entity e : cell) {
+                        candidates++;
+                        if (e != except && !e.isSpectator() && e.getBoundingBox().intersects(box)) {
+                            delta += getEntityHeat(e.getType());
+                        }
+                    }
+                }
+            }
+        }
+        return delta;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // MAINTENANCE
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    private static WorldIndex indexOf(ServerWorld world) {
+        return WORLDS.computeIfAbsent(world.getRegistryKey(), key -> new WorldIndex());
+    }
+
+    private static void rebuild(WorldIndex index) {
+        rebuilds++;
+        index.cells.clear();
+        Iterator<Entity> it = index.tracked.iterator();
+        while (it.hasNext()) {
+            Entity e = it.next();
+            if (e.isRemoved()) {
+                it.remove();
+                continue;
+            }
+            long key = BlockPos.asLong(
+                MathHelper.floor(e.getX()) >> CELL_SHIFT,
+                MathHelper.floor(e.getY()) >> CELL_SHIFT,
+                MathHelper.floor(e.getZ()) >> CELL_SHIFT);
+            index.cells.computeIfAbsent(key, k -> new ArrayList<>(4)).add(e);
+        }
+    }
+
+    /**
+     * Gets index statistics for debugging.
+     *
+     * @return A formatted string with index statistics
+     */
+    public static String getStatistics() {
+        int tracked = 0;
+        for (WorldIndex index : WORLDS.values()) {
+            tracked += index.tracked.size();
+        }
+        return String.format("Worlds: %d | Tracked emitters: %d | Rebuilds: %d | Queries: %d | Candidates tested: %d",
+            WORLDS.size(), tracked, rebuilds, queries, candidates);
+    }
+}
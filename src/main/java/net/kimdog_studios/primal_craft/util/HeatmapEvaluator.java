@@ -0,0 +1,271 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.Heightmap;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Primal Craft - Heatmap Evaluator
+ *
+ * Ambient + heat source temperature for a square grid of surface columns (up to
+ * {@link #MAX_SIZE} x {@link #MAX_SIZE}), for the dashboard overlay and /primal heatmap.
+ *
+ * Pipeline:
+ * - Server thread: per column, surface height (MOTION_BLOCKING heightmap) and cached
+ *   biome temperature; copies of the thermal sections under the surface
+ *   ({@link ThermalBlockIndex#captureHeatSections}). Columns in unloaded chunks are skipped
+ * - Worker pool: heat source sums per column over the copied sections, then one
+ *   {@link HeatmapKernel} pass over all columns (Vector API when available)
+ *
+ * Values match {@link AmbientTemperatureField#getAmbientTemperature} plus
+ * {@link ThermalBlockIndex#getNearbyBlockTemp} at the surface block, to float precision.
+ *
+ * The capture runs in a single server tick, so every caller (/primal heatmap, /api/heatmap)
+ * is rate-limited here: one evaluation per requester every {@link #COOLDOWN_MS} ms.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class HeatmapEvaluator {
+    public static final int MAX_SIZE = 256;
+    public static final int MAX_STEP = 16;
+    public static final long COOLDOWN_MS = 10_000L;
+
+    private static HeatmapKernel kernel;
+
+    // Last evaluation per requester key
+    private static final Map<String, Long> lastEvaluation = new HashMap<>();
+
+    // Statistics
+    private static long evaluations = 0;
+    private static long columnsEvaluated = 0;
+    private static long lastCaptureNanos = 0;
+    private static long lastKernelNanos = 0;
+
+    private HeatmapEvaluator() {
+        throw new UnsupportedOperationException("HeatmapEvaluator is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Evaluated grid. Row-major: temperatures[row * size + col] is the column at
+     * (originX + col * step, originZ + row * step); NaN where the chunk was not loaded.
+     *
+     * @param world        World registry id
+     * @param originX      Block X of the first column
+     * @param originZ      Block Z of the first column
+     * @param size         Columns per side
+     * @param step         Blocks between columns
+     * @param temperatures Temperature (°C) per column
+     * @param kernel       Kernel implementation used
+     * @param captureNanos Server thread time spent capturing
+     * @param kernelNanos  Worker time spent in heat sums and the kernel
+     */
+    public record Heatmap(
+        String world,
+        int originX,
+        int originZ,
+        int size,
+        int step,
+        float[] temperatures,
+        String kernel,
+        long captureNanos,
+        long kernelNanos
+    ) {
+        /**
+         * @return Index of the coldest loaded column, or -1 if none loaded
+         */
+        public int coldest() {
+            int best = -1;
+            for (int i = 0; i < temperatures.length; i++) {
+                if (!Float.isNaN(temperatures[i]) && (best < 0 || temperatures[i] < temperatures[best])) best = i;
+            }
+            return best;
+        }
+
+        /**
+         * @return Index of the hottest loaded column, or -1 if none loaded
+         */
+        public int hottest() {
+            int best = -1;
+            for (int i = 0; i < temperatures.length; i++) {
+                if (!Float.isNaN(temperatures[i]) && (best < 0 || temperatures[i] > temperatures[best])) best = i;
+            }
+            return best;
+        }
+
+        public int blockX(int index) {
+            return originX + (index % size) * step;
+        }
+
+        public int blockZ(int index) {
+            return originZ + (index / size) * step;
+        }
+    }
+
+    /**
+     * Thrown (through the returned future) when a requester asks again within {@link #COOLDOWN_MS}.
+     */
+    public static final class CooldownException extends RuntimeException {
+        private final long remainingMs;
+
+        CooldownException(long remainingMs) {
+            super(String.format("Heatmap is on cooldown, try again in %ds", (remainingMs + 999) / 1000));
+            this.remainingMs = remainingMs;
+        }
+
+        public long getRemainingMs() {
+            return remainingMs;
+        }
+    }
+
+    private record Capture(
+        String world,
+        int originX,
+        int originZ,
+        int size,
+        int step,
+        double dimensionTemp,
+        float base,
+        boolean[] loaded,
+        int[] surfaceY,
+        float[] biomeTemps,
+        Map<Long, byte[]> sections,
+        long captureNanos
+    ) {}
+
+    /**
+     * Evaluates a grid centred on (centerX, centerZ). Captures on the server thread
+     * (hopping to it if needed) and evaluates on the temperature worker pool.
+     *
+     * @param size      Columns per side, clamped to 1..{@link #MAX_SIZE}
+     * @param step      Blocks between columns, clamped to 1..{@link #MAX_STEP}
+     * @param requester Cooldown key, e.g. a player UUID; the future fails with
+     *                  {@link CooldownException} if it evaluated within {@link #COOLDOWN_MS}
+     */
+    public static CompletableFuture<Heatmap> evaluateAsync(ServerWorld world, int centerX, int centerZ, int size, int step,
+                                                           String requester) {
+        long remaining = acquire(requester);
+        if (remaining > 0) {
+            return CompletableFuture.failedFuture(new CooldownException(remaining));
+        }
+        int n = Math.max(1, Math.min(MAX_SIZE, size));
+        int s = Math.max(1, Math.min(MAX_STEP, step));
+        int originX = centerX - (n / 2) * s;
+        int originZ = centerZ - (n / 2) * s;
+
+        MinecraftServer server = world.getServer();
+        CompletableFuture<Capture> capture = server.isOnThread()
+            ? CompletableFuture.completedFuture(capture(world, originX, originZ, n, s))
+            : server.submit(() -> capture(world, originX, originZ, n, s));
+        return capture.thenApplyAsync(HeatmapEvaluator::evaluate, TemperatureWorkerPool.pool());
+    }
+
+    // 0 if the requester may evaluate now (and records it), otherwise ms until it may
+    private static synchronized long acquire(String requester) {
+        long now = System.currentTimeMillis();
+        Long last = lastEvaluation.get(requester);
+        if (last != null && now - last < COOLDOWN_MS) {
+            return COOLDOWN_MS - (now - last);
+        }
+        lastEvaluation.put(requester, now);
+        return 0;
+    }
+
+    private static Capture capture(ServerWorld world, int originX, int originZ, int size, int step) {
+        long start = System.nanoTime();
+        int columns = size * size;
+        boolean[] loaded = new boolean[columns];
+        int[] surfaceY = new int[columns];
+        float[] biomeTemps = new float[columns];
+        Map<Long, byte[]> sections = new HashMap<>();
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int row = 0; row < size; row++) {
+            int z = originZ + row * step;
+            for (int col = 0; col < size; col++) {
+                int x = originX + col * step;
+                WorldChunk chunk = world.getChunkManager().getWorldChunk(x >> 4, z >> 4);
+                if (chunk == null) {
+                    continue; // Not loaded - don't force a load
+                }
+                int i = row * size + col;
+                int y = chunk.sampleHeightmap(Heightmap.Type.MOTION_BLOCKING, x & 15, z & 15) + 1;
+                pos.set(x, y, z);
+                loaded[i] = true;
+                surfaceY[i] = y;
+                biomeTemps[i] = AmbientTemperatureField.getCachedBiomeTemperature(world, pos);
+                ThermalBlockIndex.captureHeatSections(world, pos, sections);
+            }
+        }
+
+        int timeOfDay = (int) (world.getTimeOfDay() % 24000);
+        float base = (float) AmbientTemperatureField.timeAndWeatherOffset(timeOfDay, world.isRaining(), world.isThundering());
+        return new Capture(world.getRegistryKey().getValue().toString(), originX, originZ, size, step,
+            AmbientTemperatureField.getDimensionTemperature(world), base,
+            loaded, surfaceY, biomeTemps, sections, System.nanoTime() - start);
+    }
+
+    private static Heatmap evaluate(Capture c) {
+        long start = System.nanoTime();
+        int columns = c.size() * c.size();
+        float[] y = new float[columns];
+        float[] heat = new float[columns];
+        float[] out = new float[columns];
+
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int i = 0; i < columns; i++) {
+            if (!c.loaded()[i]) continue;
+            y[i] = c.surfaceY()[i];
+            pos.set(c.originX() + (i % c.size()) * c.step(), c.surfaceY()[i], c.originZ() + (i / c.size()) * c.step());
+            heat[i] = (float) ThermalBlockIndex.getNearbyBlockTemp(c.sections(), pos);
+        }
+
+        HeatmapKernel k = kernel();
+        if (Double.isNaN(c.dimensionTemp())) {
+            k.evaluate(c.biomeTemps(), y, heat, c.base(), out, columns);
+        } else {
+            // Fixed-temperature dimension: no biome, time or altitude terms
+            for (int i = 0; i < columns; i++) {
+                out[i] = (float) c.dimensionTemp() + heat[i];
+            }
+        }
+        for (int i = 0; i < columns; i++) {
+            if (!c.loaded()[i]) out[i] = Float.NaN;
+        }
+
+        long kernelNanos = System.nanoTime() - start;
+        synchronized (HeatmapEvaluator.class) {
+            evaluations++;
+            columnsEvaluated += columns;
+            lastCaptureNanos = c.captureNanos();
+            lastKernelNanos = kernelNanos;
+        }
+        return new Heatmap(c.world(), c.originX(), c.originZ(), c.size(), c.step(), out, k.name(),
+            c.captureNanos(), kernelNanos);
+    }
+
+    private static synchronized HeatmapKernel kernel() {
+        if (kernel == null) {
+            kernel = HeatmapKernel.create();
+        }
+        return kernel;
+    }
+
+    /**
+     * Gets evaluator statistics for debugging.
+     *
+     * @return A formatted string with evaluator statistics
+     */
+    public static synchronized String getStatistics() {
+        return String.format("Kernel: %s | Evaluations: %d | Columns: %d | Last: capture %.2fms, kernel %.2fms",
+            kernel == null ? "not loaded" : kernel.name(), evaluations, columnsEvaluated,
+            lastCaptureNanos / 1_000_000.0, lastKernelNanos / 1_000_000.0);
+    }
+}
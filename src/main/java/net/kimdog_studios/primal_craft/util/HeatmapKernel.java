@@ -0,0 +1,133 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.kimdog_studios.primal_craft.PrimalCraft;
+
+import java.util.Arrays;
+
+/**
+ * Primal Craft - Heatmap Kernel
+ *
+ * Column-batch form of the ambient temperature model used by {@link HeatmapEvaluator}:
+ *
+ *   out[i] = biomeCurve(biome[i]) + altitude(y[i]) + base + heat[i]
+ *
+ * - biomeCurve is {@link TemperatureSystem#convertBiomeToRealTemp} rewritten as a sum of
+ *   clamped hinges (one per run of equal slope on the 0.05 grid), so it needs no table
+ *   gather and maps directly onto SIMD lanes
+ * - altitude is the lapse rate / geothermal gradient of the ambient field
+ * - base is the position-independent time of day, sun and weather offset
+ *
+ * Implementations:
+ * - {@link Scalar} - plain loop, always available
+ * - VectorHeatmapKernel (src/vector) - JDK Vector API; only used when the JVM was started
+ *   with {@code --add-modules jdk.incubator.vector}, loaded reflectively so the mod never
+ *   links against the incubator module otherwise
+ *
+ * Both evaluate the same float operations in the same order, so results are identical.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public abstract class HeatmapKernel {
+    private static final String VECTOR_KERNEL = "net.kimdog_studios.primal_craft.util.VectorHeatmapKernel";
+    private static final float BIOME_STEP = 0.05f;
+    private static final int BIOME_STEPS = 40; // 0.0 - 2.0
+
+    protected static final float SEA_LEVEL = 64.0f;
+    protected static final float LAPSE_RATE = 0.065f;       // °C per block above sea level
+    protected static final float GEOTHERMAL_RATE = 0.02f;   // °C per block below sea level
+
+    protected final float curveBase;
+    protected final float[] hingeStart;
+    protected final float[] hingeWidth;
+    protected final float[] hingeSlope;
+
+    protected HeatmapKernel() {
+        double[] table = new double[BIOME_STEPS + 1];
+        for (int i = 0; i <= BIOME_STEPS; i++) {
+            table[i] = TemperatureSystem.convertBiomeToRealTemp(i * BIOME_STEP);
+        }
+
+        // Merge runs of equal slope into single hinges
+        float[] start = new float[BIOME_STEPS];
+        float[] width = new float[BIOME_STEPS];
+        float[] slope = new float[BIOME_STEPS];
+        int count = 0;
+        for (int i = 0; i < BIOME_STEPS; i++) {
+            double s = (table[i + 1] - table[i]) / BIOME_STEP;
+            if (count > 0 && Math.abs(slope[count - 1] - s) < 1e-4) {
+                width[count - 1] += BIOME_STEP;
+            } else {
+                start[count] = i * BIOME_STEP;
+                width[count] = BIOME_STEP;
+                slope[count] = (float) s;
+                count++;
+            }
+        }
+        curveBase = (float) table[0];
+        hingeStart = Arrays.copyOf(start, count);
+        hingeWidth = Arrays.copyOf(width, count);
+        hingeSlope = Arrays.copyOf(slope, count);
+    }
+
+    /**
+     * @return Short implementation name for stats and the dashboard
+     */
+    public abstract String name();
+
+    /**
+     * Evaluates the first {@code length} columns into {@code out}.
+     *
+     * @param biomeTemps Vanilla biome temperature (0-2 scale) per column
+     * @param y          Surface Y per column
+     * @param heat       Heat (positive) or cold (negative) from nearby blocks per column
+     * @param base       Time of day, sun and weather offset shared by every column
+     */
+    public abstract void evaluate(float[] biomeTemps, float[] y, float[] heat, float base, float[] out, int length);
+
+    /**
+     * Single-column evaluation; the scalar kernel and the tail of vector kernels.
+     */
+    protected final float evaluateColumn(float biomeTemp, float y, float heat, float base) {
+        float t = curveBase;
+        for (int k = 0; k < hingeStart.length; k++) {
+            t += Math.min(Math.max(biomeTemp - hingeStart[k], 0.0f), hingeWidth[k]) * hingeSlope[k];
+        }
+        t += Math.max(SEA_LEVEL - y, 0.0f) * GEOTHERMAL_RATE;
+        t -= Math.max(y - SEA_LEVEL, 0.0f) * LAPSE_RATE;
+        return t + base + heat;
+    }
+
+    /**
+     * Creates the fastest available kernel: the Vector API kernel when the incubator module
+     * is present, otherwise the scalar loop.
+     */
+    static HeatmapKernel create() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                return (HeatmapKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                PrimalCraft.LOGGER.warn("⚠️ [HEATMAP] Vector kernel unavailable, using scalar: {}", e.toString());
+            }
+        }
+        return new Scalar();
+    }
+
+    /**
+     * Plain loop over {@link #evaluateColumn}.
+     */
+    public static final class Scalar extends HeatmapKernel {
+        @Override
+        public String name() {
+            return "scalar";
+        }
+
+        @Override
+        public void evaluate(float[] biomeTemps, float[] y, float[] heat, float base, float[] out, int length) {
+            for (int i = 0; i < length; i++) {
+                out[i] = evaluateColumn(biomeTemps[i], y[i], heat[i], base);
+            }
+        }
+    }
+}
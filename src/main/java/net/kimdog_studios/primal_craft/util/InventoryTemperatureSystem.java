@@ -1,5 +1,6 @@
 package net.kimdog_studios.primal_craft.util;
 
+import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -35,9 +36,12 @@ public final class InventoryTemperatureSystem {
     /** Estimate temperature of an item stack based on carry duration and ambient temperature. */
     public static double estimateItemTemperature(ServerPlayerEntity player, ItemStack stack, int slotIndex) {
         double ambient = TemperatureSystem.getPlayerTemperature(player);
-        UUID id = player.getUuid();
-        long[] seen = slotFirstSeen.get(id);
         long now = player.getEntityWorld().getTime();
+        return estimateItemTemperature(stack, slotIndex, slotFirstSeen.get(player.getUuid()), now, ambient);
+    }
+
+    /** Player-independent core of {@link #estimateItemTemperature(ServerPlayerEntity, ItemStack, int)}. */
+    static double estimateItemTemperature(ItemStack stack, int slotIndex, long[] seen, long now, double ambient) {
         long carryTicks = (seen != null && slotIndex >= 0 && slotIndex < seen.length) ? Math.max(0L, now - seen[slotIndex]) : 0L;
 
         // Base initial temps: liquids start cooler, metals start near ambient, food moderate
@@ -56,15 +60,20 @@ public final class InventoryTemperatureSystem {
 
     /** Compute total inventory heat modifier to apply to player temperature. */
     public static double getInventoryHeatModifier(ServerPlayerEntity player) {
-        var inv = player.getInventory();
         double ambient = TemperatureSystem.getPlayerTemperature(player);
+        long now = player.getEntityWorld().getTime();
+        return getInventoryHeatModifier(player.getInventory(), slotFirstSeen.get(player.getUuid()), now, ambient);
+    }
+
+    /** Player-independent core of {@link #getInventoryHeatModifier(ServerPlayerEntity)}. */
+    static double getInventoryHeatModifier(Inventory inv, long[] seen, long now, double ambient) {
         double total = 0.0;
         int count = 0;
 
         for (int i = 0; i < inv.size(); i++) {
             ItemStack stack = inv.getStack(i);
             if (stack.isEmpty()) continue;
-            double temp = estimateItemTemperature(player, stack, i);
+            double temp = estimateItemTemperature(stack, i, seen, now, ambient);
             double heatContribution = itemHeatContribution(stack, temp, ambient);
             total += heatContribution;
             count++;
@@ -1,6 +1,7 @@
 package net.kimdog_studios.primal_craft.util;
 
 import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.inventory.Inventory;
 import net.minecraft.item.ItemStack;
 import net.minecraft.item.Items;
 import net.minecraft.registry.Registries;
@@ -253,15 +254,23 @@ public final class ItemWeightSystem {
      * Returns stamina drain per tick based on carried items.
      */
     public static double calculateInventoryWeightPenalty(net.minecraft.entity.player.PlayerEntity player) {
+        PrimalCraft.LOGGER.trace("⚖️  [WEIGHT_CALC] Computing inventory weight for {}", player.getName().getString());
+        return calculateInventoryWeightPenalty(player.getInventory());
+    }
+
+    /**
+     * Calculate total weight penalty for any inventory.
+     * Returns stamina drain per tick based on carried items.
+     */
+    public static double calculateInventoryWeightPenalty(Inventory inventory) {
         double totalWeight = 0.0;
         int itemCount = 0;
 
-        PrimalCraft.LOGGER.trace("⚖️  [WEIGHT_CALC] Computing inventory weight for {}", player.getName().getString());
-        PrimalCraft.LOGGER.trace("   ├─ Scanning {} inventory slots...", player.getInventory().size());
+        PrimalCraft.LOGGER.trace("   ├─ Scanning {} inventory slots...", inventory.size());
 
         // Check all inventory slots (0-35 main, 36-39 armor, 40 offhand)
-        for (int i = 0; i < player.getInventory().size(); i++) {
-            ItemStack stack = player.getInventory().getStack(i);
+        for (int i = 0; i < inventory.size(); i++) {
+            ItemStack stack = inventory.getStack(i);
             if (!stack.isEmpty()) {
                 double itemWeight = getItemWeight(stack);
                 double stackWeight = itemWeight * stack.getCount();
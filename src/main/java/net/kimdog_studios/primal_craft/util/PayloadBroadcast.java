@@ -0,0 +1,72 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.network.packet.Packet;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Primal Craft - Payload Broadcast
+ *
+ * Sends one payload to many players through a single shared packet, the way vanilla
+ * broadcasts its own packets, instead of building a packet per player with
+ * {@link ServerPlayNetworking#send}.
+ *
+ * Each connection still runs the payload codec, so payloads meant for broadcast should
+ * carry their encoded form (e.g. {@code ChatAnimatedPayload.preEncoded}) to make that a
+ * byte copy.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PayloadBroadcast {
+    // Statistics
+    private static final LongAdder broadcasts = new LongAdder();
+    private static final LongAdder deliveries = new LongAdder();
+
+    private PayloadBroadcast() {
+        throw new UnsupportedOperationException("PayloadBroadcast is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Sends a payload to every recipient using one packet instance.
+     *
+     * @param recipients Players to send to
+     * @param payload    Payload to send
+     */
+    public static void send(Collection<ServerPlayerEntity> recipients, CustomPayload payload) {
+        if (recipients.isEmpty()) {
+            return;
+        }
+        send(recipients, ServerPlayNetworking.createS2CPacket(payload));
+    }
+
+    /**
+     * Sends an already built packet (e.g. particles) to every recipient.
+     *
+     * @param recipients Players to send to
+     * @param packet     Packet to send
+     */
+    public static void send(Collection<ServerPlayerEntity> recipients, Packet<?> packet) {
+        for (ServerPlayerEntity player : recipients) {
+            player.networkHandler.sendPacket(packet);
+        }
+        broadcasts.increment();
+        deliveries.add(recipients.size());
+    }
+
+    /**
+     * Gets broadcast statistics for debugging.
+     *
+     * @return A formatted string with broadcast statistics
+     */
+    public static String getStatistics() {
+        long sent = broadcasts.sum();
+        return String.format("Broadcasts: %d | Deliveries: %d | Avg recipients: %.1f",
+            sent, deliveries.sum(), sent == 0 ? 0.0 : (double) deliveries.sum() / sent);
+    }
+}
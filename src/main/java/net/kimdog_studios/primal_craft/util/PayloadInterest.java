@@ -0,0 +1,148 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.scoreboard.AbstractTeam;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Primal Craft - Payload Interest
+ *
+ * Area-of-interest filtering for broadcast-style payloads. Each payload type declares who
+ * a send from one player is relevant to, and {@link #send} delivers it only to them
+ * through {@link PayloadBroadcast}:
+ *
+ * <pre>{@code
+ * PayloadInterest.declare(TypingIndicatorPayload.ID, PayloadInterest.Rule.nearby(128));
+ * PayloadInterest.send(player, new TypingIndicatorPayload(...));
+ * }</pre>
+ *
+ * Scopes:
+ * - GLOBAL: every online player
+ * - SAME_DIMENSION: players in the source's world
+ * - NEARBY: the source plus players tracking it within the radius; uses the entity
+ *   tracker's player set, so the radius is capped by the entity tracking range
+ * - TEAM: the source's scoreboard team, standing in for a friends list
+ *
+ * Types without a declaration are sent globally.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PayloadInterest {
+    private static final Map<CustomPayload.Id<?>, Rule> RULES = new ConcurrentHashMap<>();
+
+    // Statistics
+    private static final LongAdder sends = new LongAdder();
+    private static final LongAdder delivered = new LongAdder();
+    private static final LongAdder filtered = new LongAdder();
+
+    private PayloadInterest() {
+        throw new UnsupportedOperationException("PayloadInterest is a utility class and cannot be instantiated");
+    }
+
+    public enum Scope {
+        GLOBAL,
+        SAME_DIMENSION,
+        NEARBY,
+        TEAM
+    }
+
+    /**
+     * Relevance rule for one payload type.
+     *
+     * @param scope  Who the payload is relevant to
+     * @param radius Block radius for {@link Scope#NEARBY}, unused otherwise
+     */
+    public record Rule(Scope scope, double radius) {
+        public static final Rule GLOBAL = new Rule(Scope.GLOBAL, 0);
+        public static final Rule SAME_DIMENSION = new Rule(Scope.SAME_DIMENSION, 0);
+        public static final Rule TEAM = new Rule(Scope.TEAM, 0);
+
+        public static Rule nearby(double radius) {
+            return new Rule(Scope.NEARBY, radius);
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // DECLARATION AND DELIVERY
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Declares the relevance rule for a payload type.
+     */
+    public static void declare(CustomPayload.Id<?> id, Rule rule) {
+        RULES.put(id, rule);
+    }
+
+    /**
+     * Sends a payload originating from a player to everyone its declared rule covers.
+     */
+    public static void send(ServerPlayerEntity source, CustomPayload payload) {
+        List<ServerPlayerEntity> recipients = recipients(source, RULES.getOrDefault(payload.getId(), Rule.GLOBAL));
+        PayloadBroadcast.send(recipients, payload);
+
+        int online = source.getEntityWorld().getServer().getPlayerManager().getCurrentPlayerCount();
+        sends.increment();
+        delivered.add(recipients.size());
+        filtered.add(Math.max(0, online - recipients.size()));
+    }
+
+    /**
+     * Resolves the players a rule covers for a given source player.
+     *
+     * @return Recipients; may be a live server list, do not modify
+     */
+    public static List<ServerPlayerEntity> recipients(ServerPlayerEntity source, Rule rule) {
+        return switch (rule.scope()) {
+            case GLOBAL -> source.getEntityWorld().getServer().getPlayerManager().getPlayerList();
+            case SAME_DIMENSION -> source.getEntityWorld().getPlayers();
+            case NEARBY -> nearby(source, rule.radius());
+            case TEAM -> team(source);
+        };
+    }
+
+    private static List<ServerPlayerEntity> nearby(ServerPlayerEntity source, double radius) {
+        double radiusSq = radius * radius;
+        List<ServerPlayerEntity> result = new ArrayList<>();
+        result.add(source);
+        // Players whose clients track the source entity, kept by the chunk loading manager
+        for (ServerPlayerEntity player : PlayerLookup.tracking(source)) {
+            if (player != source && player.squaredDistanceTo(source) <= radiusSq) {
+                result.add(player);
+            }
+        }
+        return result;
+    }
+
+    private static List<ServerPlayerEntity> team(ServerPlayerEntity source) {
+        AbstractTeam team = source.getScoreboardTeam();
+        if (team == null) {
+            return List.of(source);
+        }
+        List<ServerPlayerEntity> result = new ArrayList<>();
+        for (ServerPlayerEntity player : source.getEntityWorld().getServer().getPlayerManager().getPlayerList()) {
+            if (player == source || player.isTeamPlayer(team)) {
+                result.add(player);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets interest filtering statistics for debugging.
+     *
+     * @return A formatted string with filtering statistics
+     */
+    public static String getStatistics() {
+        return String.format("Sends: %d | Delivered: %d | Filtered out: %d | Rules: %d",
+            sends.sum(), delivered.sum(), filtered.sum(), RULES.size());
+    }
+}
@@ -0,0 +1,293 @@
+package net.kimdog_studios.primal_craft.util;
+
+import io.netty.buffer.ByteBuf;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.network.codec.PacketCodec;
+import net.minecraft.network.packet.CustomPayload;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Primal Craft - Payload Traffic
+ *
+ * Packet and byte counters for the mod's network payloads, per payload type and per
+ * player. Payload codecs are wrapped at registration time:
+ *
+ * <pre>{@code
+ * PayloadTypeRegistry.playS2C().register(WindFieldPayload.ID, PayloadTraffic.s2c(WindFieldPayload.ID, WindFieldPayload.CODEC));
+ * }</pre>
+ *
+ * Counting:
+ * - Per type: exact encoded size, measured in the codec (S2C on encode, C2S on decode),
+ *   plus the channel identifier written ahead of every custom payload; packet framing and
+ *   compression are not included
+ * - Per player: S2C packets counted as they are sent; bytes use the type's mean encoded
+ *   size, since encoding happens later on the connection's netty thread
+ * - Local (singleplayer) connections skip encoding, so only packets are counted there
+ *
+ * Counters are {@link LongAdder}s, so netty threads and the server thread never contend.
+ * Once a second the server tick copies the running totals into a 60-second history ring;
+ * rates over 1, 10 and 60 seconds are the difference between the latest sample and the
+ * one that many seconds back.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PayloadTraffic {
+    private static final int SAMPLE_INTERVAL_TICKS = 20;
+    private static final int HISTORY = 61; // Samples: now plus 60 seconds back
+    private static final int[] WINDOWS_SECONDS = {1, 10, 60};
+
+    private static final Map<CustomPayload.Id<?>, Counter> S2C_TYPES = new ConcurrentHashMap<>();
+    private static final Map<CustomPayload.Id<?>, Counter> C2S_TYPES = new ConcurrentHashMap<>();
+    private static final Map<UUID, Counter> PLAYERS = new ConcurrentHashMap<>();
+
+    // History ring, guarded by HISTORY_LOCK; per-counter rings share these timestamps
+    private static final Object HISTORY_LOCK = new Object();
+    private static final long[] sampleNanos = new long[HISTORY];
+    private static int head = -1;
+    private static int samples = 0;
+
+    private static boolean registered = false;
+
+    private PayloadTraffic() {
+        throw new UnsupportedOperationException("PayloadTraffic is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Packet and byte rates over one window.
+     */
+    public record Rates(double packetsPerSecond, double bytesPerSecond) {}
+
+    /**
+     * Snapshot of one counter: running totals plus 1s, 10s and 60s rates.
+     */
+    public record TrafficStats(String name, long packets, long bytes, Rates last1s, Rates last10s, Rates last60s) {}
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // REGISTRATION
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Registers the once-a-second sampler and per-player cleanup. Codecs can be wrapped
+     * with {@link #s2c}/{@link #c2s} before this is called.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("PayloadTraffic", server -> {
+            if (server.getTicks() % SAMPLE_INTERVAL_TICKS == 0) {
+                sample();
+            }
+        }));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> PLAYERS.remove(handler.getPlayer().getUuid()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> PLAYERS.clear());
+
+        PrimalCraft.LOGGER.info("✅ [PAYLOAD_TRAFFIC] Payload traffic accounting registered");
+    }
+
+    /**
+     * Wraps a server-to-client payload codec so every encode is counted.
+     */
+    public static <B extends ByteBuf, T extends CustomPayload> PacketCodec<B, T> s2c(CustomPayload.Id<T> id, PacketCodec<B, T> codec) {
+        Counter counter = S2C_TYPES.computeIfAbsent(id, k -> new Counter(k.id().toString()));
+        int idBytes = identifierBytes(id);
+        return new PacketCodec<>() {
+            @Override
+            public T decode(B buf) {
+                return codec.decode(buf);
+            }
+
+            @Override
+            public void encode(B buf, T value) {
+                int start = buf.writerIndex();
+                codec.encode(buf, value);
+                counter.record(buf.writerIndex() - start + idBytes);
+            }
+        };
+    }
+
+    /**
+     * Wraps a client-to-server payload codec so every decode is counted.
+     */
+    public static <B extends ByteBuf, T extends CustomPayload> PacketCodec<B, T> c2s(CustomPayload.Id<T> id, PacketCodec<B, T> codec) {
+        Counter counter = C2S_TYPES.computeIfAbsent(id, k -> new Counter(k.id().toString()));
+        int idBytes = identifierBytes(id);
+        return new PacketCodec<>() {
+            @Override
+            public T decode(B buf) {
+                int start = buf.readerIndex();
+                T value = codec.decode(buf);
+                counter.record(buf.readerIndex() - start + idBytes);
+                return value;
+            }
+
+            @Override
+            public void encode(B buf, T value) {
+                codec.encode(buf, value);
+            }
+        };
+    }
+
+    // Identifier string as written on the wire: VarInt length prefix + UTF-8 bytes
+    private static int identifierBytes(CustomPayload.Id<?> id) {
+        int length = id.id().toString().getBytes(StandardCharsets.UTF_8).length;
+        int prefix = 1;
+        for (int rest = length >>> 7; rest != 0; rest >>>= 7) {
+            prefix++;
+        }
+        return prefix + length;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // RECORDING
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Counts a payload sent to a player. Called for every custom payload packet; payload
+     * types not wrapped with {@link #s2c} are ignored.
+     */
+    public static void onSend(ServerPlayerEntity player, CustomPayload payload) {
+        Counter type = S2C_TYPES.get(payload.getId());
+        if (type == null) {
+            return;
+        }
+        PLAYERS.computeIfAbsent(player.getUuid(), k -> new Counter(player.getName().getString()))
+            .record(type.meanBytes());
+    }
+
+    // Copies running totals into the history ring
+    private static void sample() {
+        synchronized (HISTORY_LOCK) {
+            head = (head + 1) % HISTORY;
+            sampleNanos[head] = System.nanoTime();
+            samples = Math.min(samples + 1, HISTORY);
+            S2C_TYPES.values().forEach(counter -> counter.sample(head));
+            C2S_TYPES.values().forEach(counter -> counter.sample(head));
+            PLAYERS.values().forEach(counter -> counter.sample(head));
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * @return Server-to-client stats per payload type, most bytes over 10s first
+     */
+    public static List<TrafficStats> getS2CStats() {
+        return snapshot(S2C_TYPES.values());
+    }
+
+    /**
+     * @return Client-to-server stats per payload type, most bytes over 10s first
+     */
+    public static List<TrafficStats> getC2SStats() {
+        return snapshot(C2S_TYPES.values());
+    }
+
+    /**
+     * @return Server-to-client stats per online player, most bytes over 10s first
+     */
+    public static List<TrafficStats> getPlayerStats() {
+        return snapshot(PLAYERS.values());
+    }
+
+    private static List<TrafficStats> snapshot(Iterable<Counter> counters) {
+        List<TrafficStats> stats = new ArrayList<>();
+        synchronized (HISTORY_LOCK) {
+            for (Counter counter : counters) {
+                stats.add(counter.snapshot());
+            }
+        }
+        stats.sort(Comparator.comparingDouble((TrafficStats s) -> s.last10s().bytesPerSecond()).reversed());
+        return stats;
+    }
+
+    /**
+     * Gets traffic statistics for debugging.
+     *
+     * @return A formatted string with traffic statistics
+     */
+    public static String getStatistics() {
+        long packets = 0;
+        long bytes = 0;
+        for (Counter counter : S2C_TYPES.values()) {
+            packets += counter.packets.sum();
+            bytes += counter.bytes.sum();
+        }
+        return String.format("S2C types: %d | C2S types: %d | Players: %d | S2C packets: %d | S2C bytes: %d",
+            S2C_TYPES.size(), C2S_TYPES.size(), PLAYERS.size(), packets, bytes);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // COUNTER
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Striped running totals plus their once-a-second history. Totals before a counter
+     * existed were zero, so a fresh history of zeros is correct.
+     */
+    private static final class Counter {
+        private final String name;
+        private final LongAdder packets = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final long[] packetHistory = new long[HISTORY];
+        private final long[] byteHistory = new long[HISTORY];
+
+        Counter(String name) {
+            this.name = name;
+        }
+
+        void record(long size) {
+            packets.increment();
+            bytes.add(size);
+        }
+
+        long meanBytes() {
+            long count = packets.sum();
+            return count == 0 ? 0 : Math.round((double) bytes.sum() / count);
+        }
+
+        // Caller holds HISTORY_LOCK
+        void sample(int index) {
+            packetHistory[index] = packets.sum();
+            byteHistory[index] = bytes.sum();
+        }
+
+        // Caller holds HISTORY_LOCK
+        TrafficStats snapshot() {
+            return new TrafficStats(name, packets.sum(), bytes.sum(),
+                rates(WINDOWS_SECONDS[0]), rates(WINDOWS_SECONDS[1]), rates(WINDOWS_SECONDS[2]));
+        }
+
+        private Rates rates(int seconds) {
+            if (samples < 2) {
+                return new Rates(0, 0);
+            }
+            int back = Math.min(seconds, samples - 1);
+            int from = Math.floorMod(head - back, HISTORY);
+            double elapsed = (sampleNanos[head] - sampleNanos[from]) / 1_000_000_000.0;
+            if (elapsed <= 0) {
+                return new Rates(0, 0);
+            }
+            return new Rates((packetHistory[head] - packetHistory[from]) / elapsed,
+                (byteHistory[head] - byteHistory[from]) / elapsed);
+        }
+    }
+}
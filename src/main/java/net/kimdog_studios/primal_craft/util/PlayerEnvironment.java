@@ -0,0 +1,115 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Primal Craft - Player Environment Snapshot
+ *
+ * View of a player's surroundings for one server tick, created by the
+ * {@link SurvivalTickPipeline} and handed to every survival stage. Stages should read
+ * position, biome, sky exposure, temperature and inventory weight from here instead of
+ * re-querying the world.
+ *
+ * Everything except the tick and block position is computed on first access and then
+ * reused by later stages, so each value costs at most one lookup per player per tick,
+ * and nothing when no enabled stage reads it. Server thread only.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PlayerEnvironment {
+    private final ServerPlayerEntity player;
+    private final int serverTick;
+    private final BlockPos blockPos;
+
+    // Lazily computed; null / NaN = not computed yet
+    private String biome;
+    private Boolean skyVisible;
+    private double temperature = Double.NaN;
+    private double effectiveTemperature = Double.NaN;
+    private double weightPenalty = Double.NaN;
+
+    private PlayerEnvironment(ServerPlayerEntity player, int serverTick, BlockPos blockPos) {
+        this.player = player;
+        this.serverTick = serverTick;
+        this.blockPos = blockPos;
+    }
+
+    /**
+     * Creates the environment for a player on the given tick.
+     *
+     * @param player     The player to sample
+     * @param serverTick The current server tick
+     * @return A new snapshot
+     */
+    public static PlayerEnvironment capture(ServerPlayerEntity player, int serverTick) {
+        return new PlayerEnvironment(player, serverTick, player.getBlockPos());
+    }
+
+    /**
+     * @return Server tick the snapshot was taken on
+     */
+    public int serverTick() {
+        return serverTick;
+    }
+
+    /**
+     * @return Block position of the player
+     */
+    public BlockPos blockPos() {
+        return blockPos;
+    }
+
+    /**
+     * @return Biome registry path (e.g. "plains"), or "unknown"
+     */
+    public String biome() {
+        if (biome == null) {
+            biome = player.getEntityWorld().getBiome(blockPos).getKey()
+                .map(k -> k.getValue().getPath()).orElse("unknown");
+        }
+        return biome;
+    }
+
+    /**
+     * @return Whether the player's block can see the sky
+     */
+    public boolean skyVisible() {
+        if (skyVisible == null) {
+            skyVisible = ExposureCache.isSkyVisible(player.getEntityWorld(), blockPos);
+        }
+        return skyVisible;
+    }
+
+    /**
+     * @return Body temperature from {@link TemperatureSystem#getPlayerTemperature}
+     */
+    public double temperature() {
+        if (Double.isNaN(temperature)) {
+            temperature = TemperatureSystem.getPlayerTemperature(player);
+        }
+        return temperature;
+    }
+
+    /**
+     * @return Temperature including the biome modifier
+     */
+    public double effectiveTemperature() {
+        if (Double.isNaN(effectiveTemperature)) {
+            effectiveTemperature = temperature() + TemperatureSystem.getBiomeTemperatureModifier(player);
+        }
+        return effectiveTemperature;
+    }
+
+    /**
+     * @return Inventory weight penalty from {@link ItemWeightSystem}
+     */
+    public double weightPenalty() {
+        if (Double.isNaN(weightPenalty)) {
+            weightPenalty = ItemWeightSystem.calculateInventoryWeightPenalty(player);
+        }
+        return weightPenalty;
+    }
+}
@@ -0,0 +1,197 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Primal Craft - Player Temperature Store
+ *
+ * Dense per-player state for {@link TemperatureSystem}, stored as parallel primitive arrays
+ * indexed by a slot number:
+ * - Smoothed temperature (NaN until first calculation)
+ * - Last calculation time (0 = never)
+ * - Last time the player got wet (0 = dry)
+ * - Temperature trend (delta from previous calculation)
+ * - Staged model inputs and last breakdown ({@link TemperatureFactors})
+ *
+ * Slots are allocated on join and returned to a free list on disconnect, so there is no
+ * cap, no eviction and no periodic sweep. The slot number is kept on the player entity
+ * (see ServerPlayerTemperatureSlotMixin), so the hot read path is a field read plus an
+ * array index; the UUID map is only consulted when a new entity instance (respawn,
+ * dimension change) first asks for its slot.
+ *
+ * Server thread only.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class PlayerTemperatureStore {
+    private static final int INITIAL_CAPACITY = 16;
+    static final int NO_SLOT = -1;
+
+    private static final Map<UUID, Integer> SLOTS = new HashMap<>();
+    private static int[] freeSlots = new int[INITIAL_CAPACITY];
+    private static int freeCount = 0;
+    private static int nextSlot = 0;
+
+    private static double[] temperature = new double[INITIAL_CAPACITY];
+    private static long[] lastCalcTime = new long[INITIAL_CAPACITY];
+    private static long[] lastWaterTime = new long[INITIAL_CAPACITY];
+    private static double[] trend = new double[INITIAL_CAPACITY];
+    private static TemperatureFactors[] factors = new TemperatureFactors[INITIAL_CAPACITY];
+
+    private static boolean registered = false;
+
+    private PlayerTemperatureStore() {
+        throw new UnsupportedOperationException("PlayerTemperatureStore is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Implemented on ServerPlayerEntity by mixin to cache the player's slot number.
+     */
+    public interface SlotHolder {
+        int primal_craft$getTemperatureSlot();
+
+        void primal_craft$setTemperatureSlot(int slot);
+    }
+
+    /**
+     * Registers join/disconnect listeners. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> slotOf(handler.getPlayer()));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> release(handler.getPlayer()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> clear());
+
+        PrimalCraft.LOGGER.info("✅ [TEMP_STORE] Player temperature store registered");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // SLOTS
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Gets the player's slot, allocating one if the player has none yet.
+     */
+    static int slotOf(ServerPlayerEntity player) {
+        SlotHolder holder = (SlotHolder) player;
+        int slot = holder.primal_craft$getTemperatureSlot();
+        if (slot != NO_SLOT) {
+            return slot;
+        }
+
+        Integer existing = SLOTS.get(player.getUuid());
+        slot = existing != null ? existing : allocate(player.getUuid());
+        holder.primal_craft$setTemperatureSlot(slot);
+        return slot;
+    }
+
+    private static int allocate(UUID playerId) {
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            slot = nextSlot++;
+            if (slot == temperature.length) {
+                grow(temperature.length * 2);
+            }
+        }
+        temperature[slot] = Double.NaN;
+        lastCalcTime[slot] = 0L;
+        lastWaterTime[slot] = 0L;
+        trend[slot] = 0.0;
+        factors[slot] = new TemperatureFactors();
+        SLOTS.put(playerId, slot);
+        return slot;
+    }
+
+    private static void release(ServerPlayerEntity player) {
+        Integer slot = SLOTS.remove(player.getUuid());
+        ((SlotHolder) player).primal_craft$setTemperatureSlot(NO_SLOT);
+        if (slot == null) {
+            return;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        factors[slot] = null;
+    }
+
+    private static void grow(int capacity) {
+        temperature = Arrays.copyOf(temperature, capacity);
+        lastCalcTime = Arrays.copyOf(lastCalcTime, capacity);
+        lastWaterTime = Arrays.copyOf(lastWaterTime, capacity);
+        trend = Arrays.copyOf(trend, capacity);
+        factors = Arrays.copyOf(factors, capacity);
+    }
+
+    private static void clear() {
+        SLOTS.clear();
+        freeCount = 0;
+        nextSlot = 0;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // FIELDS
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    static double getTemperature(int slot) {
+        return temperature[slot];
+    }
+
+    static void setTemperature(int slot, double value) {
+        temperature[slot] = value;
+    }
+
+    static long getLastCalcTime(int slot) {
+        return lastCalcTime[slot];
+    }
+
+    static void setLastCalcTime(int slot, long time) {
+        lastCalcTime[slot] = time;
+    }
+
+    static long getLastWaterTime(int slot) {
+        return lastWaterTime[slot];
+    }
+
+    static void setLastWaterTime(int slot, long time) {
+        lastWaterTime[slot] = time;
+    }
+
+    static double getTrend(int slot) {
+        return trend[slot];
+    }
+
+    static void setTrend(int slot, double value) {
+        trend[slot] = value;
+    }
+
+    static TemperatureFactors getFactors(int slot) {
+        return factors[slot];
+    }
+
+    /**
+     * Gets store statistics for debugging.
+     *
+     * @return A formatted string with store statistics
+     */
+    public static String getStatistics() {
+        return String.format("Players: %d | Slots: %d allocated, %d free, capacity %d",
+            SLOTS.size(), nextSlot, freeCount, temperature.length);
+    }
+}
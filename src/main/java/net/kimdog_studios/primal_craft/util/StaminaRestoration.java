@@ -1,6 +1,5 @@
 package net.kimdog_studios.primal_craft.util;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.minecraft.item.ItemStack;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -35,11 +34,8 @@ public final class StaminaRestoration {
         PrimalCraft.LOGGER.debug("   └─ Registering rest detection...");
 
         // Tick update for stamina restoration when resting
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                checkForRestAndRestore(player);
-            }
-        });
+        SurvivalTickPipeline.registerStage("stamina_restoration", 300, SurvivalTickPipeline.ALWAYS,
+            (player, env) -> checkForRestAndRestore(player));
 
         PrimalCraft.LOGGER.info("✅ [STAMINA_RESTORATION] Rest detection registered");
     }
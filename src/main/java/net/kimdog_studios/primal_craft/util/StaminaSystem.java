@@ -1,11 +1,8 @@
 package net.kimdog_studios.primal_craft.util;
 
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
-import net.kimdog_studios.primal_craft.network.StaminaSyncPayload;
 // import net.kimdog_studios.primal_craft.event.MountStaminaHandler;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -31,9 +28,8 @@ import java.util.concurrent.ConcurrentHashMap;
  * - Thread-safe concurrent player tracking
  *
  * Network Synchronization:
- * - Syncs to clients every 5 ticks (~4 times per second)
- * - Uses efficient payload-based networking
- * - Only sends changed values to reduce bandwidth
+ * - Stamina reaches clients through {@link VitalsSync} (delta-encoded, every 5 ticks)
+ * - Consumption and set trigger an immediate {@link VitalsSync#syncNow}
  *
  * Performance:
  * - Constant O(n) complexity where n = number of online players
@@ -49,12 +45,10 @@ public final class StaminaSystem {
     private static final double MAX_STAMINA = 100.0;
     private static final double MIN_STAMINA = 0.0;
     private static final double REGEN_PER_TICK = 1.0;
-    private static final int SYNC_INTERVAL_TICKS = 5; // Sync 4 times per second
     private static final int STATS_LOG_INTERVAL = 200; // Log stats every 10 seconds
 
     // Thread-safe storage
     private static final Map<UUID, Double> STAMINA = new ConcurrentHashMap<>();
-    private static final Map<UUID, Double> LAST_SYNCED_STAMINA = new ConcurrentHashMap<>();
 
     // Network identifier
     private static final Identifier STAMINA_SYNC_ID = Identifier.of(PrimalCraft.MOD_ID, "stamina_sync");
@@ -62,7 +56,6 @@ public final class StaminaSystem {
     // Statistics tracking
     private static volatile int tickCounter = 0;
     private static volatile int consumptionEvents = 0;
-    private static volatile int syncEvents = 0;
     private static volatile int regenEvents = 0;
 
     // Singleton pattern - prevent instantiation
@@ -82,14 +75,15 @@ public final class StaminaSystem {
         PrimalCraft.LOGGER.info("⚙️  [STAMINA_SYSTEM] Initializing StaminaSystem v1.0.0");
         PrimalCraft.LOGGER.debug("   ├─ Max Stamina: {} units", MAX_STAMINA);
         PrimalCraft.LOGGER.debug("   ├─ Base Regen: {} units/tick", REGEN_PER_TICK);
-        PrimalCraft.LOGGER.debug("   ├─ Sync Interval: {} ticks (~{} Hz)", SYNC_INTERVAL_TICKS, 20.0 / SYNC_INTERVAL_TICKS);
         PrimalCraft.LOGGER.debug("   ├─ Thread Safety: ConcurrentHashMap enabled");
         PrimalCraft.LOGGER.debug("   └─ Registering event listeners...");
 
         try {
-            // Register tick handler for stamina regeneration
-            ServerTickEvents.END_SERVER_TICK.register(StaminaSystem::tick);
-            PrimalCraft.LOGGER.debug("      ✓ Registered tick handler");
+            // Register survival pipeline stage for stamina regeneration
+            SurvivalTickPipeline.registerStage("stamina", 100,
+                () -> PrimalCraftConfig.getGameplay().staminaSystemEnabled,
+                StaminaSystem::beginTick, StaminaSystem::tickPlayer);
+            PrimalCraft.LOGGER.debug("      ✓ Registered pipeline stage");
 
             // Register cleanup handler for server shutdown
             ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
@@ -97,12 +91,10 @@ public final class StaminaSystem {
                 PrimalCraft.LOGGER.info("🧹 [STAMINA_SYSTEM] Server stopping - cleaning up resources");
                 PrimalCraft.LOGGER.info("   ├─ Clearing stamina data for {} players", playerCount);
                 PrimalCraft.LOGGER.info("   ├─ Total consumption events: {}", consumptionEvents);
-                PrimalCraft.LOGGER.info("   ├─ Total sync events: {}", syncEvents);
                 PrimalCraft.LOGGER.info("   ├─ Total regen events: {}", regenEvents);
                 PrimalCraft.LOGGER.info("   └─ Total ticks processed: {}", tickCounter);
 
                 STAMINA.clear();
-                LAST_SYNCED_STAMINA.clear();
 
                 PrimalCraft.LOGGER.info("✅ [STAMINA_SYSTEM] Cleanup complete");
             });
@@ -118,59 +110,38 @@ public final class StaminaSystem {
     }
 
     /**
-     * Main tick handler - processes stamina regeneration for all players.
-     * Called by ServerTickEvents.END_SERVER_TICK every server tick (~20 times per second).
+     * Per-tick begin hook - updates counters and logs periodic statistics.
+     * Only called by the {@link SurvivalTickPipeline} while the stamina system is enabled.
      *
      * @param server The MinecraftServer instance
      */
-    private static void tick(MinecraftServer server) {
-        try {
-            // Check if stamina system is enabled in config
-            if (!PrimalCraftConfig.getGameplay().staminaSystemEnabled) {
-                return; // Skip processing if disabled
-            }
-
-            tickCounter++;
-            int playerCount = server.getPlayerManager().getPlayerList().size();
-
-            // Log periodic statistics
-            if (tickCounter % STATS_LOG_INTERVAL == 0) {
-                PrimalCraft.LOGGER.info("📊 [STAMINA_STATS] Tick #{} - Players: {} | Consumption: {} | Syncs: {} | Regen: {}",
-                    tickCounter, playerCount, consumptionEvents, syncEvents, regenEvents);
-            }
-
-            if (tickCounter % 100 == 0) {
-                PrimalCraft.LOGGER.trace("📍 [STAMINA_TICK] Tick #{} - Processing {} active players", tickCounter, playerCount);
-            }
-
-            // Process each player
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                try {
-                    processPlayerStamina(player);
-                } catch (Exception e) {
-                    PrimalCraft.LOGGER.error("❌ [STAMINA_SYSTEM] Error processing stamina for player {}: {}",
-                        player.getName().getString(), e.getMessage());
-                    PrimalCraft.LOGGER.debug("   └─ Stack trace:", e);
-                    // Continue processing other players even if one fails
-                }
-            }
+    private static void beginTick(MinecraftServer server) {
+        tickCounter++;
+        int playerCount = server.getPlayerManager().getPlayerList().size();
+
+        // Log periodic statistics
+        if (tickCounter % STATS_LOG_INTERVAL == 0) {
+            PrimalCraft.LOGGER.info("📊 [STAMINA_STATS] Tick #{} - Players: {} | Consumption: {} | Regen: {}",
+                tickCounter, playerCount, consumptionEvents, regenEvents);
+        }
 
-        } catch (Exception e) {
-            PrimalCraft.LOGGER.error("❌ [STAMINA_SYSTEM] Critical error in tick handler", e);
+        if (tickCounter % 100 == 0) {
+            PrimalCraft.LOGGER.trace("📍 [STAMINA_TICK] Tick #{} - Processing {} active players", tickCounter, playerCount);
         }
     }
 
     /**
-     * Processes stamina regeneration and synchronization for a single player.
+     * Processes stamina regeneration for a single player.
      *
      * @param player The player to process
+     * @param env    Environment snapshot for this tick
      */
-    private static void processPlayerStamina(ServerPlayerEntity player) {
+    private static void tickPlayer(ServerPlayerEntity player, PlayerEnvironment env) {
         UUID id = player.getUuid();
         double currentStamina = STAMINA.getOrDefault(id, MAX_STAMINA);
 
-        // Calculate player temperature
-        double temperature = TemperatureSystem.getPlayerTemperature(player);
+        // Player temperature from the shared snapshot
+        double temperature = env.temperature();
 
         // Calculate regen multipliers from all sources
         double regenMultiplier = 1.0;
@@ -204,31 +175,6 @@ public final class StaminaSystem {
                     String.format("%.1f", newStamina), String.format("%.2f", regenAmount));
             }
         }
-
-        // Sync to client periodically (only if changed significantly)
-        if (tickCounter % SYNC_INTERVAL_TICKS == 0) {
-            double lastSynced = LAST_SYNCED_STAMINA.getOrDefault(id, -1.0);
-
-            // Only sync if changed by more than 0.5 stamina or first sync
-            if (Math.abs(newStamina - lastSynced) > 0.5 || lastSynced < 0) {
-                syncEvents++;
-                LAST_SYNCED_STAMINA.put(id, newStamina);
-
-                PrimalCraft.LOGGER.trace("   ├─ [SYNC] Event #{}: Syncing stamina to {}: {}/{}",
-                    syncEvents, player.getName().getString(), String.format("%.1f", newStamina), MAX_STAMINA);
-
-                try {
-                    ServerPlayNetworking.send(player, new StaminaSyncPayload(newStamina, MAX_STAMINA));
-                    ServerPlayNetworking.send(player, new net.kimdog_studios.primal_craft.network.TemperatureSyncPayload(temperature));
-
-                    double worldTemp = TemperatureSystem.getWorldTemperature(player);
-                    ServerPlayNetworking.send(player, new net.kimdog_studios.primal_craft.network.WorldTemperatureSyncPayload(worldTemp));
-                } catch (Exception e) {
-                    PrimalCraft.LOGGER.warn("⚠️  [STAMINA_SYSTEM] Failed to sync to player {}: {}",
-                        player.getName().getString(), e.getMessage());
-                }
-            }
-        }
     }
 
     /**
@@ -282,12 +228,8 @@ public final class StaminaSystem {
             PrimalCraft.LOGGER.trace("   └─ ✓ SUCCESS - Consumed {} stamina: {} → {}",
                 String.format("%.2f", actualAmount), String.format("%.1f", current), String.format("%.1f", newAmount));
 
-            // Force immediate sync on consumption
-            try {
-                ServerPlayNetworking.send(player, new StaminaSyncPayload(newAmount, MAX_STAMINA));
-            } catch (Exception e) {
-                PrimalCraft.LOGGER.warn("⚠️  [STAMINA_SYSTEM] Failed to sync after consumption: {}", e.getMessage());
-            }
+            // Immediate sync on consumption
+            VitalsSync.syncNow(player);
 
             return true;
 
@@ -329,11 +271,7 @@ public final class StaminaSystem {
                 player.getName().getString(), String.format("%.1f", clamped), String.format("%.1f", value));
 
             // Immediate sync
-            try {
-                ServerPlayNetworking.send(player, new StaminaSyncPayload(clamped, MAX_STAMINA));
-            } catch (Exception e) {
-                PrimalCraft.LOGGER.warn("⚠️  [STAMINA_SYSTEM] Failed to sync after set: {}", e.getMessage());
-            }
+            VitalsSync.syncNow(player);
 
         } catch (Exception e) {
             PrimalCraft.LOGGER.error("❌ [STAMINA_SYSTEM] Error setting stamina for {}: {}",
@@ -365,7 +303,7 @@ public final class StaminaSystem {
      * @return A formatted string with system statistics
      */
     public static String getStatistics() {
-        return String.format("Stamina System Stats: %d ticks | %d players | %d consumption events | %d sync events | %d regen events",
-            tickCounter, STAMINA.size(), consumptionEvents, syncEvents, regenEvents);
+        return String.format("Stamina System Stats: %d ticks | %d players | %d consumption events | %d regen events",
+            tickCounter, STAMINA.size(), consumptionEvents, regenEvents);
     }
 }
@@ -0,0 +1,151 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Primal Craft - Survival Tick Pipeline
+ *
+ * Single END_SERVER_TICK driver for the per-player survival systems (stamina, thirst,
+ * temperature effects, hunger, exhaustion, hazards...). Instead of every system walking
+ * the player list on its own, systems register an ordered stage here and the pipeline
+ * walks the player list once per tick.
+ *
+ * Per tick:
+ * - Stages whose config toggle is off are filtered out and not scheduled at all
+ * - Each stage's begin hook runs once (stats, counters)
+ * - For every player one {@link PlayerEnvironment} is created and shared by all stages,
+ *   in ascending stage order; its values are computed only if an active stage reads them
+ *
+ * Errors thrown by a stage are logged and do not stop other stages or players.
+ * Each stage's per-player time is recorded in the {@link TickProfiler} as "pipeline:name".
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class SurvivalTickPipeline {
+    /** Toggle for stages that have no config switch. */
+    public static final BooleanSupplier ALWAYS = () -> true;
+
+    private static final List<Stage> STAGES = new ArrayList<>();
+    private static final List<Stage> ACTIVE = new ArrayList<>();
+    private static boolean registered = false;
+
+    private SurvivalTickPipeline() {
+        throw new UnsupportedOperationException("SurvivalTickPipeline is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Per-player work of a stage.
+     */
+    @FunctionalInterface
+    public interface PlayerTick {
+        void tick(ServerPlayerEntity player, PlayerEnvironment env);
+    }
+
+    private record Stage(String name, int order, BooleanSupplier enabled,
+                         Consumer<MinecraftServer> onBegin, PlayerTick tick, String profileName) {}
+
+    /**
+     * Registers the pipeline's server tick listener. Must be called during mod
+     * initialization, before any system registers a stage.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("SurvivalTickPipeline", SurvivalTickPipeline::tick));
+        PrimalCraft.LOGGER.info("✅ [SURVIVAL_PIPELINE] Survival tick pipeline registered");
+    }
+
+    /**
+     * Registers a stage without a per-tick begin hook.
+     *
+     * @see #registerStage(String, int, BooleanSupplier, Consumer, PlayerTick)
+     */
+    public static void registerStage(String name, int order, BooleanSupplier enabled, PlayerTick tick) {
+        registerStage(name, order, enabled, null, tick);
+    }
+
+    /**
+     * Registers a survival stage.
+     *
+     * @param name    Stage name used in logs
+     * @param order   Execution order; lower runs first
+     * @param enabled Config toggle; when false the stage is skipped entirely for the tick
+     * @param onBegin Optional hook run once per tick before any player is processed
+     * @param tick    Per-player work
+     */
+    public static void registerStage(String name, int order, BooleanSupplier enabled,
+                                     Consumer<MinecraftServer> onBegin, PlayerTick tick) {
+        STAGES.add(new Stage(name, order, enabled, onBegin, tick, "pipeline:" + name));
+        STAGES.sort(Comparator.comparingInt(Stage::order));
+        PrimalCraft.LOGGER.debug("   ├─ [SURVIVAL_PIPELINE] Stage '{}' registered at order {}", name, order);
+    }
+
+    /**
+     * @return Number of registered stages
+     */
+    public static int getStageCount() {
+        return STAGES.size();
+    }
+
+    private static void tick(MinecraftServer server) {
+        ACTIVE.clear();
+        for (Stage stage : STAGES) {
+            if (stage.enabled().getAsBoolean()) {
+                ACTIVE.add(stage);
+            }
+        }
+        if (ACTIVE.isEmpty()) {
+            return;
+        }
+
+        for (Stage stage : ACTIVE) {
+            if (stage.onBegin() != null) {
+                try {
+                    stage.onBegin().accept(server);
+                } catch (Exception e) {
+                    PrimalCraft.LOGGER.error("❌ [SURVIVAL_PIPELINE] Stage '{}' failed in begin hook", stage.name(), e);
+                }
+            }
+        }
+
+        int serverTick = server.getTicks();
+        boolean profiling = TickProfiler.isEnabled();
+        for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+            PlayerEnvironment env;
+            try {
+                env = PlayerEnvironment.capture(player, serverTick);
+            } catch (Exception e) {
+                PrimalCraft.LOGGER.error("❌ [SURVIVAL_PIPELINE] Failed to capture environment for {}: {}",
+                    player.getName().getString(), e.getMessage());
+                continue;
+            }
+
+            for (Stage stage : ACTIVE) {
+                long start = profiling ? System.nanoTime() : 0L;
+                try {
+                    stage.tick().tick(player, env);
+                } catch (Exception e) {
+                    PrimalCraft.LOGGER.error("❌ [SURVIVAL_PIPELINE] Stage '{}' failed for player {}: {}",
+                        stage.name(), player.getName().getString(), e.getMessage());
+                    PrimalCraft.LOGGER.debug("   └─ Stack trace:", e);
+                }
+                if (profiling) {
+                    TickProfiler.record(stage.profileName(), System.nanoTime() - start);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package net.kimdog_studios.primal_craft.util;
+
+/**
+ * Primal Craft - Temperature Breakdown
+ *
+ * Per-factor contributions (°C) of the last raw temperature calculation for a player, in
+ * model order. Each value is the change that factor made to the running temperature, so
+ * the contributions sum to {@link #total()}. Dimension, biome and altitude are folded into
+ * {@code climate}; water immersion, lava, fire and powder snow into {@code overrides}.
+ *
+ * @param climate     Biome or dimension base temperature plus altitude
+ * @param time        Day/night ambient curve
+ * @param cave        Underground blend toward stable cave temperature
+ * @param sun         Direct sun, shade and clear-sky night cooling
+ * @param weather     Rain and thunder cooling
+ * @param windChill   Wind chill, reduced by shelter
+ * @param humidity    Nearby water (night/dawn/dusk only)
+ * @param heatSources Nearby heat and cold blocks
+ * @param entities    Nearby heat and cold mobs
+ * @param overrides   Water immersion, lava, fire and powder snow
+ * @param wetness     Wet-player cap
+ * @param armor       Armor insulation toward 20°C
+ * @param activity    Sprinting and movement
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public record TemperatureBreakdown(
+    double climate,
+    double time,
+    double cave,
+    double sun,
+    double weather,
+    double windChill,
+    double humidity,
+    double heatSources,
+    double entities,
+    double overrides,
+    double wetness,
+    double armor,
+    double activity
+) {
+    public static final TemperatureBreakdown EMPTY = new TemperatureBreakdown(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    /**
+     * @return Sum of all contributions (the raw temperature before clamping)
+     */
+    public double total() {
+        return climate + time + cave + sun + weather + windChill + humidity
+            + heatSources + entities + overrides + wetness + armor + activity;
+    }
+}
@@ -0,0 +1,169 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.item.Item;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.math.BlockPos;
+
+/**
+ * Primal Craft - Temperature Factors
+ *
+ * Per-player staged inputs of the temperature model. Each stage keeps its last result and
+ * is only recomputed when its own trigger fires:
+ * - Climate (biome, dimension, sky, shelter): block position or world change, nearby
+ *   opacity change ({@link ExposureCache#getVersion})
+ * - Heat sources: block position change, nearby thermal block change
+ *   ({@link ThermalBlockIndex#getVersion})
+ * - Humidity: as heat sources, plus time-of-day bucket change (only applied at night)
+ * - Weather: rain/thunder change
+ * - Armor: any armor slot changing item
+ *
+ * Entity heat and player state (water, fire, sprinting...) change constantly and are read
+ * on every refresh. Every stage is also recomputed after {@link #MAX_AGE_MS} as a safety
+ * net for changes without a trigger (chunk loads, sky light settling).
+ *
+ * A stationary player in an unchanged area re-runs no block scans at all. Server thread only.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class TemperatureFactors {
+    static final long MAX_AGE_MS = 10_000L;
+    // 500 ticks; the humidity night gate (5000 / 19000) falls on bucket edges
+    private static final int TIME_BUCKET_TICKS = 500;
+    private static final int ARMOR_SLOTS = 4;
+    private static final int FIRST_ARMOR_SLOT = 36;
+
+    // Statistics
+    private static long refreshes = 0;
+    private static long climateRecomputes = 0;
+    private static long heatRecomputes = 0;
+    private static long humidityRecomputes = 0;
+    private static long weatherChanges = 0;
+    private static long armorRecomputes = 0;
+
+    // Climate stage
+    private ServerWorld world;
+    private long climatePos;
+    private long climateVersion;
+    private long climateTime;
+    float biomeTemp;
+    boolean nether;
+    boolean end;
+    boolean skyVisible;
+    double shelter;
+
+    // Heat stage
+    private long heatPos;
+    private long heatVersion;
+    private long heatTime;
+    double heatFromSources;
+
+    // Humidity stage
+    private long humidityPos;
+    private long humidityVersion;
+    private long humidityBucket;
+    private long humidityTime;
+    double humidity; // NaN during the day
+
+    // Weather stage
+    private int weatherBits = -1;
+    boolean raining;
+    boolean thundering;
+
+    // Armor stage
+    private final Item[] armorItems = new Item[ARMOR_SLOTS];
+    private boolean armorValid;
+    double armorInsulation;
+
+    // Result of the last calculation
+    TemperatureBreakdown breakdown = TemperatureBreakdown.EMPTY;
+
+    /**
+     * Brings every dirty stage up to date for the player's current state.
+     */
+    void refresh(ServerPlayerEntity player, long now) {
+        refreshes++;
+        ServerWorld currentWorld = player.getEntityWorld();
+        BlockPos pos = player.getBlockPos();
+        long posKey = pos.asLong();
+        boolean worldChanged = currentWorld != world;
+        world = currentWorld;
+
+        // Climate: position, world, nearby opacity
+        long exposureVersion = ExposureCache.getVersion(currentWorld, pos);
+        if (worldChanged || posKey != climatePos || exposureVersion != climateVersion || now - climateTime > MAX_AGE_MS) {
+            String dimension = currentWorld.getRegistryKey().getValue().getPath();
+            nether = dimension.contains("nether");
+            end = dimension.contains("end");
+            biomeTemp = AmbientTemperatureField.getBiomeTemperature(currentWorld, pos);
+            skyVisible = ExposureCache.isSkyVisible(currentWorld, pos);
+            shelter = ExposureCache.getShelterFactor(currentWorld, pos);
+            climatePos = posKey;
+            climateVersion = exposureVersion;
+            climateTime = now;
+            climateRecomputes++;
+        }
+
+        // Heat sources: position, nearby thermal blocks
+        long thermalVersion = ThermalBlockIndex.getVersion(currentWorld, pos);
+        if (worldChanged || posKey != heatPos || thermalVersion != heatVersion || now - heatTime > MAX_AGE_MS) {
+            heatFromSources = ThermalBlockIndex.getNearbyBlockTemp(currentWorld, pos);
+            heatPos = posKey;
+            heatVersion = thermalVersion;
+            heatTime = now;
+            heatRecomputes++;
+        }
+
+        // Humidity: position, nearby thermal blocks, time-of-day bucket
+        long timeOfDay = currentWorld.getTimeOfDay() % 24000;
+        long bucket = timeOfDay / TIME_BUCKET_TICKS;
+        if (worldChanged || posKey != humidityPos || thermalVersion != humidityVersion
+                || bucket != humidityBucket || now - humidityTime > MAX_AGE_MS) {
+            // Only applied at night/dawn/dusk (prevents spam)
+            humidity = (timeOfDay <= 5000 || timeOfDay >= 19000)
+                ? ThermalBlockIndex.getWaterProximityEffect(currentWorld, pos)
+                : Double.NaN;
+            humidityPos = posKey;
+            humidityVersion = thermalVersion;
+            humidityBucket = bucket;
+            humidityTime = now;
+            humidityRecomputes++;
+        }
+
+        // Weather
+        int bits = (currentWorld.isRaining() ? 1 : 0) | (currentWorld.isThundering() ? 2 : 0);
+        if (bits != weatherBits) {
+            raining = (bits & 1) != 0;
+            thundering = (bits & 2) != 0;
+            weatherBits = bits;
+            weatherChanges++;
+        }
+
+        // Armor: compare equipped items, only rescan names when one changed
+        boolean armorChanged = !armorValid;
+        for (int i = 0; i < ARMOR_SLOTS; i++) {
+            Item item = player.getInventory().getStack(FIRST_ARMOR_SLOT + i).getItem();
+            if (item != armorItems[i]) {
+                armorItems[i] = item;
+                armorChanged = true;
+            }
+        }
+        if (armorChanged) {
+            armorInsulation = TemperatureSystem.getArmorInsulation(player);
+            armorValid = true;
+            armorRecomputes++;
+        }
+    }
+
+    /**
+     * Gets stage statistics for debugging.
+     *
+     * @return A formatted string with recompute counts per stage
+     */
+    public static String getStatistics() {
+        return String.format("Refreshes: %d | Recomputes - climate: %d, heat: %d, humidity: %d, weather: %d, armor: %d",
+            refreshes, climateRecomputes, heatRecomputes, humidityRecomputes, weatherChanges, armorRecomputes);
+    }
+}
@@ -0,0 +1,108 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.minecraft.server.network.ServerPlayerEntity;
+
+/**
+ * Primal Craft - Temperature Snapshot
+ *
+ * Immutable copy of everything {@link TemperatureSystem#computeTemperature} reads about a
+ * player and their surroundings: biome, weather, sky exposure, nearby heat sources and
+ * water, nearby entity heat, armor insulation and player state.
+ *
+ * Captured on the server thread from the player's {@link TemperatureFactors}, so only
+ * dirty stages touch the world; the temperature math is then a pure function of it.
+ *
+ * @param captureTime   System time (ms) of the capture
+ * @param biomeTemp     Vanilla biome temperature (0-2 scale)
+ * @param nether        In a nether dimension
+ * @param end           In an end dimension
+ * @param timeOfDay     Time of day (0-23999)
+ * @param y             Block Y of the player
+ * @param skyVisible    Player can see the sky
+ * @param shelter       Shelter factor (0 exposed -> 1 fully sheltered)
+ * @param raining       World is raining
+ * @param thundering    World is thundering
+ * @param heatFromSources Heat (positive) or cold (negative) from nearby blocks
+ * @param humidity      Humidity cooling from nearby water, or NaN when not applied
+ * @param entityHeat    Heat/cold from nearby entities
+ * @param armorInsulation Armor insulation factor (0-0.55)
+ * @param touchingWater Player is in water
+ * @param inLava        Player is in lava
+ * @param onFire        Player is on fire
+ * @param inPowderSnow  Player is in powder snow
+ * @param sprinting     Player is sprinting
+ * @param moving        Player is moving horizontally
+ * @param lastWaterTime Last time the player got wet (0 = dry)
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+record TemperatureSnapshot(
+    long captureTime,
+    float biomeTemp,
+    boolean nether,
+    boolean end,
+    long timeOfDay,
+    int y,
+    boolean skyVisible,
+    double shelter,
+    boolean raining,
+    boolean thundering,
+    double heatFromSources,
+    double humidity,
+    double entityHeat,
+    double armorInsulation,
+    boolean touchingWater,
+    boolean inLava,
+    boolean onFire,
+    boolean inPowderSnow,
+    boolean sprinting,
+    boolean moving,
+    long lastWaterTime
+) {
+    /**
+     * Result of a temperature computation.
+     *
+     * @param temperature   Raw (unsmoothed) temperature in °C
+     * @param lastWaterTime Updated wet timestamp (0 = dry)
+     * @param breakdown     Per-factor contributions
+     */
+    record Result(double temperature, long lastWaterTime, TemperatureBreakdown breakdown) {}
+
+    /**
+     * Captures a snapshot for a player, refreshing dirty factor stages first. Server thread only.
+     *
+     * @param player        The player to sample
+     * @param factors       The player's staged factors
+     * @param lastWaterTime The player's current wet timestamp
+     * @param currentTime   System time (ms)
+     * @return A new snapshot
+     */
+    static TemperatureSnapshot capture(ServerPlayerEntity player, TemperatureFactors factors, long lastWaterTime, long currentTime) {
+        factors.refresh(player, currentTime);
+        return new TemperatureSnapshot(
+            currentTime,
+            factors.biomeTemp,
+            factors.nether,
+            factors.end,
+            player.getEntityWorld().getTimeOfDay() % 24000,
+            player.getBlockPos().getY(),
+            factors.skyVisible,
+            factors.shelter,
+            factors.raining,
+            factors.thundering,
+            factors.heatFromSources,
+            factors.humidity,
+            TemperatureSystem.getNearbyEntityTemp(player),
+            factors.armorInsulation,
+            player.isTouchingWater(),
+            player.isInLava(),
+            player.isOnFire(),
+            player.inPowderSnow,
+            player.isSprinting(),
+            player.getVelocity().horizontalLengthSquared() > 0.01,
+            lastWaterTime
+        );
+    }
+}
@@ -6,13 +6,12 @@ import net.minecraft.block.Blocks;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.AbstractFurnaceBlock;
 import net.minecraft.block.CampfireBlock;
-import net.minecraft.entity.Entity;
-import net.minecraft.entity.EntityType;
 import net.minecraft.state.property.Properties;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.BlockView;
 import net.minecraft.world.biome.Biome;
 
 /**
@@ -30,67 +29,12 @@ public final class TemperatureSystem {
     private static int playerTemperatureQueries = 0;
     private static long lastStatsLog = System.currentTimeMillis();
 
-    // Cache configuration
+    // Cache configuration (per-player state lives in PlayerTemperatureStore)
     private static final int CACHE_UPDATE_INTERVAL_MS = 500; // 500ms = ~10 ticks at 20 TPS
-    private static final int MAX_CACHE_SIZE = 1000; // Prevent unbounded memory growth
-    private static final int CLEANUP_INTERVAL_MS = 60000; // Cleanup every 60 seconds
-
-    // Player temperature cache with automatic cleanup
-    private static final java.util.Map<java.util.UUID, Double> cachedTemperature = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > MAX_CACHE_SIZE;
-        }
-    };
-    private static final java.util.Map<java.util.UUID, Long> lastCalcTime = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > MAX_CACHE_SIZE;
-        }
-    };
 
     // Wet player tracking (players stay cold after being in water)
-    private static final java.util.Map<java.util.UUID, Long> lastWaterTime = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > MAX_CACHE_SIZE;
-        }
-    };
     private static final long WET_DURATION = 45000; // Stay wet for 45 seconds after water
 
-    // Cached world temperature smoothing (per world key)
-    private static final java.util.Map<String, Double> worldCachedTemperature = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > 100; // Limit world cache
-        }
-    };
-    private static final java.util.Map<String, Long> worldLastCalcTime = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > 100;
-        }
-    };
-
-    // Last cleanup time for cache maintenance
-    private static long lastCleanupTime = System.currentTimeMillis();
-
-    // Temperature trend tracking (for HUD display - is temp rising or falling?)
-    private static final java.util.Map<java.util.UUID, Double> temperatureTrend = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > MAX_CACHE_SIZE;
-        }
-    };
-
-    // Player comfort zone memory (what temps do they prefer?)
-    private static final java.util.Map<java.util.UUID, Double> comfortZonePreference = new java.util.LinkedHashMap<>(16, 0.75f, false) {
-        @Override
-        protected boolean removeEldestEntry(java.util.Map.Entry eldest) {
-            return size() > MAX_CACHE_SIZE;
-        }
-    };
-
     // Initialize logging
     static {
         PrimalCraft.LOGGER.info("TemperatureSystem initialized");
@@ -107,43 +51,35 @@ public final class TemperatureSystem {
         }
 
         long currentTime = System.currentTimeMillis();
-        java.util.UUID playerId = player.getUuid();
-
-        // Periodic cache cleanup (every 60 seconds)
-        if (currentTime - lastCleanupTime > CLEANUP_INTERVAL_MS) {
-            synchronized (cachedTemperature) {
-                // Remove entries older than 5 minutes
-                cachedTemperature.entrySet().removeIf(entry -> {
-                    Long calcTime = lastCalcTime.get(entry.getKey());
-                    return calcTime != null && (currentTime - calcTime) > 300000;
-                });
-                lastWaterTime.entrySet().removeIf(entry -> (currentTime - entry.getValue()) > WET_DURATION);
-            }
-            lastCleanupTime = currentTime;
-        }
+        int slot = PlayerTemperatureStore.slotOf(player);
 
         // Use cached temp if calculated recently
-        Long lastTime = lastCalcTime.get(playerId);
-        if (lastTime != null && currentTime - lastTime < CACHE_UPDATE_INTERVAL_MS) {
-            Double cached = cachedTemperature.get(playerId);
-            if (cached != null) return cached;
+        long lastTime = PlayerTemperatureStore.getLastCalcTime(slot);
+        double lastTemp = PlayerTemperatureStore.getTemperature(slot);
+        if (lastTime != 0L && currentTime - lastTime < CACHE_UPDATE_INTERVAL_MS && !Double.isNaN(lastTemp)) {
+            return lastTemp;
         }
 
         // Calculate fresh temperature
         double freshTemp = calculateTemperatureInternal(player, currentTime);
+        return storeTemperature(slot, freshTemp, currentTime);
+    }
+
+    // Smooth a fresh temperature into the player's slot and track the trend
+    private static double storeTemperature(int slot, double freshTemp, long currentTime) {
+        long lastTime = PlayerTemperatureStore.getLastCalcTime(slot);
+        double lastTemp = PlayerTemperatureStore.getTemperature(slot);
 
         // Apply exponential smoothing for stability
-        Double lastTemp = cachedTemperature.get(playerId);
-        double smoothedTemp = (lastTemp == null) ? freshTemp : smooth(freshTemp, lastTemp, lastTime == null ? CACHE_UPDATE_INTERVAL_MS : (currentTime - lastTime));
+        double smoothedTemp = Double.isNaN(lastTemp) ? freshTemp : smooth(freshTemp, lastTemp, lastTime == 0L ? CACHE_UPDATE_INTERVAL_MS : (currentTime - lastTime));
         smoothedTemp = Math.max(MIN_TEMPERATURE, Math.min(MAX_TEMPERATURE, smoothedTemp));
 
         // Store in cache
-        lastCalcTime.put(playerId, currentTime);
-        cachedTemperature.put(playerId, smoothedTemp);
+        PlayerTemperatureStore.setLastCalcTime(slot, currentTime);
+        PlayerTemperatureStore.setTemperature(slot, smoothedTemp);
 
         // Track temperature trend (delta from last calculation)
-        Double lastCachedTemp = temperatureTrend.get(playerId);
-        temperatureTrend.put(playerId, lastCachedTemp != null ? (smoothedTemp - lastCachedTemp) : 0.0);
+        PlayerTemperatureStore.setTrend(slot, Double.isNaN(lastTemp) ? 0.0 : (smoothedTemp - lastTemp));
 
         return smoothedTemp;
     }
@@ -160,38 +96,58 @@ public final class TemperatureSystem {
 
     /**
      * Internal temperature calculation (cached)
+     * Captures and computes on the calling (server) thread
      */
     private static double calculateTemperatureInternal(ServerPlayerEntity player, long currentTime) {
-        BlockPos pos = player.getBlockPos();
-        RegistryEntry<Biome> biome = player.getEntityWorld().getBiome(pos);
-        float biomeTemp = biome.value().getTemperature();
+        int slot = PlayerTemperatureStore.slotOf(player);
+        TemperatureFactors factors = PlayerTemperatureStore.getFactors(slot);
+        TemperatureSnapshot snapshot = TemperatureSnapshot.capture(player, factors, PlayerTemperatureStore.getLastWaterTime(slot), currentTime);
+        TemperatureSnapshot.Result result = computeTemperature(snapshot);
+        PlayerTemperatureStore.setLastWaterTime(slot, result.lastWaterTime());
+        factors.breakdown = result.breakdown();
+        return result.temperature();
+    }
+
+    /**
+     * Full environmental temperature model over a captured snapshot
+     * Pure function of the snapshot
+     */
+    static TemperatureSnapshot.Result computeTemperature(TemperatureSnapshot s) {
+        long currentTime = s.captureTime();
+        long lastWaterTime = s.lastWaterTime();
+        float biomeTemp = s.biomeTemp();
 
         // DIMENSION overrides
-        String dimension = player.getEntityWorld().getRegistryKey().getValue().getPath();
         double temperature;
-        if (dimension.contains("nether")) {
+        if (s.nether()) {
             temperature = 90.0; // Fixed nether temp (no random variation)
-        } else if (dimension.contains("end")) {
+        } else if (s.end()) {
             temperature = -12.0; // Fixed end temp (no random variation)
         } else {
-            temperature = convertBiomeToRealTemp(biomeTemp);
+            temperature = AmbientTemperatureField.biomeToRealTemp(biomeTemp);
         }
 
         // TIME OF DAY - realistic day/night ambient temperatures
-        long timeOfDay = player.getEntityWorld().getTimeOfDay() % 24000;
-        double ambientTemp = getAmbientTempForTime(timeOfDay);
+        long timeOfDay = s.timeOfDay();
+        double ambientTemp = AmbientTemperatureField.ambientForTime(timeOfDay);
         temperature += ambientTemp;
 
         // ALTITUDE (realistic atmospheric lapse rate: ~6.5°C per 1000m, in Minecraft: ~1°C per 10 blocks)
-        int y = pos.getY();
+        int y = s.y();
         if (y > 64) {
             temperature -= (y - 64) * 0.065; // -0.065°C per block up
         } else if (y < 64) {
             temperature += (64 - y) * 0.02; // +0.02°C per block down (geothermal gradient)
         }
 
+        double climate = temperature - ambientTemp;
+
+        // Sky exposure drives cave, sun and wet-player checks below
+        boolean skyVisible = s.skyVisible();
+        double mark = temperature;
+
         // CAVE temperature (underground is stable ~10-15°C)
-        if (!player.getEntityWorld().isSkyVisible(pos)) {
+        if (!skyVisible) {
             int depth = 64 - y;
             if (depth > 0) {
                 double caveTemp = 10.0 + (Math.min(depth, 50) / 50.0 * 5.0); // 10-15°C range
@@ -200,11 +156,13 @@ public final class TemperatureSystem {
             }
         }
 
+        double cave = temperature - mark;
+        mark = temperature;
+
         // SUN EXPOSURE - most impactful factor
-        boolean skyVisible = player.getEntityWorld().isSkyVisible(pos);
         if (skyVisible) {
             if (timeOfDay > 5000 && timeOfDay < 19000) { // Dawn to dusk
-                double sunIntensity = getSunIntensity(timeOfDay);
+                double sunIntensity = AmbientTemperatureField.sunIntensity(timeOfDay);
                 double sunWarmth = sunIntensity * 30.0; // Up to +30°C from direct sun!
                 temperature += sunWarmth;
             }
@@ -215,25 +173,30 @@ public final class TemperatureSystem {
             }
         }
 
+        double sun = temperature - mark;
+
         // SHELTER factor (0 exposed -> 1 fully sheltered)
-        double shelter = getShelterFactor(player, pos);
+        double shelter = s.shelter();
 
         // WEATHER + WIND CHILL
-        boolean raining = player.getEntityWorld().isRaining();
-        boolean thundering = player.getEntityWorld().isThundering();
+        boolean raining = s.raining();
+        boolean thundering = s.thundering();
+        mark = temperature;
         if (raining) {
             temperature -= 10.0; // rain cooling
             if (skyVisible) {
                 // Getting rained/snowed on makes you wet
-                lastWaterTime.put(player.getUuid(), currentTime);
+                lastWaterTime = currentTime;
             }
         }
         if (thundering) {
             temperature -= 12.0; // thunder colder
             if (skyVisible) {
-                lastWaterTime.put(player.getUuid(), currentTime);
+                lastWaterTime = currentTime;
             }
         }
+        double weather = temperature - mark;
+
         // Wind chill scales with exposure and altitude; blocked by shelter
         double windChill = 0.0;
         if (skyVisible) {
@@ -258,32 +221,36 @@ public final class TemperatureSystem {
             temperature += windChill;
         }
 
-        // HUMIDITY (water proximity) - only check if not in sun (prevents spam)
-        if (timeOfDay <= 5000 || timeOfDay >= 19000) { // Only at night/dawn/dusk
-            temperature += getWaterProximityEffect(player, pos);
-        }
+        // HUMIDITY (water proximity) - only applied at night/dawn/dusk (prevents spam)
+        double humidity = Double.isNaN(s.humidity()) ? 0.0 : s.humidity();
+        temperature += humidity;
 
         // NEARBY HEAT SOURCES (campfires, lava, fire, furnaces) - calculate once
-        double heatFromSources = getNearbyBlockTemp(player, pos);
+        double heatFromSources = s.heatFromSources();
         temperature += heatFromSources;
 
         // Entity heat/cold contribution
-        temperature += getNearbyEntityTemp(player);
+        temperature += s.entityHeat();
 
         // WATER IMMERSION (overrides other temps)
-        if (player.isTouchingWater() && !player.isInLava()) {
+        mark = temperature;
+        double overrides = 0.0;
+        if (s.touchingWater() && !s.inLava()) {
             temperature = getWaterTemperature(biomeTemp, y);
             // Mark player as wet
-            lastWaterTime.put(player.getUuid(), currentTime);
+            lastWaterTime = currentTime;
         }
 
+        overrides += temperature - mark;
+
         // WET PLAYER DEBUFF (stays cold after water until near heat source or sun)
+        mark = temperature;
         boolean isWet = false;
-        if (lastWaterTime.containsKey(player.getUuid())) {
-            long timeSinceWater = currentTime - lastWaterTime.get(player.getUuid());
+        if (lastWaterTime != 0L) {
+            long timeSinceWater = currentTime - lastWaterTime;
             if (timeSinceWater < WET_DURATION) {
                 isWet = true;
-                boolean inDirectSun = player.getEntityWorld().isSkyVisible(pos) && timeOfDay > 5000 && timeOfDay < 19000;
+                boolean inDirectSun = skyVisible && timeOfDay > 5000 && timeOfDay < 19000;
                 double cap;
                 if (heatFromSources >= 15.0) {
                     cap = 24.0; // Strong heat nearby, can dry quickly
@@ -296,51 +263,63 @@ public final class TemperatureSystem {
                 }
                 temperature = Math.min(temperature, cap);
             } else {
-                lastWaterTime.remove(player.getUuid());
+                lastWaterTime = 0L;
             }
         }
 
+        double wetness = temperature - mark;
+
         // LAVA (800-1200°C - extreme!)
-        if (player.isInLava()) {
+        mark = temperature;
+        if (s.inLava()) {
             temperature = 1000.0; // Fixed lava temp (no random variation)
         }
 
         // ON FIRE
-        if (player.isOnFire()) {
+        if (s.onFire()) {
             temperature += 250.0;
         }
 
         // POWDER SNOW (forces very cold)
-        if (player.inPowderSnow) {
+        if (s.inPowderSnow()) {
             temperature = -15.0;
         }
 
+        overrides += temperature - mark;
+
         // ARMOR INSULATION (moderates temperature)
-        temperature = applyArmorInsulation(player, temperature);
+        double armor = (20.0 - temperature) * s.armorInsulation();
+        temperature += armor;
 
         // SPRINTING generates body heat (less effective when soaked)
-        if (player.isSprinting()) {
+        mark = temperature;
+        if (s.sprinting()) {
             temperature += isWet ? 1.0 : 3.0; // Dampened heat gain when wet
         }
 
         // MOVEMENT (activity generates heat)
-        if (player.getVelocity().horizontalLengthSquared() > 0.01) {
+        if (s.moving()) {
             temperature += isWet ? 0.5 : 1.5; // Less heat from movement when soaked
         }
 
+        double activity = temperature - mark;
+
         // Night radiative cooling when exposed to sky
         if (skyVisible && (timeOfDay >= 19000 || timeOfDay <= 5000)) {
             temperature -= 3.0; // clear-sky night loss
+            sun -= 3.0;
         }
 
-        return Math.max(MIN_TEMPERATURE, Math.min(MAX_TEMPERATURE, temperature));
+        TemperatureBreakdown breakdown = new TemperatureBreakdown(climate, ambientTemp, cave, sun, weather, windChill,
+            humidity, heatFromSources, s.entityHeat(), overrides, wetness, armor, activity);
+        return new TemperatureSnapshot.Result(Math.max(MIN_TEMPERATURE, Math.min(MAX_TEMPERATURE, temperature)), lastWaterTime, breakdown);
     }
 
     /**
      * Convert Minecraft biome temp (0-2 scale) to realistic Celsius
      * More accurate mapping with better interpolation
      */
-    private static double convertBiomeToRealTemp(float biomeTemp) {
+    static double convertBiomeToRealTemp(float biomeTemp) {
         // Realistic mapping with piecewise linear interpolation:
         // 0.0   = Frozen (-20°C) - frozen peaks
         // 0.1   = Snowy (-18°C)
@@ -384,7 +363,7 @@ public final class TemperatureSystem {
      * Get ambient temperature change based on time of day
      * Uses smooth curves for realistic transitions
      */
-    private static double getAmbientTempForTime(long timeOfDay) {
+    static double getAmbientTempForTime(long timeOfDay) {
         // Minecraft day is 24000 ticks
         // Sunrise: 5000, Noon: 12000, Sunset: 19000
         //
@@ -423,7 +402,7 @@ public final class TemperatureSystem {
      * Calculate sun intensity based on realistic solar angle
      * Uses smooth cosine curve for natural transitions
      */
-    private static double getSunIntensity(long timeOfDay) {
+    static double getSunIntensity(long timeOfDay) {
         // Peak at 12000 (noon), drops to 0 at sunrise (5000) and sunset (19000)
         // Smooth bell curve for natural sun intensity progression
         double peakTime = 12000.0;
@@ -440,8 +419,9 @@ public final class TemperatureSystem {
     /**
      * Water proximity effect (humidity) - optimized to prevent spam
      * Checks a coarse grid to avoid excessive calculations
+     * Reference block scan - server worlds use ThermalBlockIndex (keep in sync)
      */
-    private static double getWaterProximityEffect(ServerPlayerEntity player, BlockPos pos) {
+    static double getWaterProximityEffect(BlockView world, BlockPos pos) {
         double humidity = 0.0;
         int checkRadius = 5; // Check in 5-block radius
 
@@ -450,7 +430,7 @@ public final class TemperatureSystem {
             for (int y = -2; y <= 2; y += 2) {
                 for (int z = -checkRadius; z <= checkRadius; z += 2) {
                     BlockPos checkPos = pos.add(x, y, z);
-                    Block block = player.getEntityWorld().getBlockState(checkPos).getBlock();
+                    Block block = world.getBlockState(checkPos).getBlock();
 
                     // Check if it's water
                     if (block == Blocks.WATER) {
@@ -490,9 +470,10 @@ public final class TemperatureSystem {
     /**
      * Armor provides insulation from temperature extremes
      * Better material detection and more realistic modulation
+     *
+     * @return Insulation factor; temperature moves this fraction toward 20°C
      */
-    private static double applyArmorInsulation(ServerPlayerEntity player, double temperature) {
-        double comfortTemp = 20.0;
+    static double getArmorInsulation(ServerPlayerEntity player) {
         double insulation = 0.0;
         int armorCount = 0;
         for (int slot = 36; slot < 40; slot++) {
@@ -509,14 +490,13 @@ public final class TemperatureSystem {
             else insulation += 0.06; // was 0.10
         }
         insulation *= (1.0 + (armorCount * 0.10)); // was 0.15
-        insulation = Math.min(0.55, insulation); // was cap 0.8
-        return temperature + (comfortTemp - temperature) * insulation;
+        return Math.min(0.55, insulation); // was cap 0.8
     }
 
     // Stronger interior seal: scan multiple Y layers and percentage of solid coverage
-    private static double getShelterFactor(ServerPlayerEntity player, BlockPos pos) {
-        var world = player.getEntityWorld();
-        if (!world.isSkyVisible(pos)) return 1.0; // fully sheltered underground/indoors
+    // Uncached scan - callers go through ExposureCache.getShelterFactor
+    static double getShelterFactor(BlockView world, BlockPos pos, boolean skyVisible) {
+        if (!skyVisible) return 1.0; // fully sheltered underground/indoors
         int roofHits = 0;
         int roofChecks = 0;
         for (int dy = 1; dy <= 6; dy++) {
@@ -547,10 +527,10 @@ public final class TemperatureSystem {
     /**
      * Check nearby blocks for heat/cold sources (optimized to prevent spam)
      * More accurate falloff and better heat values for realism
+     * Reference block scan - server worlds use ThermalBlockIndex (keep in sync)
      */
-    private static double getNearbyBlockTemp(ServerPlayerEntity player, BlockPos center) {
+    static double getNearbyBlockTemp(BlockView world, BlockPos center) {
         double heat = 0.0;
-        var world = player.getEntityWorld();
         for (int x = -6; x <= 6; x += 2) {
             for (int y = -3; y <= 3; y += 2) {
                 for (int z = -6; z <= 6; z += 2) {
@@ -754,68 +734,10 @@ public final class TemperatureSystem {
      * Get base world/biome temperature (without player-specific modifiers)
      * Used for HUD display to show environmental conditions
      * This is the "ambient" temperature - what the environment itself is
+     * Per-position and O(1), see AmbientTemperatureField
      */
     public static double getWorldTemperature(ServerPlayerEntity player) {
-        BlockPos pos = player.getBlockPos();
-        RegistryEntry<Biome> biome = player.getEntityWorld().getBiome(pos);
-        float biomeTemp = biome.value().getTemperature();
-
-        String worldKey = player.getEntityWorld().getRegistryKey().getValue().toString();
-        long now = System.currentTimeMillis();
-        if (worldLastCalcTime.containsKey(worldKey)) {
-            long dt = now - worldLastCalcTime.get(worldKey);
-            if (dt < 1000 && worldCachedTemperature.containsKey(worldKey)) { // 1s window to further damp jitter
-                return worldCachedTemperature.get(worldKey);
-            }
-        }
-
-        // Base biome temp
-        double temperature = convertBiomeToRealTemp(biomeTemp);
-
-        // Dimension overrides
-        String dimension = player.getEntityWorld().getRegistryKey().getValue().getPath();
-        if (dimension.contains("nether")) {
-            return 90.0; // Average nether temp
-        } else if (dimension.contains("end")) {
-            return -12.0; // Average end temp
-        }
-
-        // Time of day ambient (affects world temperature)
-        long timeOfDay = player.getEntityWorld().getTimeOfDay() % 24000;
-        temperature += getAmbientTempForTime(timeOfDay);
-
-        // Altitude affects world temp
-        int y = pos.getY();
-        if (y > 64) {
-            temperature -= (y - 64) * 0.065;
-        } else if (y < 64) {
-            temperature += (64 - y) * 0.02;
-        }
-
-        // Weather affects world temp
-        if (player.getEntityWorld().isRaining()) {
-            temperature -= 10.0;
-        }
-        if (player.getEntityWorld().isThundering()) {
-            temperature -= 12.0;
-        }
-
-        // Sun exposure (world gets warmer during day even in shade)
-        if (timeOfDay > 5000 && timeOfDay < 19000) {
-            double sunIntensity = getSunIntensity(timeOfDay);
-            // World temp only gets partial sun benefit (ambient heating)
-            temperature += sunIntensity * 15.0; // Half of direct sun warmth
-        }
-
-        // Smooth abrupt changes to reduce jitter when moving
-        double lastWorld = worldCachedTemperature.getOrDefault(worldKey, temperature);
-        double maxWorldStep = 0.5; // tighter smoothing per window
-        temperature = lastWorld + Math.max(-maxWorldStep, Math.min(maxWorldStep, temperature - lastWorld));
-
-        worldLastCalcTime.put(worldKey, now);
-        worldCachedTemperature.put(worldKey, temperature);
-
-        return temperature;
+        return AmbientTemperatureField.getAmbientTemperature(player.getEntityWorld(), player.getBlockPos());
     }
 
     // Quick helper: weather alert text derived from temp + weather
@@ -824,7 +746,7 @@ public final class TemperatureSystem {
         boolean raining = player.getEntityWorld().isRaining();
         boolean thundering = player.getEntityWorld().isThundering();
         long timeOfDay = player.getEntityWorld().getTimeOfDay() % 24000;
-        boolean skyVisible = player.getEntityWorld().isSkyVisible(player.getBlockPos());
+        boolean skyVisible = ExposureCache.isSkyVisible(player.getEntityWorld(), player.getBlockPos());
 
         // Precipitation type
         boolean snowing = raining && temp <= 1.0;
@@ -877,9 +799,9 @@ public final class TemperatureSystem {
         boolean thundering = player.getEntityWorld().isThundering();
         long timeOfDay = player.getEntityWorld().getTimeOfDay() % 24000;
         BlockPos pos = player.getBlockPos();
-        boolean skyVisible = player.getEntityWorld().isSkyVisible(pos);
+        boolean skyVisible = ExposureCache.isSkyVisible(player.getEntityWorld(), pos);
         int y = pos.getY();
-        double shelter = getShelterFactor(player, pos);
+        double shelter = ExposureCache.getShelterFactor(player.getEntityWorld(), pos);
 
         boolean snowing = raining && temp <= 1.0;
 
@@ -962,7 +884,16 @@ public final class TemperatureSystem {
      * @return positive = getting warmer, negative = getting colder, 0 = stable
      */
     public static double getTemperatureTrend(ServerPlayerEntity player) {
-        return temperatureTrend.getOrDefault(player.getUuid(), 0.0);
+        return PlayerTemperatureStore.getTrend(PlayerTemperatureStore.slotOf(player));
+    }
+
+    /**
+     * Get per-factor contributions of the player's last raw temperature calculation
+     *
+     * @return breakdown, or TemperatureBreakdown.EMPTY before the first calculation
+     */
+    public static TemperatureBreakdown getTemperatureBreakdown(ServerPlayerEntity player) {
+        return PlayerTemperatureStore.getFactors(PlayerTemperatureStore.slotOf(player)).breakdown;
     }
 
     /**
@@ -1113,37 +1044,24 @@ public final class TemperatureSystem {
      * Apply an external heat delta (±°C) to the player's cached temperature.
      */
     public static void applyExternalHeat(net.minecraft.server.network.ServerPlayerEntity player, double deltaC) {
-        java.util.UUID id = player.getUuid();
-        Double cached = cachedTemperature.get(id);
+        int slot = PlayerTemperatureStore.slotOf(player);
+        double cached = PlayerTemperatureStore.getTemperature(slot);
         long now = System.currentTimeMillis();
-        double current = (cached != null) ? cached : calculateTemperatureInternal(player, now);
+        double current = !Double.isNaN(cached) ? cached : calculateTemperatureInternal(player, now);
         double adjusted = clampTemp(current + deltaC);
         // Smooth: 50% toward adjusted to prevent jumps
         double smoothed = current * 0.5 + adjusted * 0.5;
-        cachedTemperature.put(id, smoothed);
-        lastCalcTime.put(id, now);
+        PlayerTemperatureStore.setTemperature(slot, smoothed);
+        PlayerTemperatureStore.setLastCalcTime(slot, now);
     }
 
     private static double clampTemp(double t) {
         return Math.max(MIN_TEMPERATURE, Math.min(MAX_TEMPERATURE, t));
     }
 
-    private static double getNearbyEntityTemp(ServerPlayerEntity player) {
-        double delta = 0.0;
-        var world = player.getEntityWorld();
-        var box = player.getBoundingBox().expand(6);
-        for (Entity e : world.getOtherEntities(player, box)) {
-            EntityType<?> t = e.getType();
-            if (t == EntityType.BLAZE) delta += 8.0;
-            else if (t == EntityType.STRAY) delta -= 6.0;
-            else if (t == EntityType.MAGMA_CUBE) delta += 5.0;
-            else if (t == EntityType.ENDERMAN) delta -= 2.0;
-            else if (t == EntityType.WITHER) delta += 6.0;
-            else if (t == EntityType.POLAR_BEAR) delta -= 4.0;
-            else if (t == EntityType.HOGLIN) delta += 2.0;
-            else if (t == EntityType.ZOGLIN) delta += 3.0;
-            else if (t == EntityType.ZOMBIFIED_PIGLIN) delta += 1.5;
-        }
+    static double getNearbyEntityTemp(ServerPlayerEntity player) {
+        // Cell query over pre-filtered emitters (see HeatEntityIndex for the per-type heat)
+        double delta = HeatEntityIndex.getNearbyEntityHeat(player.getEntityWorld(), player, player.getBoundingBox().expand(6));
         return Math.max(-15.0, Math.min(15.0, delta));
     }
 
@@ -0,0 +1,67 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Primal Craft - Temperature Worker Pool
+ *
+ * Dedicated ForkJoin pool for the off-thread half of {@link BulkTemperatureQuery} and
+ * {@link HeatmapEvaluator}: positions are captured on the server thread, then evaluated here.
+ * Created on first use and shut down when the server stops.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class TemperatureWorkerPool {
+    private static ForkJoinPool pool;
+    private static boolean registered = false;
+
+    private TemperatureWorkerPool() {
+        throw new UnsupportedOperationException("TemperatureWorkerPool is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Registers the pool's shutdown hook. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> shutdown());
+
+        PrimalCraft.LOGGER.info("✅ [TEMP_POOL] Temperature worker pool registered");
+    }
+
+    static synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            pool = new ForkJoinPool(parallelism, p -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(p);
+                thread.setName("Primal Temperature #" + thread.getPoolIndex());
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    private static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                pool.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            pool = null;
+        }
+    }
+}
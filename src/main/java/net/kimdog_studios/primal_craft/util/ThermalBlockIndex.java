@@ -0,0 +1,487 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerChunkEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.minecraft.block.AbstractFurnaceBlock;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.CampfireBlock;
+import net.minecraft.block.LeavesBlock;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.server.world.ServerWorld;
+import net.minecraft.state.property.Properties;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.world.BlockView;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.ChunkSection;
+import net.minecraft.world.chunk.WorldChunk;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+
+/**
+ * Primal Craft - Thermal Block Index
+ *
+ * Per-chunk-section index of the blocks that matter to {@link TemperatureSystem}:
+ * heat sources (lava, fire, lit campfires and furnaces, lights), cold sources (ice, snow),
+ * ambient materials (planks, stone, leaves, glass) and water.
+ *
+ * Each indexed section stores one thermal class byte per block. Temperature queries read
+ * these bytes and look up precomputed falloff contributions, instead of calling
+ * getBlockState and walking the block type chain for every sampled block.
+ *
+ * Maintenance:
+ * - Sections are built lazily on first query; sections without any thermal block are
+ *   stored as empty and skipped
+ * - Block changes update the affected byte in place (see ServerWorldBlockChangeMixin)
+ * - Chunk unload drops the chunk's sections, so a reloaded chunk is rebuilt on demand
+ * - Unloaded chunks are never loaded by a query; they read as empty
+ *
+ * Results match {@link TemperatureSystem#getNearbyBlockTemp} and
+ * {@link TemperatureSystem#getWaterProximityEffect}: same sample grid, same weights,
+ * same summation order.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class ThermalBlockIndex {
+    // Thermal classes, in the order TemperatureSystem.getNearbyBlockTemp tests them
+    static final byte NONE = 0;
+    static final byte LAVA = 1;
+    static final byte FIRE = 2;
+    static final byte CAMPFIRE = 3;
+    static final byte MAGMA = 4;
+    static final byte FURNACE = 5;
+    static final byte LANTERN = 6;
+    static final byte TORCH = 7;
+    static final byte CANDLE = 8;
+    static final byte SCULK = 9;
+    static final byte BLUE_ICE = 10;
+    static final byte ICE = 11;
+    static final byte SNOW_BLOCK = 12;
+    static final byte SNOW = 13;
+    static final byte PLANKS = 14;
+    static final byte STONE = 15;
+    static final byte LEAVES = 16;
+    static final byte GLASS = 17;
+    static final byte WATER = 18;
+    private static final int CLASS_COUNT = 19;
+
+    private static final byte[] EMPTY = new byte[0];
+    private static final int SECTION_VOLUME = 16 * 16 * 16;
+
+    // Heat scan grid: x/z -6..6 step 2, y -3..3 step 2 (7 x 4 x 7)
+    private static final int HEAT_RADIUS = 6;
+    private static final int HEAT_HEIGHT = 3;
+    private static final int[][] HEAT_OFFSETS = grid(-HEAT_RADIUS, HEAT_RADIUS, -HEAT_HEIGHT, HEAT_HEIGHT);
+    private static final double[][] HEAT_CONTRIBUTION = new double[HEAT_OFFSETS.length][CLASS_COUNT];
+
+    // Humidity scan grid: x/z -5..5 step 2, y -2..2 step 2 (6 x 3 x 6)
+    private static final int WATER_RADIUS = 5;
+    private static final int[][] WATER_OFFSETS = grid(-WATER_RADIUS, WATER_RADIUS, -2, 2);
+    private static final double[] WATER_CONTRIBUTION = new double[WATER_OFFSETS.length];
+
+    private static final Map<RegistryKey<World>, Map<Long, byte[]>> WORLDS = new ConcurrentHashMap<>();
+    // Per-chunk-column change counters, see getVersion
+    private static final Map<RegistryKey<World>, Map<Long, Integer>> VERSIONS = new ConcurrentHashMap<>();
+    private static final int SCAN_RADIUS = 6;
+    private static boolean registered = false;
+
+    // Statistics
+    private static long sectionsBuilt = 0;
+    private static long blockUpdates = 0;
+    private static long queries = 0;
+
+    static {
+        for (int i = 0; i < HEAT_OFFSETS.length; i++) {
+            int x = HEAT_OFFSETS[i][0];
+            int y = HEAT_OFFSETS[i][1];
+            int z = HEAT_OFFSETS[i][2];
+            double distSq = x * x + y * y + z * z;
+            double falloff = Math.max(0, 1.0 - (distSq / 144.0));
+            double falloffSq = falloff * falloff;
+
+            double[] c = HEAT_CONTRIBUTION[i];
+            c[LAVA] = 120.0 * falloffSq * falloffSq;
+            c[FIRE] = 65.0 * falloffSq * falloffSq;
+            c[CAMPFIRE] = 50.0 * falloffSq * falloffSq;
+            c[MAGMA] = 60.0 * falloffSq * falloffSq;
+            c[FURNACE] = 35.0 * falloff;
+            c[LANTERN] = 15.0 * falloff;
+            c[TORCH] = 10.0 * falloff;
+            c[CANDLE] = 6.0 * falloff;
+            c[SCULK] = 2.0 * falloff;
+            c[BLUE_ICE] = -(30.0 * falloffSq * falloffSq);
+            c[ICE] = -(20.0 * falloffSq * falloffSq);
+            c[SNOW_BLOCK] = -(12.0 * falloff);
+            c[SNOW] = -(8.0 * falloff);
+            c[PLANKS] = 4.0 * falloff;
+            c[STONE] = -(3.0 * falloff);
+            c[LEAVES] = -(2.0 * falloff);
+            c[GLASS] = 2.0 * falloffSq;
+        }
+
+        for (int i = 0; i < WATER_OFFSETS.length; i++) {
+            int x = WATER_OFFSETS[i][0];
+            int y = WATER_OFFSETS[i][1];
+            int z = WATER_OFFSETS[i][2];
+            double dist = Math.sqrt(x * x + y * y + z * z);
+            double effect = Math.max(0.0, 1.0 - (dist * dist) / (WATER_RADIUS * WATER_RADIUS * 1.5));
+            WATER_CONTRIBUTION[i] = effect * effect * 2.5;
+        }
+    }
+
+    private ThermalBlockIndex() {
+        throw new UnsupportedOperationException("ThermalBlockIndex is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Registers chunk/world unload listeners. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerChunkEvents.CHUNK_UNLOAD.register((world, chunk) -> invalidateChunk(world, chunk.getPos()));
+        ServerWorldEvents.UNLOAD.register((server, world) -> {
+            WORLDS.remove(world.getRegistryKey());
+            VERSIONS.remove(world.getRegistryKey());
+        });
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            WORLDS.clear();
+            VERSIONS.clear();
+        });
+
+        PrimalCraft.LOGGER.info("✅ [THERMAL_INDEX] Thermal block index registered");
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // QUERIES
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Indexed equivalent of {@link TemperatureSystem#getNearbyBlockTemp}.
+     *
+     * @return Heat (positive) or cold (negative) from nearby blocks, clamped to -60..120
+     */
+    public static double getNearbyBlockTemp(ServerWorld world, BlockPos center) {
+        queries++;
+        Map<Long, byte[]> sections = sectionsOf(world);
+        return sumHeat(key -> getSection(world, sections, key), center);
+    }
+
+    private static double sumHeat(LongFunction<byte[]> sectionLookup, BlockPos center) {
+        int cx = center.getX();
+        int cy = center.getY();
+        int cz = center.getZ();
+
+        long lastKey = Long.MIN_VALUE;
+        byte[] classes = EMPTY;
+        double heat = 0.0;
+        for (int i = 0; i < HEAT_OFFSETS.length; i++) {
+            int x = cx + HEAT_OFFSETS[i][0];
+            int y = cy + HEAT_OFFSETS[i][1];
+            int z = cz + HEAT_OFFSETS[i][2];
+            long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            if (key != lastKey) {
+                classes = sectionLookup.apply(key);
+                lastKey = key;
+            }
+            if (classes.length == 0) continue;
+
+            byte thermalClass = classes[localIndex(x, y, z)];
+            if (thermalClass != NONE) {
+                heat += HEAT_CONTRIBUTION[i][thermalClass];
+            }
+        }
+        return Math.max(-60.0, Math.min(120.0, heat));
+    }
+
+    /**
+     * Indexed equivalent of {@link TemperatureSystem#getWaterProximityEffect}.
+     *
+     * @return Humidity cooling from nearby water (0 to -6)
+     */
+    public static double getWaterProximityEffect(ServerWorld world, BlockPos pos) {
+        queries++;
+        Map<Long, byte[]> sections = sectionsOf(world);
+        return sumHumidity(key -> getSection(world, sections, key), pos);
+    }
+
+    private static double sumHumidity(LongFunction<byte[]> sectionLookup, BlockPos pos) {
+        int px = pos.getX();
+        int py = pos.getY();
+        int pz = pos.getZ();
+
+        long lastKey = Long.MIN_VALUE;
+        byte[] classes = EMPTY;
+        double humidity = 0.0;
+        for (int i = 0; i < WATER_OFFSETS.length; i++) {
+            int x = px + WATER_OFFSETS[i][0];
+            int y = py + WATER_OFFSETS[i][1];
+            int z = pz + WATER_OFFSETS[i][2];
+            long key = ChunkSectionPos.asLong(x >> 4, y >> 4, z >> 4);
+            if (key != lastKey) {
+                classes = sectionLookup.apply(key);
+                lastKey = key;
+            }
+            if (classes.length != 0 && classes[localIndex(x, y, z)] == WATER) {
+                humidity -= WATER_CONTRIBUTION[i];
+            }
+        }
+        return Math.max(-6.0, humidity);
+    }
+
+    /**
+     * Thermal class of the block at pos, {@link #NONE} if unclassified or not loaded.
+     */
+    static byte getThermalClass(ServerWorld world, BlockPos pos) {
+        byte[] classes = getSection(world, sectionsOf(world),
+            ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4));
+        return classes.length == 0 ? NONE : classes[localIndex(pos.getX(), pos.getY(), pos.getZ())];
+    }
+
+    /**
+     * Version of the thermal blocks around pos (heat and humidity grids); changes whenever
+     * a block inside them changes thermal class.
+     */
+    public static long getVersion(ServerWorld world, BlockPos pos) {
+        Map<Long, Integer> versions = VERSIONS.get(world.getRegistryKey());
+        if (versions == null) {
+            return 0L;
+        }
+        // Versions only grow, so the sum changes iff any covered chunk changed
+        int minX = (pos.getX() - SCAN_RADIUS) >> 4;
+        int maxX = (pos.getX() + SCAN_RADIUS) >> 4;
+        int minZ = (pos.getZ() - SCAN_RADIUS) >> 4;
+        int maxZ = (pos.getZ() + SCAN_RADIUS) >> 4;
+        long sum = 0;
+        for (int cx = minX; cx <= maxX; cx++) {
+            for (int cz = minZ; cz <= maxZ; cz++) {
+                sum += versions.getOrDefault(ChunkPos.toLong(cx, cz), 0);
+            }
+        }
+        return sum;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // SNAPSHOTS
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Copies the sections covering the heat grid around pos into the map, building them if
+     * needed. Server thread only; sections already in the map are not copied again.
+     */
+    static void captureHeatSections(ServerWorld world, BlockPos pos, Map<Long, byte[]> into) {
+        Map<Long, byte[]> sections = sectionsOf(world);
+        int minX = (pos.getX() - HEAT_RADIUS) >> 4;
+        int maxX = (pos.getX() + HEAT_RADIUS) >> 4;
+        int minY = (pos.getY() - HEAT_HEIGHT) >> 4;
+        int maxY = (pos.getY() + HEAT_HEIGHT) >> 4;
+        int minZ = (pos.getZ() - HEAT_RADIUS) >> 4;
+        int maxZ = (pos.getZ() + HEAT_RADIUS) >> 4;
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    long key = ChunkSectionPos.asLong(sx, sy, sz);
+                    if (!into.containsKey(key)) {
+                        byte[] classes = getSection(world, sections, key);
+                        into.put(key, classes.length == 0 ? EMPTY : classes.clone());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * {@link #getNearbyBlockTemp} over sections copied by {@link #captureHeatSections};
+     * safe off the server thread.
+     */
+    static double getNearbyBlockTemp(Map<Long, byte[]> captured, BlockPos center) {
+        return sumHeat(key -> captured.getOrDefault(key, EMPTY), center);
+    }
+
+    /**
+     * {@link #getWaterProximityEffect} over copied sections; safe off the server thread.
+     */
+    static double getWaterProximityEffect(Map<Long, byte[]> captured, BlockPos pos) {
+        return sumHumidity(key -> captured.getOrDefault(key, EMPTY), pos);
+    }
+
+    /**
+     * Builds the index bytes of one section from any block view, in the same layout the
+     * live index uses. For benchmarks and tools without a loaded chunk.
+     */
+    static byte[] indexSection(BlockView view, int sx, int sy, int sz) {
+        byte[] classes = new byte[SECTION_VOLUME];
+        boolean any = false;
+        BlockPos.Mutable pos = new BlockPos.Mutable();
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    byte thermalClass = classify(view.getBlockState(pos.set((sx << 4) + x, (sy << 4) + y, (sz << 4) + z)));
+                    classes[localIndex(x, y, z)] = thermalClass;
+                    any |= thermalClass != NONE;
+                }
+            }
+        }
+        return any ? classes : EMPTY;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // MAINTENANCE
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Keeps indexed sections and chunk versions in sync with block changes. Called for
+     * every block state change in a server world.
+     */
+    public static void onBlockChanged(ServerWorld world, BlockPos pos, BlockState oldState, BlockState newState) {
+        Map<Long, byte[]> sections = WORLDS.get(world.getRegistryKey());
+        if (sections == null) {
+            return;
+        }
+        byte thermalClass = classify(newState);
+        if (thermalClass != classify(oldState)) {
+            VERSIONS.computeIfAbsent(world.getRegistryKey(), k -> new ConcurrentHashMap<>())
+                .merge(ChunkPos.toLong(pos.getX() >> 4, pos.getZ() >> 4), 1, Integer::sum);
+        }
+
+        long key = ChunkSectionPos.asLong(pos.getX() >> 4, pos.getY() >> 4, pos.getZ() >> 4);
+        byte[] classes = sections.get(key);
+        if (classes == null) {
+            return; // Not indexed yet; built with the new state on first query
+        }
+
+        if (classes.length == 0) {
+            if (thermalClass != NONE) {
+                sections.remove(key); // Section was empty; rebuild lazily
+            }
+            return;
+        }
+        classes[localIndex(pos.getX(), pos.getY(), pos.getZ())] = thermalClass;
+        blockUpdates++;
+    }
+
+    private static void invalidateChunk(ServerWorld world, ChunkPos chunkPos) {
+        Map<Long, byte[]> sections = WORLDS.get(world.getRegistryKey());
+        if (sections == null) {
+            return;
+        }
+        for (int sy = world.getBottomSectionCoord(); sy <= world.getTopSectionCoord(); sy++) {
+            sections.remove(ChunkSectionPos.asLong(chunkPos.x, sy, chunkPos.z));
+        }
+    }
+
+    private static Map<Long, byte[]> sectionsOf(ServerWorld world) {
+        return WORLDS.computeIfAbsent(world.getRegistryKey(), k -> new ConcurrentHashMap<>());
+    }
+
+    private static byte[] getSection(ServerWorld world, Map<Long, byte[]> sections, long key) {
+        byte[] classes = sections.get(key);
+        if (classes != null) {
+            return classes;
+        }
+
+        int sx = ChunkSectionPos.unpackX(key);
+        int sy = ChunkSectionPos.unpackY(key);
+        int sz = ChunkSectionPos.unpackZ(key);
+        if (sy < world.getBottomSectionCoord() || sy > world.getTopSectionCoord()) {
+            return EMPTY;
+        }
+        WorldChunk chunk = world.getChunkManager().getWorldChunk(sx, sz);
+        if (chunk == null) {
+            return EMPTY; // Not loaded - don't cache, don't force a load
+        }
+
+        classes = buildSection(chunk.getSection(world.sectionCoordToIndex(sy)));
+        sections.put(key, classes);
+        sectionsBuilt++;
+        return classes;
+    }
+
+    private static byte[] buildSection(ChunkSection section) {
+        if (section.isEmpty() || !section.hasAny(state -> classify(state) != NONE)) {
+            return EMPTY;
+        }
+        byte[] classes = new byte[SECTION_VOLUME];
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    classes[localIndex(x, y, z)] = classify(section.getBlockState(x, y, z));
+                }
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Thermal class of a block state. Mirrors the test order of
+     * {@link TemperatureSystem#getNearbyBlockTemp}; keep the two in sync.
+     */
+    static byte classify(BlockState state) {
+        Block block = state.getBlock();
+        if (block == Blocks.LAVA || block == Blocks.LAVA_CAULDRON) return LAVA;
+        if (block == Blocks.FIRE || block == Blocks.SOUL_FIRE) return FIRE;
+        if (block instanceof CampfireBlock && state.get(CampfireBlock.LIT)) return CAMPFIRE;
+        if (block == Blocks.MAGMA_BLOCK) return MAGMA;
+        if (block instanceof AbstractFurnaceBlock && state.contains(Properties.LIT) && state.get(Properties.LIT)) return FURNACE;
+        if (block == Blocks.LANTERN || block == Blocks.SOUL_LANTERN) return LANTERN;
+        if (block == Blocks.TORCH || block == Blocks.SOUL_TORCH || block == Blocks.WALL_TORCH) return TORCH;
+        if (block == Blocks.CANDLE) return CANDLE;
+        if (block == Blocks.SCULK_SENSOR) return SCULK;
+        if (block == Blocks.BLUE_ICE) return BLUE_ICE;
+        if (block == Blocks.ICE || block == Blocks.PACKED_ICE) return ICE;
+        if (block == Blocks.SNOW_BLOCK || block == Blocks.POWDER_SNOW) return SNOW_BLOCK;
+        if (block == Blocks.SNOW) return SNOW;
+        if (block == Blocks.OAK_PLANKS || block == Blocks.SPRUCE_PLANKS || block == Blocks.BIRCH_PLANKS || block == Blocks.DARK_OAK_PLANKS || block == Blocks.JUNGLE_PLANKS || block == Blocks.ACACIA_PLANKS || block == Blocks.CHERRY_PLANKS || block == Blocks.BAMBOO_PLANKS) return PLANKS;
+        if (block == Blocks.STONE || block == Blocks.COBBLESTONE || block == Blocks.SMOOTH_STONE || block == Blocks.ANDESITE || block == Blocks.DIORITE || block == Blocks.GRANITE) return STONE;
+        if (block instanceof LeavesBlock) return LEAVES;
+        if (block == Blocks.GLASS || block == Blocks.GLASS_PANE) return GLASS;
+        if (block == Blocks.WATER) return WATER;
+        return NONE;
+    }
+
+    private static int localIndex(int x, int y, int z) {
+        return (y & 15) << 8 | (z & 15) << 4 | (x & 15);
+    }
+
+    private static int[][] grid(int minXZ, int maxXZ, int minY, int maxY) {
+        int xzCount = (maxXZ - minXZ) / 2 + 1;
+        int yCount = (maxY - minY) / 2 + 1;
+        int[][] offsets = new int[xzCount * yCount * xzCount][];
+        int i = 0;
+        // Same x -> y -> z order as the block scans, so sums match exactly
+        for (int x = minXZ; x <= maxXZ; x += 2) {
+            for (int y = minY; y <= maxY; y += 2) {
+                for (int z = minXZ; z <= maxXZ; z += 2) {
+                    offsets[i++] = new int[]{x, y, z};
+                }
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * Gets index statistics for debugging.
+     *
+     * @return A formatted string with index statistics
+     */
+    public static String getStatistics() {
+        int indexed = 0;
+        for (Map<Long, byte[]> sections : WORLDS.values()) {
+            indexed += sections.size();
+        }
+        return String.format("Sections: %d indexed, %d built | Block updates: %d | Queries: %d",
+            indexed, sectionsBuilt, blockUpdates, queries);
+    }
+}
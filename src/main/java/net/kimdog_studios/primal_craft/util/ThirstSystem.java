@@ -1,10 +1,7 @@
 package net.kimdog_studios.primal_craft.util;
 
-import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
-import net.kimdog_studios.primal_craft.network.ThirstSyncPayload;
 import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.entity.effect.StatusEffectInstance;
 import net.minecraft.entity.effect.StatusEffects;
@@ -47,9 +44,8 @@ import java.util.UUID;
  * - Below 5%: All previous + Health damage
  *
  * Network Synchronization:
- * - Syncs to clients every 20 ticks (~once per second)
- * - Uses efficient payload-based networking
- * - Only sends when thirst changes significantly
+ * - Thirst reaches clients through {@link VitalsSync} (delta-encoded, every 5 ticks)
+ * - addThirst/consumeThirst trigger an immediate {@link VitalsSync#syncNow}
  *
  * Performance:
  * - O(n) complexity where n = number of online players
@@ -67,10 +63,8 @@ public final class ThirstSystem {
 
     // Reduced drain rates - less aggressive thirst
     private static final double BASE_DRAIN_PER_TICK = 0.00015; // Reduced from 0.00033
-    private static final int SYNC_INTERVAL_TICKS = 20;
 
     private static int tickCounter = 0;
-    private static int syncEvents = 0;
     private static int effectApplications = 0;
     private static int thirstChangeEvents = 0;
 
@@ -80,37 +74,30 @@ public final class ThirstSystem {
         LoggingHelper.logSystemInit("[THIRST_SYSTEM]");
         LoggingHelper.logSubsection("Max Thirst: " + MAX_THIRST);
         LoggingHelper.logSubsection("Base Drain: " + BASE_DRAIN_PER_TICK + "/tick");
-        LoggingHelper.logSubsection("Sync Interval: " + SYNC_INTERVAL_TICKS + " ticks");
         LoggingHelper.logSubsection("Features: Activity drain, temperature effects, dehydration penalties");
 
-        ServerTickEvents.END_SERVER_TICK.register(server -> {
-            // Check if thirst system is enabled in config
-            if (!PrimalCraftConfig.getGameplay().thirstSystemEnabled) {
-                return; // Skip processing if disabled
-            }
-
-            tickCounter++;
-            int playerCount = server.getPlayerManager().getPlayerList().size();
-
-            if (tickCounter % 200 == 0) {
-                PrimalCraft.LOGGER.info("📊 [THIRST_STATS] Tick #{} - Players: {} | Changes: {} | Syncs: {} | Effects: {}",
-                    tickCounter, playerCount, thirstChangeEvents, syncEvents, effectApplications);
-            }
+        SurvivalTickPipeline.registerStage("thirst", 800,
+            () -> PrimalCraftConfig.getGameplay().thirstSystemEnabled,
+            server -> {
+                tickCounter++;
+                int playerCount = server.getPlayerManager().getPlayerList().size();
 
-            if (tickCounter % 100 == 0) {
-                PrimalCraft.LOGGER.trace("⏱️  [THIRST_TICK] Tick #{} - Processing {} players",
-                    tickCounter, playerCount);
-            }
+                if (tickCounter % 200 == 0) {
+                    PrimalCraft.LOGGER.info("📊 [THIRST_STATS] Tick #{} - Players: {} | Changes: {} | Effects: {}",
+                        tickCounter, playerCount, thirstChangeEvents, effectApplications);
+                }
 
-            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
-                tickPlayer(player);
-            }
-        });
+                if (tickCounter % 100 == 0) {
+                    PrimalCraft.LOGGER.trace("⏱️  [THIRST_TICK] Tick #{} - Processing {} players",
+                        tickCounter, playerCount);
+                }
+            },
+            ThirstSystem::tickPlayer);
 
         PrimalCraft.LOGGER.info("✅ [THIRST_SYSTEM] ThirstSystem registered successfully");
     }
 
-    private static void tickPlayer(ServerPlayerEntity player) {
+    private static void tickPlayer(ServerPlayerEntity player, PlayerEnvironment env) {
         UUID id = player.getUuid();
         double thirst = thirstLevels.getOrDefault(id, MAX_THIRST);
         double lastThirst = lastThirstLevel.getOrDefault(id, MAX_THIRST);
@@ -133,7 +120,7 @@ public final class ThirstSystem {
         }
 
         // Environment: heat increases drain (reduced amounts)
-        double temp = TemperatureSystem.getEffectiveTemperature(player);
+        double temp = env.effectiveTemperature();
         if (temp >= 40) {
             drainPerTick += 0.0006; // Reduced from 0.0012
             activities.append("ExtHeat(+0.0006) ");
@@ -199,16 +186,6 @@ public final class ThirstSystem {
         applyDehydrationEffects(player, clamped);
         thirstLevels.put(id, clamped);
         lastThirstLevel.put(id, clamped);
-
-        // Sync to client periodically
-        if (player.age % SYNC_INTERVAL_TICKS == 0) {
-            syncEvents++;
-            if (syncEvents % 50 == 0) {
-                PrimalCraft.LOGGER.trace("🔀 [SYNC] Event #{}: Syncing thirst: {}/{}",
-                    syncEvents, String.format("%.1f", clamped), MAX_THIRST);
-            }
-            ServerPlayNetworking.send(player, new ThirstSyncPayload(clamped, MAX_THIRST));
-        }
     }
 
     private static void applyDehydrationEffects(ServerPlayerEntity player, double thirst) {
@@ -250,7 +227,7 @@ public final class ThirstSystem {
 
         thirstLevels.put(id, thirst);
         PrimalCraft.LOGGER.trace("   └─ Syncing to client");
-        ServerPlayNetworking.send(player, new ThirstSyncPayload(thirst, MAX_THIRST));
+        VitalsSync.syncNow(player);
     }
 
     public static void consumeThirst(ServerPlayerEntity player, double amount) {
@@ -265,7 +242,12 @@ public final class ThirstSystem {
 
         thirstLevels.put(id, thirst);
         PrimalCraft.LOGGER.trace("   └─ Syncing to client");
-        ServerPlayNetworking.send(player, new ThirstSyncPayload(thirst, MAX_THIRST));
+        VitalsSync.syncNow(player);
+    }
+
+    // Unlogged read for periodic callers (vitals sync, dashboard snapshot)
+    public static double getThirstLevel(ServerPlayerEntity player) {
+        return thirstLevels.getOrDefault(player.getUuid(), MAX_THIRST);
     }
 
     public static double getThirst(ServerPlayerEntity player) {
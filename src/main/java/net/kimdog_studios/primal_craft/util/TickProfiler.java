@@ -0,0 +1,307 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.player.AttackBlockCallback;
+import net.fabricmc.fabric.api.event.player.AttackEntityCallback;
+import net.fabricmc.fabric.api.event.player.PlayerBlockBreakEvents;
+import net.fabricmc.fabric.api.event.player.UseBlockCallback;
+import net.fabricmc.fabric.api.event.player.UseItemCallback;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.minecraft.network.packet.CustomPayload;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Primal Craft - Tick Profiler
+ *
+ * Low-overhead per-handler timing for server tick handlers, player event callbacks and
+ * C2S payload receivers. Handlers are wrapped at registration time:
+ *
+ * <pre>{@code
+ * ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("WindHandler", server -> { ... }));
+ * UseBlockCallback.EVENT.register(TickProfiler.useBlock("DoubleDoorHandler", DoubleDoorHandler::onUseBlock));
+ * }</pre>
+ *
+ * Each handler records into a log-linear histogram (8 sub-buckets per power of two,
+ * ~12.5% worst-case error) so p50/p99 are available without storing samples. Recording
+ * is lock-free; reads may race with writes and are approximate by design.
+ *
+ * Controlled by {@code advanced.performance.profilingEnabled}; when disabled the
+ * wrappers call straight through.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class TickProfiler {
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private TickProfiler() {
+        throw new UnsupportedOperationException("TickProfiler is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Snapshot of one handler's timings. All times are in nanoseconds.
+     */
+    public record HandlerStats(String name, long count, long totalNanos, long p50, long p99, long max) {
+        public double meanNanos() {
+            return count == 0 ? 0 : (double) totalNanos / count;
+        }
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // RECORDING
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    public static boolean isEnabled() {
+        return PrimalCraftConfig.getAdvanced().performance.profilingEnabled;
+    }
+
+    /**
+     * Records a single timing for a handler.
+     *
+     * @param name  Handler name
+     * @param nanos Elapsed time in nanoseconds
+     */
+    public static void record(String name, long nanos) {
+        HISTOGRAMS.computeIfAbsent(name, n -> new Histogram()).record(nanos);
+    }
+
+    /**
+     * Clears all collected timings.
+     */
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * @return Stats for every profiled handler, most expensive (total time) first
+     */
+    public static List<HandlerStats> getStats() {
+        List<HandlerStats> stats = new ArrayList<>(HISTOGRAMS.size());
+        HISTOGRAMS.forEach((name, histogram) -> stats.add(histogram.snapshot(name)));
+        stats.sort(Comparator.comparingLong(HandlerStats::totalNanos).reversed());
+        return stats;
+    }
+
+    /**
+     * Cheap running totals (no percentile snapshot), for callers that sample every tick.
+     *
+     * @return Total recorded nanoseconds per handler name
+     */
+    public static Map<String, Long> getTotals() {
+        Map<String, Long> totals = new HashMap<>(HISTOGRAMS.size());
+        HISTOGRAMS.forEach((name, histogram) -> totals.put(name, histogram.total.sum()));
+        return totals;
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // HANDLER WRAPPERS
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    public static ServerTickEvents.EndTick endTick(String name, ServerTickEvents.EndTick handler) {
+        return server -> {
+            if (!isEnabled()) {
+                handler.onEndTick(server);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                handler.onEndTick(server);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static UseBlockCallback useBlock(String name, UseBlockCallback callback) {
+        return (player, world, hand, hitResult) -> {
+            if (!isEnabled()) {
+                return callback.interact(player, world, hand, hitResult);
+            }
+            long start = System.nanoTime();
+            try {
+                return callback.interact(player, world, hand, hitResult);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static UseItemCallback useItem(String name, UseItemCallback callback) {
+        return (player, world, hand) -> {
+            if (!isEnabled()) {
+                return callback.interact(player, world, hand);
+            }
+            long start = System.nanoTime();
+            try {
+                return callback.interact(player, world, hand);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static AttackEntityCallback attackEntity(String name, AttackEntityCallback callback) {
+        return (player, world, hand, entity, hitResult) -> {
+            if (!isEnabled()) {
+                return callback.interact(player, world, hand, entity, hitResult);
+            }
+            long start = System.nanoTime();
+            try {
+                return callback.interact(player, world, hand, entity, hitResult);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static AttackBlockCallback attackBlock(String name, AttackBlockCallback callback) {
+        return (player, world, hand, pos, direction) -> {
+            if (!isEnabled()) {
+                return callback.interact(player, world, hand, pos, direction);
+            }
+            long start = System.nanoTime();
+            try {
+                return callback.interact(player, world, hand, pos, direction);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static PlayerBlockBreakEvents.Before beforeBlockBreak(String name, PlayerBlockBreakEvents.Before callback) {
+        return (world, player, pos, state, blockEntity) -> {
+            if (!isEnabled()) {
+                return callback.beforeBlockBreak(world, player, pos, state, blockEntity);
+            }
+            long start = System.nanoTime();
+            try {
+                return callback.beforeBlockBreak(world, player, pos, state, blockEntity);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static PlayerBlockBreakEvents.After afterBlockBreak(String name, PlayerBlockBreakEvents.After callback) {
+        return (world, player, pos, state, blockEntity) -> {
+            if (!isEnabled()) {
+                callback.afterBlockBreak(world, player, pos, state, blockEntity);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                callback.afterBlockBreak(world, player, pos, state, blockEntity);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    public static <T extends CustomPayload> ServerPlayNetworking.PlayPayloadHandler<T> receiver(
+            String name, ServerPlayNetworking.PlayPayloadHandler<T> handler) {
+        return (payload, context) -> {
+            if (!isEnabled()) {
+                handler.receive(payload, context);
+                return;
+            }
+            long start = System.nanoTime();
+            try {
+                handler.receive(payload, context);
+            } finally {
+                record(name, System.nanoTime() - start);
+            }
+        };
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // HISTOGRAM
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * Log-linear histogram over non-negative longs. Values below 16 get exact buckets;
+     * above that each power of two is split into 8 linear sub-buckets.
+     */
+    private static final class Histogram {
+        private static final int SUB_BITS = 3;
+        private static final int SUB_COUNT = 1 << SUB_BITS;
+        private static final int LINEAR_LIMIT = 2 * SUB_COUNT;
+        private static final int BUCKETS = LINEAR_LIMIT + (63 - SUB_BITS - 1) * SUB_COUNT;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            if (nanos < 0) {
+                nanos = 0;
+            }
+            buckets.incrementAndGet(indexOf(nanos));
+            count.increment();
+            total.add(nanos);
+            long current = max.get();
+            while (nanos > current && !max.compareAndSet(current, nanos)) {
+                current = max.get();
+            }
+        }
+
+        static int indexOf(long value) {
+            if (value < LINEAR_LIMIT) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_COUNT - 1);
+            return LINEAR_LIMIT + (exponent - SUB_BITS - 1) * SUB_COUNT + sub;
+        }
+
+        static long upperBoundOf(int index) {
+            if (index < LINEAR_LIMIT) {
+                return index;
+            }
+            int exponent = (index - LINEAR_LIMIT) / SUB_COUNT + SUB_BITS + 1;
+            int sub = (index - LINEAR_LIMIT) % SUB_COUNT;
+            long width = 1L << (exponent - SUB_BITS);
+            return ((long) (SUB_COUNT + sub) << (exponent - SUB_BITS)) + width - 1;
+        }
+
+        HandlerStats snapshot(String name) {
+            long[] counts = new long[BUCKETS];
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                seen += counts[i];
+            }
+            long maxValue = max.get();
+            return new HandlerStats(name, count.sum(), total.sum(),
+                Math.min(percentile(counts, seen, 0.50), maxValue),
+                Math.min(percentile(counts, seen, 0.99), maxValue),
+                maxValue);
+        }
+
+        private static long percentile(long[] counts, long seen, double quantile) {
+            if (seen == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * seen);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return upperBoundOf(i);
+                }
+            }
+            return upperBoundOf(counts.length - 1);
+        }
+    }
+}
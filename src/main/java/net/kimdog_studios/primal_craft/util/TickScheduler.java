@@ -0,0 +1,236 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.client.config.PrimalCraftConfig;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Primal Craft - Tick Scheduler
+ *
+ * Staggered, tick-budgeted scheduler for expensive per-player work that does not need
+ * to run every tick (entity scans, notifications, ...).
+ *
+ * Scheduling:
+ * - Each task has a cadence in ticks (e.g. 20 = once per second per player)
+ * - Each player gets a tick phase on join, so players are spread across the cadence
+ *   window instead of all landing on the same tick
+ * - A job (task + player) is due when {@code (tick + phase) % cadence == 0}
+ *
+ * Budget:
+ * - Due jobs are queued and drained until the per-tick nanosecond budget
+ *   ({@code advanced.performance.tickBudgetNanos}) is spent
+ * - Jobs left over are carried to the next tick and run before new work
+ * - A job that is still queued when it becomes due again is not queued twice
+ * - At least one job runs per tick so the queue always makes progress
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class TickScheduler {
+    private static final int STATS_LOG_INTERVAL = 200;
+
+    private static final List<Task> TASKS = new ArrayList<>();
+    private static final Map<UUID, Integer> PLAYER_PHASES = new HashMap<>();
+    private static final ArrayDeque<Job> QUEUE = new ArrayDeque<>();
+    private static final Set<Job> QUEUED = new HashSet<>();
+    private static int nextPhase = 0;
+    private static boolean registered = false;
+
+    // Statistics
+    private static int jobsRunLastTick = 0;
+    private static int deferredLastTick = 0;
+    private static long nanosLastTick = 0;
+    private static long totalJobsRun = 0;
+    private static long totalDeferred = 0;
+    private static int maxBacklog = 0;
+
+    private TickScheduler() {
+        throw new UnsupportedOperationException("TickScheduler is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Per-player work of a scheduled task.
+     */
+    @FunctionalInterface
+    public interface PlayerWork {
+        void run(ServerPlayerEntity player);
+    }
+
+    private record Task(String name, int cadence, PlayerWork work, String profileName) {}
+
+    private record Job(Task task, UUID player) {}
+
+    /**
+     * Registers the scheduler's tick and connection listeners.
+     * Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("TickScheduler", TickScheduler::tick));
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) ->
+            PLAYER_PHASES.computeIfAbsent(handler.getPlayer().getUuid(), id -> nextPhase++));
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) ->
+            PLAYER_PHASES.remove(handler.getPlayer().getUuid()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> {
+            QUEUE.clear();
+            QUEUED.clear();
+            PLAYER_PHASES.clear();
+        });
+
+        PrimalCraft.LOGGER.info("✅ [TICK_SCHEDULER] Tick scheduler registered");
+    }
+
+    /**
+     * Schedules per-player work on a fixed cadence.
+     *
+     * @param name    Task name used in logs
+     * @param cadence Ticks between runs for the same player (1 = every tick)
+     * @param work    Per-player work
+     * @throws IllegalArgumentException if cadence is less than 1
+     */
+    public static void schedule(String name, int cadence, PlayerWork work) {
+        if (cadence < 1) {
+            throw new IllegalArgumentException("Cadence must be at least 1 tick: " + cadence);
+        }
+        TASKS.add(new Task(name, cadence, work, "scheduler:" + name));
+        PrimalCraft.LOGGER.debug("   ├─ [TICK_SCHEDULER] Task '{}' scheduled every {} ticks", name, cadence);
+    }
+
+    private static void tick(MinecraftServer server) {
+        int serverTick = server.getTicks();
+        int carriedOver = QUEUE.size();
+
+        // Queue due work behind anything carried over from the previous tick
+        if (!TASKS.isEmpty()) {
+            for (ServerPlayerEntity player : server.getPlayerManager().getPlayerList()) {
+                UUID id = player.getUuid();
+                int phase = PLAYER_PHASES.computeIfAbsent(id, k -> nextPhase++);
+                for (Task task : TASKS) {
+                    if ((serverTick + phase) % task.cadence() == 0) {
+                        Job job = new Job(task, id);
+                        if (QUEUED.add(job)) {
+                            QUEUE.addLast(job);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (QUEUE.isEmpty()) {
+            jobsRunLastTick = 0;
+            deferredLastTick = 0;
+            nanosLastTick = 0;
+            return;
+        }
+
+        maxBacklog = Math.max(maxBacklog, QUEUE.size());
+        long budget = PrimalCraftConfig.getAdvanced().performance.tickBudgetNanos;
+        long start = System.nanoTime();
+        boolean profiling = TickProfiler.isEnabled();
+        int ran = 0;
+        int polled = 0;
+
+        while (!QUEUE.isEmpty()) {
+            if (ran > 0 && budget > 0 && System.nanoTime() - start >= budget) {
+                break;
+            }
+            Job job = QUEUE.pollFirst();
+            polled++;
+            QUEUED.remove(job);
+
+            ServerPlayerEntity player = server.getPlayerManager().getPlayer(job.player());
+            if (player == null) {
+                continue; // Disconnected while queued
+            }
+
+            long jobStart = profiling ? System.nanoTime() : 0L;
+            try {
+                job.task().work().run(player);
+            } catch (Exception e) {
+                PrimalCraft.LOGGER.error("❌ [TICK_SCHEDULER] Task '{}' failed for player {}: {}",
+                    job.task().name(), player.getName().getString(), e.getMessage());
+                PrimalCraft.LOGGER.debug("   └─ Stack trace:", e);
+            }
+            if (profiling) {
+                TickProfiler.record(job.task().profileName(), System.nanoTime() - jobStart);
+            }
+            ran++;
+        }
+
+        jobsRunLastTick = ran;
+        deferredLastTick = QUEUE.size();
+        nanosLastTick = System.nanoTime() - start;
+        totalJobsRun += ran;
+        // Carried-over jobs sit at the head of the queue, so whatever was not polled of them
+        // was already counted on an earlier tick; only the rest are deferred for the first time
+        totalDeferred += deferredLastTick - Math.max(0, carriedOver - polled);
+
+        if (serverTick % STATS_LOG_INTERVAL == 0 && totalDeferred > 0) {
+            PrimalCraft.LOGGER.info("📊 [TICK_SCHEDULER_STATS] Tick #{} - {}", serverTick, getStatistics());
+        }
+    }
+
+    /**
+     * @return Jobs run on the last tick
+     */
+    public static int getJobsRunLastTick() {
+        return jobsRunLastTick;
+    }
+
+    /**
+     * @return Jobs carried over to the next tick because the budget ran out
+     */
+    public static int getDeferredLastTick() {
+        return deferredLastTick;
+    }
+
+    /**
+     * @return Nanoseconds spent draining the queue on the last tick
+     */
+    public static long getNanosLastTick() {
+        return nanosLastTick;
+    }
+
+    /**
+     * @return Total number of jobs deferred at least once since startup (each counted once)
+     */
+    public static long getTotalDeferred() {
+        return totalDeferred;
+    }
+
+    /**
+     * @return Current queue length
+     */
+    public static int getBacklog() {
+        return QUEUE.size();
+    }
+
+    /**
+     * Gets scheduler statistics for debugging.
+     *
+     * @return A formatted string with scheduler statistics
+     */
+    public static String getStatistics() {
+        return String.format("Tasks: %d | Last tick: %d run, %d deferred, %.3fms | Total: %d run, %d deferred | Max backlog: %d",
+            TASKS.size(), jobsRunLastTick, deferredLastTick, nanosLastTick / 1_000_000.0,
+            totalJobsRun, totalDeferred, maxBacklog);
+    }
+}
@@ -0,0 +1,146 @@
+package net.kimdog_studios.primal_craft.util;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.network.PlayerVitalsPayload;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Primal Craft - Vitals Sync
+ *
+ * Sends stamina, body temperature, world temperature and thirst to each client as one
+ * delta-encoded {@link PlayerVitalsPayload}, replacing the separate per-value syncs.
+ *
+ * Rules:
+ * - Checked every {@link #SYNC_INTERVAL_TICKS} ticks as the last survival pipeline stage,
+ *   and immediately after stamina/thirst changes made outside the pipeline
+ * - A field is included only when its quantized value moved by at least its threshold
+ *   from what the client last received; nothing changed means no packet
+ * - Every {@link #HEARTBEAT_TICKS} ticks (and on first sync) all fields are sent, so a
+ *   client that drifted resyncs
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class VitalsSync {
+    private static final int SYNC_INTERVAL_TICKS = 5;
+    private static final int HEARTBEAT_TICKS = 200;
+
+    // Thresholds in quantized units
+    private static final int STAMINA_THRESHOLD = 1;           // 0.4 stamina
+    private static final int TEMPERATURE_THRESHOLD = 1;       // 0.1°C
+    private static final int WORLD_TEMPERATURE_THRESHOLD = 2; // 0.2°C, drifts with time of day
+    private static final int THIRST_THRESHOLD = 1;            // 0.08 thirst
+
+    private static final Map<UUID, Sent> SENT = new ConcurrentHashMap<>();
+    private static boolean registered = false;
+
+    // Statistics
+    private static long packets = 0;
+    private static long heartbeats = 0;
+    private static long skipped = 0;
+    private static long fieldsSent = 0;
+
+    private VitalsSync() {
+        throw new UnsupportedOperationException("VitalsSync is a utility class and cannot be instantiated");
+    }
+
+    // Quantized values the client last received
+    private static final class Sent {
+        int stamina;
+        int temperature;
+        int worldTemperature;
+        int thirst;
+        int lastHeartbeat = -HEARTBEAT_TICKS; // First sync is a full one
+    }
+
+    /**
+     * Registers the sync pipeline stage and cleanup listeners. Must be called during mod
+     * initialization, after {@link SurvivalTickPipeline#register()}.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        SurvivalTickPipeline.registerStage("vitals_sync", 1000, SurvivalTickPipeline.ALWAYS,
+            (player, env) -> {
+                if (env.serverTick() % SYNC_INTERVAL_TICKS == 0) {
+                    sync(player, env.temperature(), env.serverTick());
+                }
+            });
+        ServerPlayConnectionEvents.DISCONNECT.register((handler, server) -> SENT.remove(handler.getPlayer().getUuid()));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> SENT.clear());
+
+        PrimalCraft.LOGGER.info("✅ [VITALS_SYNC] Vitals sync registered");
+    }
+
+    /**
+     * Syncs a player's vitals now, e.g. right after stamina was consumed. Still only sends
+     * fields that moved past their threshold.
+     */
+    public static void syncNow(ServerPlayerEntity player) {
+        sync(player, TemperatureSystem.getPlayerTemperature(player), player.getEntityWorld().getServer().getTicks());
+    }
+
+    private static void sync(ServerPlayerEntity player, double temperature, int serverTick) {
+        PlayerVitalsPayload current = PlayerVitalsPayload.of(PlayerVitalsPayload.ALL,
+            StaminaSystem.get(player),
+            temperature,
+            TemperatureSystem.getWorldTemperature(player),
+            ThirstSystem.getThirstLevel(player));
+
+        Sent sent = SENT.computeIfAbsent(player.getUuid(), k -> new Sent());
+        int changed;
+        if (serverTick - sent.lastHeartbeat >= HEARTBEAT_TICKS || serverTick < sent.lastHeartbeat) {
+            changed = PlayerVitalsPayload.ALL;
+            sent.lastHeartbeat = serverTick;
+            heartbeats++;
+        } else {
+            changed = 0;
+            if (Math.abs(current.stamina() - sent.stamina) >= STAMINA_THRESHOLD) changed |= PlayerVitalsPayload.STAMINA;
+            if (Math.abs(current.temperature() - sent.temperature) >= TEMPERATURE_THRESHOLD) changed |= PlayerVitalsPayload.TEMPERATURE;
+            if (Math.abs(current.worldTemperature() - sent.worldTemperature) >= WORLD_TEMPERATURE_THRESHOLD) changed |= PlayerVitalsPayload.WORLD_TEMPERATURE;
+            if (Math.abs(current.thirst() - sent.thirst) >= THIRST_THRESHOLD) changed |= PlayerVitalsPayload.THIRST;
+        }
+
+        if (changed == 0) {
+            skipped++;
+            return;
+        }
+
+        // Unsent fields keep their old baseline, so slow drift still crosses the threshold
+        if ((changed & PlayerVitalsPayload.STAMINA) != 0) sent.stamina = current.stamina();
+        if ((changed & PlayerVitalsPayload.TEMPERATURE) != 0) sent.temperature = current.temperature();
+        if ((changed & PlayerVitalsPayload.WORLD_TEMPERATURE) != 0) sent.worldTemperature = current.worldTemperature();
+        if ((changed & PlayerVitalsPayload.THIRST) != 0) sent.thirst = current.thirst();
+
+        try {
+            ServerPlayNetworking.send(player, new PlayerVitalsPayload(changed,
+                current.stamina(), current.temperature(), current.worldTemperature(), current.thirst()));
+            packets++;
+            fieldsSent += Integer.bitCount(changed);
+        } catch (Exception e) {
+            PrimalCraft.LOGGER.warn("⚠️  [VITALS_SYNC] Failed to sync to player {}: {}",
+                player.getName().getString(), e.getMessage());
+        }
+    }
+
+    /**
+     * Gets sync statistics for debugging.
+     *
+     * @return A formatted string with sync statistics
+     */
+    public static String getStatistics() {
+        return String.format("Packets: %d | Heartbeats: %d | Skipped: %d | Avg fields/packet: %.2f",
+            packets, heartbeats, skipped, packets == 0 ? 0.0 : (double) fieldsSent / packets);
+    }
+}
@@ -0,0 +1,177 @@
+package net.kimdog_studios.primal_craft.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Primal Craft - Wind Field
+ *
+ * Deterministic wind at any position and tick, built from seeded coherent value noise and
+ * the world's weather state. Pure arithmetic with no world access: the server sends each
+ * client the field seed and weather type (WindFieldPayload), and the client evaluates the
+ * same wind from its own world time.
+ *
+ * Components:
+ * - Prevailing direction: slow temporal noise, at most one full turn per in-game day
+ *   (20 minutes) and usually far less, bent up to {@link #DIRECTION_SWING} radians by
+ *   large-scale spatial noise
+ * - Base strength: within the weather type's min..max range, drifting over ~20 seconds
+ * - Gusts: 0.5x - 2.5x multiplier from fast noise over ~48-block cells, so neighbouring
+ *   players feel correlated but not identical gusts
+ * - Vertical component: small up/down wobble (±0.05)
+ *
+ * The prevailing values (direction and base strength without the spatial terms) are what
+ * {@link WindSystem.WindData} holds for world-level readers.
+ *
+ * @author KimDog Studios
+ * @version 1.0.0
+ * @since 2026-10-17
+ */
+public final class WindField {
+    private static final double DIRECTION_PERIOD_TICKS = 24000.0; // one in-game day
+    private static final double DIRECTION_TURNS = 1.0;            // noise 0..1 -> 0..1 full turn
+    private static final double DIRECTION_SPATIAL_SCALE = 512.0; // blocks
+    static final double DIRECTION_SWING = 0.6;                  // radians
+    private static final double STRENGTH_PERIOD_TICKS = 400.0;
+    private static final double GUST_PERIOD_TICKS = 60.0;
+    private static final double GUST_SPATIAL_SCALE = 48.0;
+    private static final double VERTICAL_PERIOD_TICKS = 100.0;
+    private static final double MAX_STRENGTH = 15.0;
+
+    // Independent noise channels
+    private static final long DIRECTION = 1;
+    private static final long DIRECTION_BEND = 2;
+    private static final long STRENGTH = 3;
+    private static final long GUST = 4;
+    private static final long VERTICAL = 5;
+
+    private WindField() {
+        throw new UnsupportedOperationException("WindField is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Wind at one position and tick.
+     *
+     * @param dirX         Unit direction X
+     * @param dirY         Unit direction Y
+     * @param dirZ         Unit direction Z
+     * @param baseStrength Weather-range base strength
+     * @param gust         Gust multiplier (0.5 - 2.5)
+     * @param strength     Effective strength, see {@link #effectiveStrength}
+     */
+    public record Sample(double dirX, double dirY, double dirZ, double baseStrength, double gust, double strength) {}
+
+    /**
+     * Field seed for a world: a SHA-256 hash of the world seed and dimension id, so
+     * dimensions get independent wind. The field seed is sent to clients; a one-way hash
+     * keeps the world seed from being recovered from it (the SplitMix finalizer used for
+     * the noise is invertible).
+     */
+    public static long seedFor(long worldSeed, String dimensionId) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(ByteBuffer.allocate(Long.BYTES).putLong(worldSeed).array());
+            digest.update(dimensionId.getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest.digest()).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Full wind sample at a position.
+     */
+    public static Sample sample(long seed, double x, double z, long time, WindSystem.CustomWeatherType weather) {
+        double angle = prevailingAngle(seed, time)
+            + (noise(seed, DIRECTION_BEND, x / DIRECTION_SPATIAL_SCALE, z / DIRECTION_SPATIAL_SCALE, time / DIRECTION_PERIOD_TICKS) - 0.5)
+            * 2.0 * DIRECTION_SWING;
+        double gust = gust(seed, x / GUST_SPATIAL_SCALE, z / GUST_SPATIAL_SCALE, time);
+        return build(seed, angle, gust, time, weather);
+    }
+
+    /**
+     * Prevailing (position-independent) wind: direction and strength without spatial terms.
+     */
+    public static Sample prevailing(long seed, long time, WindSystem.CustomWeatherType weather) {
+        return build(seed, prevailingAngle(seed, time), gust(seed, 0.0, 0.0, time), time, weather);
+    }
+
+    /**
+     * Effective strength from base strength, gusts and weather. Capped at 15.
+     */
+    public static double effectiveStrength(double baseStrength, double gust, boolean stormy, WindSystem.CustomWeatherType weather) {
+        double effective = baseStrength * gust;
+        if (stormy) effective *= 3.0;
+        if (weather == WindSystem.CustomWeatherType.BLIZZARD || weather == WindSystem.CustomWeatherType.DUST_STORM) {
+            effective *= 2.5;
+        }
+        return Math.min(effective, MAX_STRENGTH);
+    }
+
+    private static Sample build(long seed, double angle, double gust, long time, WindSystem.CustomWeatherType weather) {
+        double y = (noise(seed, VERTICAL, 0.0, 0.0, time / VERTICAL_PERIOD_TICKS) - 0.5) * 0.1;
+        double x = Math.cos(angle);
+        double z = Math.sin(angle);
+        double length = Math.sqrt(x * x + y * y + z * z);
+
+        double base = weather.minStrength
+            + noise(seed, STRENGTH, 0.0, 0.0, time / STRENGTH_PERIOD_TICKS) * (weather.maxStrength - weather.minStrength);
+        return new Sample(x / length, y / length, z / length, base, gust,
+            effectiveStrength(base, gust, weather.isStorm, weather));
+    }
+
+    private static double prevailingAngle(long seed, long time) {
+        return noise(seed, DIRECTION, 0.0, 0.0, time / DIRECTION_PERIOD_TICKS) * DIRECTION_TURNS * 2.0 * Math.PI;
+    }
+
+    private static double gust(long seed, double u, double v, long time) {
+        return 0.5 + 2.0 * noise(seed, GUST, u, v, time / GUST_PERIOD_TICKS);
+    }
+
+    // ═══════════════════════════════════════════════════════════════════════════════
+    // NOISE
+    // ═══════════════════════════════════════════════════════════════════════════════
+
+    /**
+     * 3D value noise in [0, 1]: hashed lattice values, smoothstep-interpolated.
+     */
+    static double noise(long seed, long channel, double u, double v, double t) {
+        long u0 = (long) Math.floor(u);
+        long v0 = (long) Math.floor(v);
+        long t0 = (long) Math.floor(t);
+        double fu = smooth(u - u0);
+        double fv = smooth(v - v0);
+        double ft = smooth(t - t0);
+        long s = mix(seed + channel * 0xD1B54A32D192ED03L);
+
+        double c00 = lerp(fu, lattice(s, u0, v0, t0), lattice(s, u0 + 1, v0, t0));
+        double c10 = lerp(fu, lattice(s, u0, v0 + 1, t0), lattice(s, u0 + 1, v0 + 1, t0));
+        double c01 = lerp(fu, lattice(s, u0, v0, t0 + 1), lattice(s, u0 + 1, v0, t0 + 1));
+        double c11 = lerp(fu, lattice(s, u0, v0 + 1, t0 + 1), lattice(s, u0 + 1, v0 + 1, t0 + 1));
+        return lerp(ft, lerp(fv, c00, c10), lerp(fv, c01, c11));
+    }
+
+    private static double lattice(long seed, long u, long v, long t) {
+        long h = mix(seed ^ u * 0x9E3779B97F4A7C15L);
+        h = mix(h ^ v * 0xC2B2AE3D27D4EB4FL);
+        h = mix(h ^ t * 0x165667B19E3779F9L);
+        return (h >>> 11) * 0x1.0p-53;
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double smooth(double f) {
+        return f * f * (3.0 - 2.0 * f);
+    }
+
+    private static double lerp(double f, double a, double b) {
+        return a + (b - a) * f;
+    }
+}
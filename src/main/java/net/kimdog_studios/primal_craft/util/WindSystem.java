@@ -10,22 +10,22 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraft.registry.tag.BiomeTags;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Random;
-import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Dynamic wind system with directional force, gusts, and visual effects
+ * Dynamic wind system with directional force, gusts, and visual effects.
+ * Direction and strength come from the deterministic {@link WindField}; this class adds
+ * weather detection and the per-position terrain modifiers.
  */
 public class WindSystem {
     // Global wind state per world
-    private static final Map<String, WindData> worldWindData = new HashMap<>();
+    private static final Map<String, WindData> worldWindData = new ConcurrentHashMap<>();
     private static final Random random = new Random();
 
-    // Wind update frequency
+    // Wind debug logging frequency (world ticks)
     private static final int WIND_UPDATE_INTERVAL = 100;
-    private static int windTickCounter = 0;
     private static int windUpdates = 0;
 
     /**
@@ -62,6 +62,7 @@ public class WindSystem {
         public double temperature;
         public boolean stormy;
         public CustomWeatherType customWeather;
+        public long fieldSeed;
 
         public WindData() {
             this.direction = new Vec3d(1, 0, 0);
@@ -74,12 +75,7 @@ public class WindSystem {
         }
 
         public double getEffectiveStrength() {
-            double effective = baseStrength * gustStrength;
-            if (stormy) effective *= 3.0;
-            if (customWeather == CustomWeatherType.BLIZZARD || customWeather == CustomWeatherType.DUST_STORM) {
-                effective *= 2.5;
-            }
-            return Math.min(effective, 15.0);
+            return WindField.effectiveStrength(baseStrength, gustStrength, stormy, customWeather);
         }
 
         public Vec3d getWindForce() {
@@ -88,25 +84,21 @@ public class WindSystem {
     }
 
     /**
-     * Update global wind for a world
+     * Update global wind for a world from the wind field at the world's current time
      */
-    public static void updateWind(ServerWorld world, int serverTick) {
-        String worldKey = world.getRegistryKey().getValue().toString();
-        WindData wind = worldWindData.computeIfAbsent(worldKey, k -> new WindData());
+    public static void updateWind(ServerWorld world) {
+        WindData wind = getWindData(world);
 
-        // Update base strength (weather-dependent)
+        // Weather-dependent wind profile
         boolean raining = world.isRaining();
         boolean thundering = world.isThundering();
-        wind.stormy = thundering;
-
         updateCustomWeather(wind, raining, thundering);
+        refreshFromField(world, wind);
 
-        windTickCounter++;
-        if (windTickCounter >= WIND_UPDATE_INTERVAL) {
-            windTickCounter = 0;
+        if (world.getTime() % WIND_UPDATE_INTERVAL == 0) {
             windUpdates++;
 
-            PrimalCraft.LOGGER.debug("💨 [WIND_UPDATE] Event #{} - World: {}", windUpdates, worldKey);
+            PrimalCraft.LOGGER.debug("💨 [WIND_UPDATE] Event #{} - World: {}", windUpdates, world.getRegistryKey().getValue());
             PrimalCraft.LOGGER.trace("   ├─ Weather: Rain={}, Thunder={}, Custom={}",
                 raining, thundering, wind.customWeather.name());
             PrimalCraft.LOGGER.trace("   ├─ Strength: {} (base: {}, gust: {})",
@@ -114,31 +106,15 @@ public class WindSystem {
                 String.format("%.2f", wind.baseStrength),
                 String.format("%.2f", wind.gustStrength));
             PrimalCraft.LOGGER.trace("   └─ Temperature: {}°C", String.format("%.1f", wind.temperature));
-
-            // Gradual wind direction shift
-            double angleShift = (random.nextDouble() - 0.5) * 0.3;
-            Vec3d current = wind.direction;
-            double currentAngle = Math.atan2(current.z, current.x);
-            double newAngle = currentAngle + angleShift;
-
-            wind.direction = new Vec3d(
-                Math.cos(newAngle),
-                (random.nextDouble() - 0.5) * 0.1,
-                Math.sin(newAngle)
-            ).normalize();
-        }
-
-        // Update gusts every tick (creates turbulence)
-        if (serverTick % 20 == 0) {
-            // Update weather-based strength based on custom weather
-            CustomWeatherType weather = wind.customWeather;
-            wind.baseStrength = weather.minStrength + random.nextDouble() * (weather.maxStrength - weather.minStrength);
-
-            // Smooth gust transitions - INCREASED RANGE
-            double targetGust = 0.5 + random.nextDouble() * 2.0;
-            wind.gustStrength += (targetGust - wind.gustStrength) * 0.2;
         }
+    }
 
+    // Prevailing (position-independent) wind at the world's current time
+    private static void refreshFromField(World world, WindData wind) {
+        WindField.Sample prevailing = WindField.prevailing(wind.fieldSeed, world.getTime(), wind.customWeather);
+        wind.direction = new Vec3d(prevailing.dirX(), prevailing.dirY(), prevailing.dirZ());
+        wind.baseStrength = prevailing.baseStrength();
+        wind.gustStrength = prevailing.gust();
         wind.lastUpdate = System.currentTimeMillis();
     }
 
@@ -180,11 +156,9 @@ public class WindSystem {
      * Manually set custom weather for a world
      */
     public static void setCustomWeather(ServerWorld world, CustomWeatherType weatherType) {
-        String worldKey = world.getRegistryKey().getValue().toString();
-        WindData wind = worldWindData.computeIfAbsent(worldKey, k -> new WindData());
+        WindData wind = getWindData(world);
 
         wind.customWeather = weatherType;
-        wind.baseStrength = weatherType.minStrength + random.nextDouble() * (weatherType.maxStrength - weatherType.minStrength);
         wind.stormy = weatherType.isStorm;
         wind.temperature = weatherType.baseTemp;
 
@@ -201,29 +175,16 @@ public class WindSystem {
             }
         }
 
-        wind.lastUpdate = System.currentTimeMillis();
+        refreshFromField(world, wind);
     }
 
     /**
      * Force immediate wind update for a world (useful for weather command responses)
      */
     public static void forceWindUpdate(ServerWorld world) {
-        String worldKey = world.getRegistryKey().getValue().toString();
-        WindData wind = worldWindData.computeIfAbsent(worldKey, k -> new WindData());
-
-        boolean raining = world.isRaining();
-        boolean thundering = world.isThundering();
-        wind.stormy = thundering;
-
-        if (thundering) {
-            wind.baseStrength = 0.8;
-        } else if (raining) {
-            wind.baseStrength = 0.6;
-        } else {
-            wind.baseStrength = 0.3;
-        }
-
-        wind.lastUpdate = System.currentTimeMillis();
+        WindData wind = getWindData(world);
+        updateCustomWeather(wind, world.isRaining(), world.isThundering());
+        refreshFromField(world, wind);
     }
 
     /**
@@ -231,15 +192,33 @@ public class WindSystem {
      */
     public static WindData getWindData(World world) {
         String worldKey = world.getRegistryKey().getValue().toString();
-        return worldWindData.computeIfAbsent(worldKey, k -> new WindData());
+        return worldWindData.computeIfAbsent(worldKey, k -> {
+            WindData wind = new WindData();
+            if (world instanceof ServerWorld serverWorld) {
+                wind.fieldSeed = WindField.seedFor(serverWorld.getSeed(), worldKey);
+            }
+            return wind;
+        });
+    }
+
+    /**
+     * Local wind (direction, gusts, strength) at a position, before terrain modifiers
+     */
+    public static WindField.Sample sampleAt(World world, BlockPos pos) {
+        WindData wind = getWindData(world);
+        return WindField.sample(wind.fieldSeed, pos.getX() + 0.5, pos.getZ() + 0.5, world.getTime(), wind.customWeather);
     }
 
     /**
      * Get wind force at a specific position (altitude and exposure affect strength)
      */
     public static Vec3d getWindForceAtPosition(World world, BlockPos pos, boolean isExposed) {
-        WindData wind = getWindData(world);
-        Vec3d baseForce = wind.getWindForce();
+        return getWindForceAtPosition(world, pos, isExposed, sampleAt(world, pos));
+    }
+
+    private static Vec3d getWindForceAtPosition(World world, BlockPos pos, boolean isExposed, WindField.Sample sample) {
+        Vec3d direction = new Vec3d(sample.dirX(), sample.dirY(), sample.dirZ());
+        Vec3d baseForce = direction.multiply(sample.strength());
 
         // Altitude amplifies wind (stronger at height)
         int y = pos.getY();
@@ -255,17 +234,17 @@ public class WindSystem {
             }
         }
 
-        // Coastal/ocean proximity boosts wind like open seas
-        double oceanMultiplier = isNearOceanOrCoast(world, pos) ? 1.35 : 1.0;
+        // Coastal/ocean proximity boosts wind like open seas (precomputed per chunk column)
+        double oceanMultiplier = ExposureCache.isCoastal(world, pos) ? 1.35 : 1.0;
 
         // Exposure: sheltered areas get less wind using structural scan instead of binary flag
-        double exposureMultiplier = computeExposureFactor(world, pos);
+        double exposureMultiplier = ExposureCache.getExposureFactor(world, pos);
         if (!isExposed) {
             exposureMultiplier *= 0.35; // Sky not visible but still some drafts
         }
 
         // Terrain shielding and funneling based on upwind obstacles
-        double terrainMultiplier = computeTerrainShelterMultiplier(world, pos, wind.direction);
+        double terrainMultiplier = ExposureCache.getTerrainShelterMultiplier(world, pos, direction);
 
         // Thermal updrafts/downdrafts from nearby blocks (lava/fire up, ice/snow down)
         double thermalLift = computeThermalDraft(world, pos);
@@ -275,7 +254,7 @@ public class WindSystem {
     }
 
     // Lightweight check to see if player is in/near ocean or beach
-    private static boolean isNearOceanOrCoast(World world, BlockPos pos) {
+    static boolean isNearOceanOrCoast(World world, BlockPos pos) {
         var biomeEntry = world.getBiome(pos);
         if (biomeEntry.isIn(BiomeTags.IS_OCEAN) || biomeEntry.isIn(BiomeTags.IS_BEACH)) {
             return true;
@@ -293,7 +272,7 @@ public class WindSystem {
     }
 
     // Estimate how exposed a position is: 1 = open sky, 0.1 = well-sealed room
-    private static double computeExposureFactor(World world, BlockPos pos) {
+    static double computeExposureFactor(World world, BlockPos pos) {
         int samples = 0;
         int blocked = 0;
 
@@ -329,16 +308,39 @@ public class WindSystem {
         return openFraction;
     }
 
-    // Upwind shelter (lee side) and canyon funnel detection
-    private static double computeTerrainShelterMultiplier(World world, BlockPos pos, Vec3d windDir) {
-        Vec3d dir = windDir.normalize();
+    // Head-height opaque mask: 13x13 layer at y+1 around pos, bit (dx+6)*13 + (dz+6)
+    private static final int HEAD_LAYER_SIZE = ExposureCache.PROBE_RADIUS * 2 + 1;
+
+    static long[] scanHeadLayer(World world, BlockPos pos) {
+        long[] mask = new long[(HEAD_LAYER_SIZE * HEAD_LAYER_SIZE + 63) / 64];
         BlockPos.Mutable probe = new BlockPos.Mutable();
+        int r = ExposureCache.PROBE_RADIUS;
+        for (int dx = -r; dx <= r; dx++) {
+            for (int dz = -r; dz <= r; dz++) {
+                probe.set(pos.getX() + dx, pos.getY() + 1, pos.getZ() + dz);
+                if (world.getBlockState(probe).isOpaqueFullCube()) {
+                    int bit = (dx + r) * HEAD_LAYER_SIZE + (dz + r);
+                    mask[bit >> 6] |= 1L << (bit & 63);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private static boolean isHeadOpaque(long[] mask, int dx, int dz) {
+        int r = ExposureCache.PROBE_RADIUS;
+        int bit = (dx + r) * HEAD_LAYER_SIZE + (dz + r);
+        return (mask[bit >> 6] & (1L << (bit & 63))) != 0;
+    }
+
+    // Upwind shelter (lee side) and canyon funnel detection, probed against a head-height mask
+    static double computeTerrainShelterMultiplier(long[] headMask, Vec3d windDir) {
+        Vec3d dir = windDir.normalize();
 
         // Check a short line upwind for solid obstacles at head height
         int hits = 0;
         for (int i = 1; i <= 6; i++) {
-            probe.set(pos.getX() - Math.round((float)(dir.x * i)), pos.getY() + 1, pos.getZ() - Math.round((float)(dir.z * i)));
-            if (world.getBlockState(probe).isOpaqueFullCube()) {
+            if (isHeadOpaque(headMask, -Math.round((float)(dir.x * i)), -Math.round((float)(dir.z * i)))) {
                 hits++;
             }
         }
@@ -348,10 +350,8 @@ public class WindSystem {
         Vec3d left = new Vec3d(-dir.z, 0, dir.x);
         int wallPairs = 0;
         for (int d = 1; d <= 3; d++) {
-            probe.set(pos.getX() + Math.round((float)(left.x * d)), pos.getY() + 1, pos.getZ() + Math.round((float)(left.z * d)));
-            boolean leftWall = world.getBlockState(probe).isOpaqueFullCube();
-            probe.set(pos.getX() - Math.round((float)(left.x * d)), pos.getY() + 1, pos.getZ() - Math.round((float)(left.z * d)));
-            boolean rightWall = world.getBlockState(probe).isOpaqueFullCube();
+            boolean leftWall = isHeadOpaque(headMask, Math.round((float)(left.x * d)), Math.round((float)(left.z * d)));
+            boolean rightWall = isHeadOpaque(headMask, -Math.round((float)(left.x * d)), -Math.round((float)(left.z * d)));
             if (leftWall && rightWall) {
                 wallPairs++;
             }
@@ -363,6 +363,9 @@ public class WindSystem {
 
     // Thermal/lift from nearby heat or cold sources
     private static double computeThermalDraft(World world, BlockPos pos) {
+        if (world instanceof ServerWorld serverWorld) {
+            return computeIndexedThermalDraft(serverWorld, pos);
+        }
         double lift = 0.0;
 
         // Hot sources below -> updraft
@@ -386,12 +389,36 @@ public class WindSystem {
         return Math.max(-0.12, Math.min(0.12, lift));
     }
 
+    // Same draft from the thermal block index: class lookups instead of block state reads
+    private static double computeIndexedThermalDraft(ServerWorld world, BlockPos pos) {
+        double lift = 0.0;
+        BlockPos.Mutable probe = new BlockPos.Mutable();
+
+        for (int dy = 1; dy <= 3; dy++) {
+            switch (ThermalBlockIndex.getThermalClass(world, probe.set(pos.getX(), pos.getY() - dy, pos.getZ()))) {
+                case ThermalBlockIndex.LAVA -> lift += 0.08;
+                case ThermalBlockIndex.FIRE, ThermalBlockIndex.CAMPFIRE -> lift += 0.05;
+                case ThermalBlockIndex.MAGMA -> lift += 0.04;
+                default -> { }
+            }
+        }
+
+        for (int dy = 0; dy <= 2; dy++) {
+            switch (ThermalBlockIndex.getThermalClass(world, probe.set(pos.getX(), pos.getY() + dy, pos.getZ()))) {
+                case ThermalBlockIndex.SNOW_BLOCK, ThermalBlockIndex.ICE, ThermalBlockIndex.BLUE_ICE -> lift -= 0.03;
+                default -> { }
+            }
+        }
+
+        return Math.max(-0.12, Math.min(0.12, lift));
+    }
+
     /**
      * Apply wind force to player with enhanced effects
      */
     public static void applyWindToPlayer(ServerPlayerEntity player) {
         BlockPos pos = player.getBlockPos();
-        boolean skyVisible = player.getEntityWorld().isSkyVisible(pos);
+        boolean skyVisible = ExposureCache.isSkyVisible(player.getEntityWorld(), pos);
 
         // Only apply if exposed to sky and not in water/lava
         if (!skyVisible || player.isTouchingWater() || player.isInLava()) {
@@ -399,9 +426,9 @@ public class WindSystem {
         }
 
         WindData wind = getWindData(player.getEntityWorld());
-        double exposureFactor = computeExposureFactor(player.getEntityWorld(), pos);
-        Vec3d windForce = getWindForceAtPosition(player.getEntityWorld(), pos, true);
-        double windStrength = wind.getEffectiveStrength();
+        WindField.Sample local = sampleAt(player.getEntityWorld(), pos);
+        Vec3d windForce = getWindForceAtPosition(player.getEntityWorld(), pos, true, local);
+        double windStrength = local.strength();
 
         // Base wind push strength - scales with wind speed (faster wind = stronger push)
         double baseScale = 0.10;
@@ -2,8 +2,10 @@ package net.kimdog_studios.primal_craft.web.api;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.network.ChatAnimatedPayload;
+import net.kimdog_studios.primal_craft.util.PayloadBroadcast;
+import net.kimdog_studios.primal_craft.web.server.ServerSnapshot;
 import net.kimdog_studios.primal_craft.web.server.WebServer;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.network.ServerPlayerEntity;
@@ -74,17 +76,22 @@ public class ChatEndpoint implements HttpHandler {
                 message = message.substring(0, 256);
             }
 
-            // Broadcast message to all players
-            Text chatMessage = Text.of("[" + sender + "] " + message);
-            server.getPlayerManager().broadcast(chatMessage, false);
+            // Broadcast on the server thread: encoded once, logged to the console like vanilla broadcasts
+            String chatMessage = "[" + sender + "] " + message;
+            server.execute(() -> {
+                server.sendMessage(Text.literal(chatMessage));
+                PayloadBroadcast.send(server.getPlayerManager().getPlayerList(),
+                    ChatAnimatedPayload.preEncoded("SYS", "System", chatMessage));
+            });
 
             JSONObject response = new JSONObject();
             response.put("success", true);
             response.put("message", "Message sent to chat");
-            response.put("playerCount", server.getPlayerManager().getPlayerList().size());
+            ServerSnapshot snapshot = ServerSnapshot.current();
+            response.put("playerCount", snapshot != null ? snapshot.playerCount() : 0);
 
             PrimalCraft.LOGGER.info("💬 [CHAT_API] Message from {}: {}", sender, message);
-            WebServer.sendJSON(exchange, response.toString());
+            WebServer.sendJSON(exchange, response);
         } catch (Exception e) {
             PrimalCraft.LOGGER.error("[CHAT_API] Error sending message: {}", e.getMessage());
             WebServer.sendError(exchange, 400, "Invalid request");
@@ -82,7 +82,7 @@ public class ConfigEndpoint implements HttpHandler {
             config.put("timestamp", System.currentTimeMillis());
 
             PrimalCraft.LOGGER.debug("[CONFIG_API] Sent configuration");
-            WebServer.sendJSON(exchange, config.toString());
+            WebServer.sendJSON(exchange, config);
         } catch (JSONException e) {
             PrimalCraft.LOGGER.error("[CONFIG_API] JSON error: {}", e.getMessage());
             WebServer.sendError(exchange, 500, "JSON error");
@@ -204,7 +204,7 @@ public class ConfigEndpoint implements HttpHandler {
             response.put("message", "Configuration updated successfully");
 
             PrimalCraft.LOGGER.info("⚙️  [CONFIG_API] Updated {} configuration settings", updated);
-            WebServer.sendJSON(exchange, response.toString());
+            WebServer.sendJSON(exchange, response);
         } catch (JSONException e) {
             PrimalCraft.LOGGER.error("[CONFIG_API] Invalid JSON: {}", e.getMessage());
             WebServer.sendError(exchange, 400, "Invalid JSON");
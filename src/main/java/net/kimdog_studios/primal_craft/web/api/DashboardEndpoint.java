@@ -2,24 +2,28 @@ package net.kimdog_studios.primal_craft.web.api;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.web.server.StaticAsset;
 import net.kimdog_studios.primal_craft.web.server.WebServer;
 
 import java.io.IOException;
 
 /**
  * Serves the dashboard HTML/CSS/JS interface
+ * The page is encoded and compressed once; browsers revalidate it by ETag
  */
 public class DashboardEndpoint implements HttpHandler {
+    private static final StaticAsset DASHBOARD = new StaticAsset("text/html; charset=utf-8", getDashboardHTML());
+
     @Override
     public void handle(HttpExchange exchange) throws IOException {
         if ("/".equals(exchange.getRequestURI().getPath()) || "".equals(exchange.getRequestURI().getPath())) {
-            WebServer.sendHTML(exchange, getDashboardHTML());
+            WebServer.sendAsset(exchange, DASHBOARD);
         } else {
             WebServer.sendError(exchange, 404, "Not found");
         }
     }
 
-    private String getDashboardHTML() {
+    private static String getDashboardHTML() {
         return """
 <!DOCTYPE html>
 <html lang="en">
@@ -389,6 +393,10 @@ public class DashboardEndpoint implements HttpHandler {
                 <div class="status-label">Server Ticks</div>
                 <div class="status-value" id="serverTicks">0</div>
             </div>
+            <div class="status-item">
+                <div class="status-label">TPS / MSPT</div>
+                <div class="status-value" id="serverTps">-</div>
+            </div>
         </div>
 
         <div class="grid">
@@ -541,6 +549,30 @@ public class DashboardEndpoint implements HttpHandler {
                     <p style="color: #999;">No players online</p>
                 </div>
             </div>
+
+            <!-- Tick Profile -->
+            <div class="card">
+                <h2>⏱️ Tick Profile</h2>
+                <div class="players-list" id="profileList">
+                    <p style="color: #999;">No timings recorded yet</p>
+                </div>
+            </div>
+
+            <!-- Network Traffic -->
+            <div class="card">
+                <h2>📡 Network Traffic</h2>
+                <div class="players-list" id="networkList">
+                    <p style="color: #999;">No payloads sent yet</p>
+                </div>
+            </div>
+
+            <!-- Temperature Heatmap -->
+            <div class="card">
+                <h2>🌡️ Temperature Heatmap</h2>
+                <canvas id="heatmapCanvas" width="256" height="256" style="width: 100%; image-rendering: pixelated; background: #222;"></canvas>
+                <div class="player-stats" id="heatmapInfo">Centred on the first online player</div>
+                <button onclick="loadHeatmap()">Refresh</button>
+            </div>
         </div>
 
         <div class="footer">
@@ -553,10 +585,26 @@ public class DashboardEndpoint implements HttpHandler {
 
         // Load initial config
         loadConfig();
-        loadStatus();
+        loadProfile();
+        loadNetwork();
+
+        // Live status: full object on connect, then only changed fields
+        let status = {};
+        const statusStream = new EventSource(`${API_BASE}/stream`);
+        statusStream.addEventListener('status', e => {
+            status = JSON.parse(e.data);
+            renderStatus(status);
+        });
+        statusStream.addEventListener('delta', e => {
+            Object.assign(status, JSON.parse(e.data));
+            renderStatus(status);
+        });
+        statusStream.onerror = () => {
+            document.getElementById('serverStatus').textContent = '🔴 Offline';
+        };
 
-        // Refresh status every 2 seconds
-        setInterval(loadStatus, 2000);
+        setInterval(loadProfile, 5000);
+        setInterval(loadNetwork, 5000);
 
         // Chat input enter key
         document.getElementById('chatInput').addEventListener('keypress', (e) => {
@@ -603,40 +651,120 @@ public class DashboardEndpoint implements HttpHandler {
                 .catch(e => console.error('Failed to load config:', e));
         }
 
-        function loadStatus() {
-            fetch(`${API_BASE}/status`)
+        function renderStatus(data) {
+            if (data.serverRunning) {
+                document.getElementById('serverStatus').textContent = '🟢 Online';
+                document.getElementById('playerCount').textContent = `${data.playerCount}/${data.maxPlayers}`;
+                document.getElementById('serverTicks').textContent = data.ticks;
+                document.getElementById('serverTps').textContent = `${data.tps.toFixed(1)} / ${data.mspt.toFixed(1)}ms`;
+
+                // Update players list
+                const playersList = document.getElementById('playersList');
+                if (data.players.length > 0) {
+                    playersList.innerHTML = data.players.map(p => `
+                        <div class="player-item">
+                            <div class="player-name">${p.name}</div>
+                            <div class="player-stats">
+                                Level ${p.level} • Food ${p.food} • ${p.difficulty}<br>
+                                Stamina ${p.stamina.toFixed(0)}/${p.maxStamina} • Thirst ${p.thirst.toFixed(1)}/${p.maxThirst} • ${p.temperature.toFixed(1)}°C
+                            </div>
+                            <div class="stat-bar">
+                                <div style="flex: 1; color: #999; font-size: 0.8em;">Health</div>
+                                <div class="stat-bar-item" style="flex: 2;">
+                                    <div class="stat-bar-fill" style="width: ${(p.health / p.maxHealth) * 100}%"></div>
+                                </div>
+                            </div>
+                        </div>
+                    `).join('');
+                } else {
+                    playersList.innerHTML = '<p style="color: #999;">No players online</p>';
+                }
+            } else {
+                document.getElementById('serverStatus').textContent = '🔴 Offline';
+            }
+        }
+
+        function loadProfile() {
+            fetch(`${API_BASE}/profile`)
                 .then(r => r.json())
                 .then(data => {
-                    if (data.serverRunning) {
-                        document.getElementById('serverStatus').textContent = '🟢 Online';
-                        document.getElementById('playerCount').textContent = `${data.playerCount}/${data.maxPlayers}`;
-                        document.getElementById('serverTicks').textContent = data.ticks;
-
-                        // Update players list
-                        const playersList = document.getElementById('playersList');
-                        if (data.players.length > 0) {
-                            playersList.innerHTML = data.players.map(p => `
-                                <div class="player-item">
-                                    <div class="player-name">${p.name}</div>
-                                    <div class="player-stats">
-                                        Level ${p.level} • Food ${p.food}
-                                    </div>
-                                    <div class="stat-bar">
-                                        <div style="flex: 1; color: #999; font-size: 0.8em;">Health</div>
-                                        <div class="stat-bar-item" style="flex: 2;">
-                                            <div class="stat-bar-fill" style="width: ${(p.health / p.maxHealth) * 100}%"></div>
-                                        </div>
-                                    </div>
+                    const profileList = document.getElementById('profileList');
+                    if (data.handlers.length > 0) {
+                        profileList.innerHTML = data.handlers.slice(0, 10).map(h => `
+                            <div class="player-item">
+                                <div class="player-name">${h.name}</div>
+                                <div class="player-stats">
+                                    p50 ${(h.p50Nanos / 1000).toFixed(1)}µs • p99 ${(h.p99Nanos / 1000).toFixed(1)}µs • max ${(h.maxNanos / 1000).toFixed(1)}µs • ${h.count} calls
                                 </div>
-                            `).join('');
-                        } else {
-                            playersList.innerHTML = '<p style="color: #999;">No players online</p>';
-                        }
+                            </div>
+                        `).join('');
                     } else {
-                        document.getElementById('serverStatus').textContent = '🔴 Offline';
+                        profileList.innerHTML = '<p style="color: #999;">No timings recorded yet</p>';
+                    }
+                })
+                .catch(e => console.error('Failed to load profile:', e));
+        }
+
+        function formatRate(rate) {
+            const kb = rate.bytesPerSecond / 1024;
+            return `${rate.packetsPerSecond.toFixed(1)} pkt/s • ${kb < 10 ? kb.toFixed(2) : kb.toFixed(0)} KB/s`;
+        }
+
+        function loadNetwork() {
+            fetch(`${API_BASE}/network`)
+                .then(r => r.json())
+                .then(data => {
+                    const networkList = document.getElementById('networkList');
+                    const rows = [
+                        ...data.s2c.map(t => ({ label: `⬇️ ${t.name}`, t })),
+                        ...data.c2s.map(t => ({ label: `⬆️ ${t.name}`, t })),
+                        ...data.players.map(t => ({ label: `👤 ${t.name}`, t }))
+                    ].filter(row => row.t.packets > 0);
+                    if (rows.length > 0) {
+                        networkList.innerHTML = rows.map(row => `
+                            <div class="player-item">
+                                <div class="player-name">${row.label}</div>
+                                <div class="player-stats">
+                                    1s ${formatRate(row.t.rate1s)}<br>
+                                    10s ${formatRate(row.t.rate10s)}<br>
+                                    60s ${formatRate(row.t.rate60s)}
+                                </div>
+                            </div>
+                        `).join('');
+                    } else {
+                        networkList.innerHTML = '<p style="color: #999;">No payloads sent yet</p>';
+                    }
+                })
+                .catch(e => console.error('Failed to load network stats:', e));
+        }
+
+        function loadHeatmap() {
+            fetch(`${API_BASE}/heatmap?size=128`)
+                .then(r => r.json())
+                .then(data => {
+                    const info = document.getElementById('heatmapInfo');
+                    if (data.error) {
+                        info.textContent = data.error;
+                        return;
                     }
+                    const canvas = document.getElementById('heatmapCanvas');
+                    canvas.width = data.size;
+                    canvas.height = data.size;
+                    const ctx = canvas.getContext('2d');
+                    const image = ctx.createImageData(data.size, data.size);
+                    data.temperatures.forEach((t, i) => {
+                        if (t === null) return; // Unloaded chunk stays transparent
+                        // -20°C (blue) .. 50°C (red)
+                        const f = Math.max(0, Math.min(1, (t + 20) / 70));
+                        image.data[i * 4] = Math.round(255 * f);
+                        image.data[i * 4 + 1] = Math.round(255 * (1 - Math.abs(f - 0.5) * 2));
+                        image.data[i * 4 + 2] = Math.round(255 * (1 - f));
+                        image.data[i * 4 + 3] = 255;
+                    });
+                    ctx.putImageData(image, 0, 0);
+                    info.textContent = `${data.world} @ ${data.originX}, ${data.originZ} • ${data.min ?? '-'}°C .. ${data.max ?? '-'}°C • ${data.kernel} ${(data.kernelNanos / 1e6).toFixed(2)}ms`;
                 })
-                .catch(e => console.error('Failed to load status:', e));
+                .catch(e => console.error('Failed to load heatmap:', e));
         }
 
         function setToggle(setting, value) {
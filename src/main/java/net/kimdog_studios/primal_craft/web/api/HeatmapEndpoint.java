@@ -0,0 +1,183 @@
+package net.kimdog_studios.primal_craft.web.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.util.HeatmapEvaluator;
+import net.kimdog_studios.primal_craft.web.server.WebServer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import net.minecraft.server.world.ServerWorld;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * API endpoint for region temperature heatmaps
+ * GET /api/heatmap - Ambient + heat source temperature over a grid of surface columns
+ *
+ * Query parameters (all optional):
+ * - world: world id, e.g. minecraft:overworld (default: first online player's world, else overworld)
+ * - x, z: grid centre (default: first online player in that world, else 0, 0)
+ * - size: columns per side, 1-128 (default 128; larger values are clamped)
+ * - step: blocks between columns, 1-16 (default 1)
+ *
+ * Temperatures are row-major (z rows, x columns), rounded to 0.1°C; null where the chunk
+ * is not loaded.
+ *
+ * All HTTP callers share one {@link HeatmapEvaluator#COOLDOWN_MS} cooldown; a request within
+ * it gets 429 with Retry-After.
+ */
+public class HeatmapEndpoint implements HttpHandler {
+    private static final int DEFAULT_SIZE = 128;
+    private static final int MAX_SIZE = 128;
+    private static final String REQUESTER = "web";
+    private static final long TIMEOUT_SECONDS = 10;
+    private static MinecraftServer server;
+
+    public static void setServer(MinecraftServer minecraftServer) {
+        server = minecraftServer;
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+
+        if ("GET".equals(method)) {
+            handleGetHeatmap(exchange);
+        } else if ("OPTIONS".equals(method)) {
+            WebServer.setCORSHeaders(exchange);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else {
+            WebServer.sendError(exchange, 405, "Method not allowed");
+        }
+    }
+
+    private void handleGetHeatmap(HttpExchange exchange) throws IOException {
+        if (server == null || server.isStopped()) {
+            WebServer.sendError(exchange, 503, "Server is not running");
+            return;
+        }
+
+        HeatmapEvaluator.Heatmap heatmap;
+        try {
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            // Resolve world and default centre on the server thread
+            Target target = server.submit(() -> resolveTarget(query)).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (target == null) {
+                WebServer.sendError(exchange, 404, "Unknown world");
+                return;
+            }
+            int size = Math.min(MAX_SIZE, parseInt(query.get("size"), DEFAULT_SIZE));
+            int step = parseInt(query.get("step"), 1);
+            heatmap = HeatmapEvaluator.evaluateAsync(target.world(), target.x(), target.z(), size, step, REQUESTER)
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof HeatmapEvaluator.CooldownException cooldown) {
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf((cooldown.getRemainingMs() + 999) / 1000));
+                WebServer.sendError(exchange, 429, cooldown.getMessage());
+            } else {
+                WebServer.sendError(exchange, 500, "Error computing heatmap");
+            }
+            return;
+        } catch (TimeoutException e) {
+            WebServer.sendError(exchange, 504, "Heatmap timed out");
+            return;
+        } catch (Exception e) {
+            WebServer.sendError(exchange, 500, "Error computing heatmap");
+            return;
+        }
+
+        JSONObject result = new JSONObject();
+        result.put("world", heatmap.world());
+        result.put("originX", heatmap.originX());
+        result.put("originZ", heatmap.originZ());
+        result.put("size", heatmap.size());
+        result.put("step", heatmap.step());
+        result.put("kernel", heatmap.kernel());
+        result.put("captureNanos", heatmap.captureNanos());
+        result.put("kernelNanos", heatmap.kernelNanos());
+
+        int coldest = heatmap.coldest();
+        int hottest = heatmap.hottest();
+        if (coldest >= 0) {
+            result.put("min", round(heatmap.temperatures()[coldest]));
+            result.put("max", round(heatmap.temperatures()[hottest]));
+        }
+
+        JSONArray temperatures = new JSONArray();
+        for (float t : heatmap.temperatures()) {
+            temperatures.put(Float.isNaN(t) ? JSONObject.NULL : round(t));
+        }
+        result.put("temperatures", temperatures);
+        result.put("timestamp", System.currentTimeMillis());
+
+        WebServer.sendJSON(exchange, result);
+    }
+
+    private record Target(ServerWorld world, int x, int z) {}
+
+    private static Target resolveTarget(Map<String, String> query) {
+        String worldId = query.get("world");
+        ServerPlayerEntity anchor = server.getPlayerManager().getPlayerList().isEmpty()
+            ? null : server.getPlayerManager().getPlayerList().get(0);
+
+        ServerWorld world = null;
+        if (worldId != null) {
+            for (ServerWorld candidate : server.getWorlds()) {
+                if (candidate.getRegistryKey().getValue().toString().equals(worldId)) {
+                    world = candidate;
+                    break;
+                }
+            }
+            if (world == null) {
+                return null;
+            }
+        } else {
+            world = anchor != null ? anchor.getEntityWorld() : server.getOverworld();
+        }
+
+        boolean anchored = anchor != null && anchor.getEntityWorld() == world;
+        int x = parseInt(query.get("x"), anchored ? anchor.getBlockX() : 0);
+        int z = parseInt(query.get("z"), anchored ? anchor.getBlockZ() : 0);
+        return new Target(world, x, z);
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq > 0) {
+                query.put(pair.substring(0, eq),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+
+    private static int parseInt(String value, int fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+
+    private static double round(float t) {
+        return Math.round(t * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,72 @@
+package net.kimdog_studios.primal_craft.web.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.util.PayloadTraffic;
+import net.kimdog_studios.primal_craft.web.server.WebServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * API endpoint for mod payload bandwidth
+ * GET /api/network - Packets and bytes per payload type (S2C and C2S) and per player (S2C),
+ * as running totals plus per-second rates over the last 1, 10 and 60 seconds
+ *
+ * Per-player bytes are estimated from each payload type's mean encoded size.
+ */
+public class NetworkEndpoint implements HttpHandler {
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+
+        if ("GET".equals(method)) {
+            handleGetNetwork(exchange);
+        } else if ("OPTIONS".equals(method)) {
+            WebServer.setCORSHeaders(exchange);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else {
+            WebServer.sendError(exchange, 405, "Method not allowed");
+        }
+    }
+
+    private void handleGetNetwork(HttpExchange exchange) throws IOException {
+        try {
+            JSONObject network = new JSONObject();
+            network.put("s2c", toJSON(PayloadTraffic.getS2CStats()));
+            network.put("c2s", toJSON(PayloadTraffic.getC2SStats()));
+            network.put("players", toJSON(PayloadTraffic.getPlayerStats()));
+            network.put("timestamp", System.currentTimeMillis());
+
+            WebServer.sendJSON(exchange, network);
+        } catch (Exception e) {
+            WebServer.sendError(exchange, 500, "Error retrieving network stats");
+        }
+    }
+
+    private static JSONArray toJSON(List<PayloadTraffic.TrafficStats> stats) {
+        JSONArray array = new JSONArray();
+        for (PayloadTraffic.TrafficStats s : stats) {
+            JSONObject entry = new JSONObject();
+            entry.put("name", s.name());
+            entry.put("packets", s.packets());
+            entry.put("bytes", s.bytes());
+            entry.put("rate1s", toJSON(s.last1s()));
+            entry.put("rate10s", toJSON(s.last10s()));
+            entry.put("rate60s", toJSON(s.last60s()));
+            array.put(entry);
+        }
+        return array;
+    }
+
+    private static JSONObject toJSON(PayloadTraffic.Rates rates) {
+        JSONObject entry = new JSONObject();
+        entry.put("packetsPerSecond", Math.round(rates.packetsPerSecond() * 10.0) / 10.0);
+        entry.put("bytesPerSecond", Math.round(rates.bytesPerSecond()));
+        return entry;
+    }
+}
@@ -0,0 +1,62 @@
+package net.kimdog_studios.primal_craft.web.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.kimdog_studios.primal_craft.web.server.WebServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+
+/**
+ * API endpoint for per-handler tick timings
+ * GET /api/profile - Get p50/p99/max timings per handler (nanoseconds)
+ * DELETE /api/profile - Reset collected timings
+ */
+public class ProfileEndpoint implements HttpHandler {
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+
+        if ("GET".equals(method)) {
+            handleGetProfile(exchange);
+        } else if ("DELETE".equals(method)) {
+            TickProfiler.reset();
+            WebServer.sendJSON(exchange, new JSONObject().put("success", true));
+        } else if ("OPTIONS".equals(method)) {
+            WebServer.setCORSHeaders(exchange);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else {
+            WebServer.sendError(exchange, 405, "Method not allowed");
+        }
+    }
+
+    private void handleGetProfile(HttpExchange exchange) throws IOException {
+        try {
+            JSONObject profile = new JSONObject();
+            profile.put("enabled", TickProfiler.isEnabled());
+
+            JSONArray handlers = new JSONArray();
+            for (TickProfiler.HandlerStats stats : TickProfiler.getStats()) {
+                JSONObject handler = new JSONObject();
+                handler.put("name", stats.name());
+                handler.put("count", stats.count());
+                handler.put("totalNanos", stats.totalNanos());
+                handler.put("meanNanos", (long) stats.meanNanos());
+                handler.put("p50Nanos", stats.p50());
+                handler.put("p99Nanos", stats.p99());
+                handler.put("maxNanos", stats.max());
+                handlers.put(handler);
+            }
+            profile.put("handlers", handlers);
+            profile.put("timestamp", System.currentTimeMillis());
+
+            WebServer.sendJSON(exchange, profile);
+        } catch (Exception e) {
+            WebServer.sendError(exchange, 500, "Error retrieving profile");
+        }
+    }
+}
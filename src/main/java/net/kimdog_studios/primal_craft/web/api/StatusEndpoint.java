@@ -2,8 +2,9 @@ package net.kimdog_studios.primal_craft.web.api;
 
 import com.sun.net.httpserver.HttpExchange;
 import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.web.server.ServerSnapshot;
 import net.kimdog_studios.primal_craft.web.server.WebServer;
-import net.minecraft.server.MinecraftServer;
+import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -11,13 +12,11 @@ import java.io.IOException;
 /**
  * API endpoint for server status information
  * GET /api/status - Get current server status
+ *
+ * Served from the latest {@link ServerSnapshot}; at most
+ * {@link ServerSnapshot#PUBLISH_INTERVAL_TICKS} ticks old.
  */
 public class StatusEndpoint implements HttpHandler {
-    private static MinecraftServer server;
-
-    public static void setServer(MinecraftServer minecraftServer) {
-        server = minecraftServer;
-    }
 
     @Override
     public void handle(HttpExchange exchange) throws IOException {
@@ -35,39 +34,54 @@ public class StatusEndpoint implements HttpHandler {
     }
 
     private void handleGetStatus(HttpExchange exchange) throws IOException {
-        JSONObject status = new JSONObject();
-
         try {
-            if (server != null && !server.isStopped()) {
-                int playerCount = server.getPlayerManager().getPlayerList().size();
-                int maxPlayers = 20; // Default
+            WebServer.sendJSON(exchange, toJSON(ServerSnapshot.current()));
+        } catch (Exception e) {
+            WebServer.sendError(exchange, 500, "Error retrieving status");
+        }
+    }
 
-                status.put("serverRunning", true);
-                status.put("playerCount", playerCount);
-                status.put("maxPlayers", maxPlayers);
-                status.put("ticks", server.getTicks());
+    /**
+     * Builds the status JSON for a snapshot; a null snapshot means the server is not running.
+     */
+    public static JSONObject toJSON(ServerSnapshot snapshot) {
+        JSONObject status = new JSONObject();
 
-                // Add player list
-                org.json.JSONArray players = new org.json.JSONArray();
-                for (var player : server.getPlayerManager().getPlayerList()) {
-                    org.json.JSONObject playerObj = new org.json.JSONObject();
-                    playerObj.put("name", player.getName().getString());
-                    playerObj.put("health", (int) player.getHealth());
-                    playerObj.put("maxHealth", (int) player.getMaxHealth());
-                    playerObj.put("food", player.getHungerManager().getFoodLevel());
-                    playerObj.put("level", player.experienceLevel);
-                    players.put(playerObj);
-                }
-                status.put("players", players);
-            } else {
-                status.put("serverRunning", false);
-                status.put("message", "Server is not running");
-            }
+        if (snapshot != null) {
+            status.put("serverRunning", true);
+            status.put("sequence", snapshot.sequence());
+            status.put("playerCount", snapshot.playerCount());
+            status.put("maxPlayers", snapshot.maxPlayers());
+            status.put("ticks", snapshot.ticks());
+            status.put("tps", Math.round(snapshot.tps() * 10.0) / 10.0);
+            status.put("mspt", Math.round(snapshot.mspt() * 100.0) / 100.0);
 
-            status.put("timestamp", System.currentTimeMillis());
-            WebServer.sendJSON(exchange, status.toString());
-        } catch (Exception e) {
-            WebServer.sendError(exchange, 500, "Error retrieving status");
+            // Add player list
+            JSONArray players = new JSONArray();
+            for (ServerSnapshot.PlayerSnapshot player : snapshot.players()) {
+                JSONObject playerObj = new JSONObject();
+                playerObj.put("name", player.name());
+                playerObj.put("world", player.world());
+                playerObj.put("health", player.health());
+                playerObj.put("maxHealth", player.maxHealth());
+                playerObj.put("food", player.food());
+                playerObj.put("level", player.level());
+                playerObj.put("stamina", Math.round(player.stamina() * 10.0) / 10.0);
+                playerObj.put("maxStamina", player.maxStamina());
+                playerObj.put("thirst", Math.round(player.thirst() * 10.0) / 10.0);
+                playerObj.put("maxThirst", player.maxThirst());
+                playerObj.put("temperature", Math.round(player.temperature() * 10.0) / 10.0);
+                playerObj.put("difficulty", player.difficulty());
+                players.put(playerObj);
+            }
+            status.put("players", players);
+            status.put("capturedAt", snapshot.capturedAtMillis());
+        } else {
+            status.put("serverRunning", false);
+            status.put("message", "Server is not running");
         }
+
+        status.put("timestamp", System.currentTimeMillis());
+        return status;
     }
 }
@@ -0,0 +1,240 @@
+package net.kimdog_studios.primal_craft.web.api;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.web.server.ServerSnapshot;
+import net.kimdog_studios.primal_craft.web.server.WebServer;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API endpoint streaming server status as Server-Sent Events
+ * GET /api/stream - text/event-stream of status updates
+ *
+ * Events:
+ * - status: the full /api/status object, sent on connect and when the server starts or stops
+ * - delta: only the top-level status fields that changed since the previous update
+ *
+ * One broadcaster thread checks for a newly published {@link ServerSnapshot} every
+ * {@link #CHECK_INTERVAL_MS} ms and serializes each event once for all subscribers. Every
+ * subscriber has a small queue drained by its own virtual writer thread; a client that lets
+ * its queue fill up is too slow and is disconnected (the browser reconnects on its own).
+ */
+public class StreamEndpoint implements HttpHandler {
+    private static final long CHECK_INTERVAL_MS = 250;
+    private static final long HEARTBEAT_SECONDS = 15;
+    private static final int QUEUE_CAPACITY = 16;
+    private static final byte[] HEARTBEAT = ": keep-alive\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private static final Set<Subscriber> SUBSCRIBERS = ConcurrentHashMap.newKeySet();
+    // Held while swapping lastStatusEvent and queueing an event, and while a subscriber joins
+    private static final Object BROADCAST_LOCK = new Object();
+    private static ScheduledExecutorService broadcaster;
+
+    // Broadcaster thread state
+    private static long lastSequence = -1; // -1 = no snapshot (server not running)
+    private static JSONObject lastStatus;
+    private static volatile byte[] lastStatusEvent = event("status", StatusEndpoint.toJSON(null));
+
+    // Statistics
+    private static final AtomicLong eventsPublished = new AtomicLong();
+    private static final AtomicLong subscribersDropped = new AtomicLong();
+
+    /**
+     * Starts the broadcaster thread. Called by {@link WebServer#start()}.
+     */
+    public static synchronized void start() {
+        if (broadcaster != null) {
+            return;
+        }
+        broadcaster = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "PrimalCraft-SSE");
+            thread.setDaemon(true);
+            return thread;
+        });
+        broadcaster.scheduleWithFixedDelay(StreamEndpoint::publish, CHECK_INTERVAL_MS, CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the broadcaster and disconnects all subscribers. Called by {@link WebServer#stop()}.
+     */
+    public static synchronized void stop() {
+        if (broadcaster != null) {
+            broadcaster.shutdownNow();
+            broadcaster = null;
+        }
+        SUBSCRIBERS.forEach(Subscriber::drop);
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+
+        if ("GET".equals(method)) {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream; charset=utf-8");
+            exchange.getResponseHeaders().add("Cache-Control", "no-cache");
+            WebServer.setCORSHeaders(exchange);
+            exchange.sendResponseHeaders(200, 0);
+
+            // Writes happen on the subscriber's own thread; this handler thread is released.
+            // Joining under the broadcast lock: the queued full status is exactly the state the
+            // next published delta applies to, and no update can slip in between.
+            Subscriber subscriber = new Subscriber(exchange);
+            synchronized (BROADCAST_LOCK) {
+                subscriber.offer(lastStatusEvent);
+                SUBSCRIBERS.add(subscriber);
+            }
+            subscriber.start();
+        } else if ("OPTIONS".equals(method)) {
+            WebServer.setCORSHeaders(exchange);
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        } else {
+            WebServer.sendError(exchange, 405, "Method not allowed");
+        }
+    }
+
+    // Broadcaster thread: turn a newly published snapshot into one shared event
+    private static void publish() {
+        try {
+            ServerSnapshot snapshot = ServerSnapshot.current();
+            long sequence = snapshot != null ? snapshot.sequence() : -1;
+            if (sequence == lastSequence) {
+                return;
+            }
+            boolean runningChanged = (sequence == -1) != (lastSequence == -1);
+            lastSequence = sequence;
+
+            JSONObject status = StatusEndpoint.toJSON(snapshot);
+            status.remove("timestamp");
+            JSONObject previous = lastStatus;
+            lastStatus = status;
+            byte[] statusEvent = event("status", status);
+
+            byte[] event = null;
+            if (previous == null || runningChanged) {
+                event = statusEvent;
+            } else {
+                JSONObject delta = delta(previous, status);
+                if (!delta.isEmpty()) {
+                    event = event("delta", delta);
+                }
+            }
+
+            synchronized (BROADCAST_LOCK) {
+                lastStatusEvent = statusEvent;
+                if (event == null) {
+                    return;
+                }
+                eventsPublished.incrementAndGet();
+                for (Subscriber subscriber : SUBSCRIBERS) {
+                    subscriber.offer(event);
+                }
+            }
+        } catch (Exception e) {
+            PrimalCraft.LOGGER.warn("⚠️  [WEB_SERVER] Failed to publish status stream update: {}", e.getMessage());
+        }
+    }
+
+    // Top-level fields of current that differ from previous
+    private static JSONObject delta(JSONObject previous, JSONObject current) {
+        JSONObject delta = new JSONObject();
+        for (String key : current.keySet()) {
+            Object value = current.get(key);
+            Object old = previous.opt(key);
+            boolean same;
+            if (value instanceof JSONObject object) {
+                same = object.similar(old);
+            } else if (value instanceof JSONArray array) {
+                same = array.similar(old);
+            } else {
+                same = value.equals(old);
+            }
+            if (!same) {
+                delta.put(key, value);
+            }
+        }
+        return delta;
+    }
+
+    private static byte[] event(String name, JSONObject data) {
+        return ("event: " + name + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets stream statistics for debugging.
+     *
+     * @return A formatted string with stream statistics
+     */
+    public static String getStatistics() {
+        return String.format("Subscribers: %d | Events: %d | Dropped (slow): %d",
+            SUBSCRIBERS.size(), eventsPublished.get(), subscribersDropped.get());
+    }
+
+    /**
+     * One connected client: a bounded event queue and the thread that writes it out.
+     * Only the writer thread closes the exchange; other threads just {@link #drop()} it.
+     */
+    private static final class Subscriber {
+        private final HttpExchange exchange;
+        private final BlockingQueue<byte[]> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private volatile boolean open = true;
+        private volatile Thread writer;
+
+        Subscriber(HttpExchange exchange) {
+            this.exchange = exchange;
+        }
+
+        void start() {
+            writer = Thread.ofVirtual().name("PrimalCraft-SSE-client").start(this::run);
+        }
+
+        // Backpressure: a full queue means the client is not keeping up
+        void offer(byte[] event) {
+            if (open && !queue.offer(event)) {
+                subscribersDropped.incrementAndGet();
+                drop();
+            }
+        }
+
+        private void run() {
+            try {
+                OutputStream out = exchange.getResponseBody();
+                while (open) {
+                    byte[] event = queue.poll(HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+                    out.write(event != null ? event : HEARTBEAT);
+                    out.flush();
+                }
+            } catch (IOException | InterruptedException e) {
+                // Client went away or the stream is shutting down
+            } finally {
+                open = false;
+                SUBSCRIBERS.remove(this);
+                exchange.close();
+            }
+        }
+
+        // Stops the subscriber from any thread; the writer notices and closes the exchange
+        void drop() {
+            open = false;
+            SUBSCRIBERS.remove(this);
+            Thread thread = writer;
+            if (thread != null && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+        }
+    }
+}
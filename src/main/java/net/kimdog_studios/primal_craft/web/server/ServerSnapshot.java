@@ -0,0 +1,102 @@
+package net.kimdog_studios.primal_craft.web.server;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.kimdog_studios.primal_craft.PrimalCraft;
+import net.kimdog_studios.primal_craft.util.DifficultyProfile;
+import net.kimdog_studios.primal_craft.util.DifficultySystem;
+import net.kimdog_studios.primal_craft.util.StaminaSystem;
+import net.kimdog_studios.primal_craft.util.TemperatureSystem;
+import net.kimdog_studios.primal_craft.util.ThirstSystem;
+import net.kimdog_studios.primal_craft.util.TickProfiler;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable view of server state for the web dashboard.
+ *
+ * The server thread captures a snapshot every {@link #PUBLISH_INTERVAL_TICKS} ticks and
+ * publishes it through a volatile reference. HTTP handlers read {@link #current()} only,
+ * never live entities, so they are safe on the web server's threads and cost the game
+ * loop nothing per request.
+ *
+ * @param sequence Increases by one per published snapshot
+ */
+public record ServerSnapshot(long sequence, long capturedAtMillis, int ticks, int playerCount, int maxPlayers,
+                             double tps, double mspt, List<PlayerSnapshot> players) {
+    public static final int PUBLISH_INTERVAL_TICKS = 10;
+
+    private static volatile ServerSnapshot current;
+    private static long nextSequence = 0;
+    private static boolean registered = false;
+
+    /**
+     * One player's state at capture time.
+     */
+    public record PlayerSnapshot(UUID uuid, String name, String world, int health, int maxHealth, int food, int level,
+                                 double stamina, double maxStamina, double thirst, double maxThirst,
+                                 double temperature, String difficulty) {}
+
+    /**
+     * Registers the publisher. Must be called during mod initialization.
+     */
+    public static void register() {
+        if (registered) {
+            return;
+        }
+        registered = true;
+
+        ServerTickEvents.END_SERVER_TICK.register(TickProfiler.endTick("ServerSnapshot", server -> {
+            if (server.getTicks() % PUBLISH_INTERVAL_TICKS == 0) {
+                current = capture(server);
+            }
+        }));
+        ServerLifecycleEvents.SERVER_STARTED.register(server -> current = capture(server));
+        ServerLifecycleEvents.SERVER_STOPPING.register(server -> current = null);
+
+        PrimalCraft.LOGGER.info("✅ [SERVER_SNAPSHOT] Dashboard snapshot publisher registered");
+    }
+
+    /**
+     * @return The latest published snapshot, or null while no server is running
+     */
+    @Nullable
+    public static ServerSnapshot current() {
+        return current;
+    }
+
+    // Server thread only
+    private static ServerSnapshot capture(MinecraftServer server) {
+        List<ServerPlayerEntity> online = server.getPlayerManager().getPlayerList();
+        List<PlayerSnapshot> players = new ArrayList<>(online.size());
+        for (ServerPlayerEntity player : online) {
+            DifficultyProfile profile = DifficultySystem.getProfile(player);
+            players.add(new PlayerSnapshot(
+                player.getUuid(),
+                player.getName().getString(),
+                player.getEntityWorld().getRegistryKey().getValue().toString(),
+                (int) player.getHealth(),
+                (int) player.getMaxHealth(),
+                player.getHungerManager().getFoodLevel(),
+                player.experienceLevel,
+                StaminaSystem.get(player),
+                StaminaSystem.getMax(),
+                ThirstSystem.getThirstLevel(player),
+                ThirstSystem.getMaxThirst(),
+                TemperatureSystem.getPlayerTemperature(player),
+                profile != null ? profile.getPreset().getDisplayName() : "Normal"));
+        }
+
+        double mspt = server.getAverageNanosPerTick() / 1_000_000.0;
+        double tickRate = server.getTickManager().getTickRate();
+        double tps = mspt > 0 ? Math.min(tickRate, 1000.0 / mspt) : tickRate;
+
+        return new ServerSnapshot(nextSequence++, System.currentTimeMillis(), server.getTicks(),
+            online.size(), server.getMaxPlayerCount(), tps, mspt, List.copyOf(players));
+    }
+}
@@ -0,0 +1,75 @@
+package net.kimdog_studios.primal_craft.web.server;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A static response body encoded once at startup: raw and gzip bytes plus a strong ETag
+ * derived from the content. The gzip encoding is a different representation, so it gets
+ * its own ETag (RFC 9110 8.8.3). Served by {@link WebServer#sendAsset}.
+ */
+public final class StaticAsset {
+    private final String contentType;
+    private final byte[] identity;
+    private final byte[] gzip;
+    private final String etag;
+    private final String gzipEtag;
+
+    public StaticAsset(String contentType, String content) {
+        this.contentType = contentType;
+        this.identity = content.getBytes(StandardCharsets.UTF_8);
+        this.gzip = gzip(identity);
+        String hash = HexFormat.of().formatHex(sha256(identity), 0, 8);
+        this.etag = "\"" + hash + "\"";
+        this.gzipEtag = "\"" + hash + "-gzip\"";
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public byte[] identity() {
+        return identity;
+    }
+
+    public byte[] gzip() {
+        return gzip;
+    }
+
+    public String etag() {
+        return etag;
+    }
+
+    public String gzipEtag() {
+        return gzipEtag;
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION); // Paid once, at startup
+            }
+        }) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -7,43 +7,79 @@ import net.kimdog_studios.primal_craft.PrimalCraft;
 import net.kimdog_studios.primal_craft.web.api.ChatEndpoint;
 import net.kimdog_studios.primal_craft.web.api.ConfigEndpoint;
 import net.kimdog_studios.primal_craft.web.api.DashboardEndpoint;
+import net.kimdog_studios.primal_craft.web.api.HeatmapEndpoint;
+import net.kimdog_studios.primal_craft.web.api.NetworkEndpoint;
+import net.kimdog_studios.primal_craft.web.api.ProfileEndpoint;
 import net.kimdog_studios.primal_craft.web.api.StatusEndpoint;
+import net.kimdog_studios.primal_craft.web.api.StreamEndpoint;
 
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Lightweight HTTP server for Primal Craft web dashboard
  * Runs on port 8888 by default
+ *
+ * Each exchange runs on its own virtual thread, so long-lived streams and slow clients
+ * don't starve other requests. Connections are kept alive between requests: every
+ * response has a length or is chunked. Static assets are pre-compressed with ETags
+ * ({@link StaticAsset}); JSON is written straight to the response stream, gzipped when
+ * the client accepts it.
  */
 public class WebServer {
     private static HttpServer server;
+    private static ExecutorService executor;
     private static final int PORT = 8888;
+    private static final int JSON_BUFFER_SIZE = 8192;
     private static boolean isRunning = false;
 
     public static void start() {
+        start(PORT);
+    }
+
+    /**
+     * Starts the server on a specific port; 0 picks a free one (see {@link #getPort()}).
+     */
+    public static void start(int port) {
         if (isRunning) {
-            PrimalCraft.LOGGER.warn("[WEB_SERVER] Server already running on port {}", PORT);
+            PrimalCraft.LOGGER.warn("[WEB_SERVER] Server already running on port {}", getPort());
             return;
         }
 
         try {
-            server = HttpServer.create(new InetSocketAddress("localhost", PORT), 0);
+            server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
 
             // Register API endpoints
             server.createContext("/api/config", new ConfigEndpoint());
             server.createContext("/api/chat", new ChatEndpoint());
             server.createContext("/api/status", new StatusEndpoint());
+            server.createContext("/api/stream", new StreamEndpoint());
+            server.createContext("/api/profile", new ProfileEndpoint());
+            server.createContext("/api/heatmap", new HeatmapEndpoint());
+            server.createContext("/api/network", new NetworkEndpoint());
             server.createContext("/", new DashboardEndpoint());
 
-            server.setExecutor(java.util.concurrent.Executors.newFixedThreadPool(4));
+            executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
             server.start();
+            StreamEndpoint.start();
             isRunning = true;
 
-            PrimalCraft.LOGGER.info("🌐 [WEB_SERVER] Dashboard started on http://localhost:{}/", PORT);
+            PrimalCraft.LOGGER.info("🌐 [WEB_SERVER] Dashboard started on http://localhost:{}/", getPort());
             PrimalCraft.LOGGER.info("   └─ Open this URL in your browser to access the dashboard");
         } catch (IOException e) {
             PrimalCraft.LOGGER.error("[WEB_SERVER] Failed to start server: {}", e.getMessage(), e);
@@ -52,7 +88,9 @@ public class WebServer {
 
     public static void stop() {
         if (server != null && isRunning) {
+            StreamEndpoint.stop();
             server.stop(0);
+            executor.shutdownNow();
             isRunning = false;
             PrimalCraft.LOGGER.info("✅ [WEB_SERVER] Dashboard stopped");
         }
@@ -62,6 +100,13 @@ public class WebServer {
         return isRunning;
     }
 
+    /**
+     * @return The bound port, or -1 when not running
+     */
+    public static int getPort() {
+        return isRunning ? server.getAddress().getPort() : -1;
+    }
+
     /**
      * Send CORS headers to allow cross-origin requests
      */
@@ -72,31 +117,114 @@ public class WebServer {
     }
 
     /**
-     * Send JSON response
+     * Send JSON response, serialized directly into the (chunked, possibly gzipped) response
+     * body without building an intermediate String
      */
-    public static void sendJSON(HttpExchange exchange, String json) throws IOException {
+    public static void sendJSON(HttpExchange exchange, JSONObject json) throws IOException {
         exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.getResponseHeaders().add("Cache-Control", "no-store");
         setCORSHeaders(exchange);
 
-        byte[] response = json.getBytes(StandardCharsets.UTF_8);
-        exchange.sendResponseHeaders(200, response.length);
-        exchange.getResponseBody().write(response);
-        exchange.close();
+        boolean gzip = acceptsGzip(exchange);
+        if (gzip) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
+        }
+        exchange.sendResponseHeaders(200, 0);
+
+        OutputStream body = gzip ? new GZIPOutputStream(exchange.getResponseBody(), JSON_BUFFER_SIZE) : exchange.getResponseBody();
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8), JSON_BUFFER_SIZE)) {
+            json.write(writer);
+        } finally {
+            exchange.close();
+        }
     }
 
     /**
-     * Send HTML response
+     * Send a pre-encoded static asset: 304 when the client's ETag matches, otherwise the
+     * gzip or raw bytes depending on Accept-Encoding
      */
-    public static void sendHTML(HttpExchange exchange, String html) throws IOException {
-        exchange.getResponseHeaders().add("Content-Type", "text/html; charset=utf-8");
+    public static void sendAsset(HttpExchange exchange, StaticAsset asset) throws IOException {
+        boolean gzip = acceptsGzip(exchange);
+        String etag = gzip ? asset.gzipEtag() : asset.etag();
+        exchange.getResponseHeaders().add("ETag", etag);
+        exchange.getResponseHeaders().add("Cache-Control", "no-cache"); // Cache, but revalidate via ETag
+        exchange.getResponseHeaders().add("Vary", "Accept-Encoding");
         setCORSHeaders(exchange);
 
-        byte[] response = html.getBytes(StandardCharsets.UTF_8);
+        if (matchesETag(exchange.getRequestHeaders().getFirst("If-None-Match"), etag)) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] response = asset.identity();
+        if (gzip) {
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            response = asset.gzip();
+        }
+        exchange.getResponseHeaders().add("Content-Type", asset.contentType());
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+            return;
+        }
         exchange.sendResponseHeaders(200, response.length);
         exchange.getResponseBody().write(response);
         exchange.close();
     }
 
+    // If-None-Match uses weak comparison (RFC 9110 13.1.2): "*", or any listed tag with W/ ignored
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // gzip is acceptable unless its q-value (or that of "*", when gzip isn't listed) is 0
+    private static boolean acceptsGzip(HttpExchange exchange) {
+        double gzipQ = -1;
+        double anyQ = -1;
+        for (String value : exchange.getRequestHeaders().getOrDefault("Accept-Encoding", List.of())) {
+            for (String entry : value.split(",")) {
+                String[] params = entry.split(";");
+                String coding = params[0].trim().toLowerCase(Locale.ROOT);
+                double q = qValue(params);
+                if (coding.equals("gzip") || coding.equals("x-gzip")) {
+                    gzipQ = Math.max(gzipQ, q);
+                } else if (coding.equals("*")) {
+                    anyQ = Math.max(anyQ, q);
+                }
+            }
+        }
+        return (gzipQ >= 0 ? gzipQ : anyQ) > 0;
+    }
+
+    // q parameter of one Accept-Encoding entry; 1 when absent, 0 when malformed
+    private static double qValue(String[] params) {
+        for (int i = 1; i < params.length; i++) {
+            String param = params[i].trim();
+            if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                try {
+                    return Double.parseDouble(param.substring(2).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
     /**
      * Send error response
      */